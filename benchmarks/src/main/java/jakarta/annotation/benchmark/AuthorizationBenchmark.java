@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jakarta.annotation.authorization.AuthorizationMemo;
+import jakarta.annotation.authorization.MethodConstraint;
+import jakarta.annotation.authorization.RoleSet;
+import jakarta.annotation.authorization.RoleTable;
+import jakarta.annotation.authorization.SecurityResolver;
+import jakarta.annotation.security.RolesAllowed;
+
+/**
+ * Measures a request passing {@value #PASSES} times through the
+ * {@code RolesAllowed} boundaries of {@link Service}, checked directly
+ * against the constraints, through the resolver with the authorization
+ * memo disabled, and through the resolver with a memo open for the
+ * request.
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar AuthorizationBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AuthorizationBenchmark {
+
+    static final int PASSES = 3;
+
+    public static class Service {
+
+        @RolesAllowed({"role3", "role150"})
+        public void read() {
+        }
+
+        @RolesAllowed({"role3", "role150"})
+        public void list() {
+        }
+
+        @RolesAllowed("role199")
+        public void write() {
+        }
+
+        @RolesAllowed({"role10", "role20", "role30"})
+        public void audit() {
+        }
+
+        @RolesAllowed("role199")
+        public void update() {
+        }
+
+        @RolesAllowed({"role64", "role128"})
+        public void export() {
+        }
+
+        @RolesAllowed({"role3", "role150"})
+        public void count() {
+        }
+
+        @RolesAllowed("role0")
+        public void purge() {
+        }
+    }
+
+    @Param({"16", "200"})
+    int roles;
+
+    private SecurityResolver resolver;
+    private Method[] methods;
+    private MethodConstraint[] constraints;
+    private RoleSet caller;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        RoleTable table = new RoleTable();
+        for (int i = 0; i < roles; i++) {
+            table.intern("role" + i);
+        }
+        resolver = new SecurityResolver(table.register(Service.class));
+        String[] names = {"read", "list", "write", "audit", "update", "export", "count", "purge"};
+        methods = new Method[names.length];
+        constraints = new MethodConstraint[names.length];
+        for (int i = 0; i < names.length; i++) {
+            methods[i] = Service.class.getMethod(names[i]);
+            constraints[i] = resolver.constraint(Service.class, methods[i]);
+        }
+        caller = table.roles("role3", "role77", "role199");
+    }
+
+    @Benchmark
+    public void constraints(Blackhole blackhole) {
+        for (int pass = 0; pass < PASSES; pass++) {
+            for (MethodConstraint constraint : constraints) {
+                blackhole.consume(constraint.permits(caller));
+            }
+        }
+    }
+
+    @Benchmark
+    public void memoDisabled(Blackhole blackhole) {
+        request(blackhole);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-D" + AuthorizationMemo.ENABLED_PROPERTY + "=true")
+    public void memoEnabled(Blackhole blackhole) {
+        request(blackhole);
+    }
+
+    @SuppressWarnings("try") // the resolver finds the memo through the current thread
+    private void request(Blackhole blackhole) {
+        try (AuthorizationMemo memo = AuthorizationMemo.open(caller)) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (Method method : methods) {
+                    blackhole.consume(resolver.permits(Service.class, method, caller));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reader for the binary format written by {@link IndexOutput}.
+ */
+final class IndexInput {
+
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class,
+            "byte", byte.class,
+            "char", char.class,
+            "short", short.class,
+            "int", int.class,
+            "long", long.class,
+            "float", float.class,
+            "double", double.class,
+            "void", void.class);
+
+    private final DataInputStream in;
+    private final String[] pool;
+
+    IndexInput(InputStream in, int kind) throws IOException {
+        this.in = new DataInputStream(in);
+        if (this.in.readInt() != IndexOutput.MAGIC) {
+            throw new IOException("Not a Jakarta Annotations index");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version > IndexOutput.VERSION) {
+            throw new IOException("Unsupported index version " + version);
+        }
+        int actual = this.in.readUnsignedByte();
+        if (actual != kind) {
+            throw new IOException("Expected index kind " + kind + " but found " + actual);
+        }
+        pool = new String[readInt()];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = this.in.readUTF();
+        }
+    }
+
+    String readString() throws IOException {
+        int id = readInt();
+        if (id >= pool.length) {
+            throw new IOException("Corrupt index: string reference " + id + " out of range");
+        }
+        return pool[id];
+    }
+
+    int readInt() throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("Corrupt index: malformed integer");
+    }
+
+    boolean readBoolean() throws IOException {
+        return in.readUnsignedByte() != 0;
+    }
+
+    /**
+     * Returns every copy of the given index visible to the class loader,
+     * one per jar or directory that contributes one.
+     */
+    static List<URL> locate(ClassLoader loader, String location) throws IOException {
+        Enumeration<URL> urls = loader == null
+                ? ClassLoader.getSystemResources(location)
+                : loader.getResources(location);
+        return urls.hasMoreElements() ? Collections.list(urls) : new ArrayList<>(0);
+    }
+
+    /**
+     * Loads a class by the name recorded in an index, which is either a
+     * primitive type name or a name accepted by {@link Class#forName}.
+     */
+    static Class<?> loadClass(String name, ClassLoader loader) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, loader);
+    }
+}
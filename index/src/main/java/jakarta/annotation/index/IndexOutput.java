@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writer for the binary format shared by all indexes in this package.
+ * <p>
+ * An index starts with a magic number, the format version and a kind tag,
+ * followed by a pool of the distinct strings used by the index and finally
+ * the entries, which refer to strings by their position in the pool.
+ * Counts and string references are written as unsigned variable-length
+ * integers, so a typical entry takes only a handful of bytes.
+ *
+ * @see IndexInput
+ */
+final class IndexOutput {
+
+    static final int MAGIC = 0x4A414958;   // "JAIX"
+    static final int VERSION = 1;
+
+    static final int KIND_RESOURCES = 1;
+    static final int KIND_LIFECYCLE = 2;
+    static final int KIND_SECURITY = 3;
+    static final int KIND_PRIORITY = 4;
+
+    private final int kind;
+    private final Map<String, Integer> pool = new LinkedHashMap<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    IndexOutput(int kind) {
+        this.kind = kind;
+    }
+
+    void writeString(String s) {
+        Integer id = pool.get(s);
+        if (id == null) {
+            id = pool.size();
+            pool.put(s, id);
+        }
+        writeVarInt(body, id);
+    }
+
+    void writeInt(int v) {
+        writeVarInt(body, v);
+    }
+
+    void writeBoolean(boolean b) {
+        body.write(b ? 1 : 0);
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(kind);
+        writeVarInt(data, pool.size());
+        for (String s : pool.keySet()) {
+            data.writeUTF(s);
+        }
+        body.writeTo(data);
+        data.flush();
+    }
+
+    private static void writeVarInt(OutputStream out, int v) {
+        try {
+            while ((v & ~0x7F) != 0) {
+                out.write((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            out.write(v);
+        } catch (IOException e) {
+            // only reached when writing the header, never for the in-memory body
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Base class of the processors in this package.
+ * <p>
+ * Entries are collected over all processing rounds, so that annotated code
+ * generated by other processors is indexed as well, and the index is
+ * written once in the final round. Processors never claim the annotations
+ * they index.
+ */
+abstract class IndexProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public final boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!roundEnv.processingOver()) {
+            collect(annotations, roundEnv);
+        } else if (hasEntries()) {
+            try {
+                FileObject file = processingEnv.getFiler()
+                        .createResource(StandardLocation.CLASS_OUTPUT, "", location());
+                try (OutputStream out = file.openOutputStream()) {
+                    write(out);
+                }
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to write " + location() + ": " + e);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the entries of one processing round.
+     */
+    abstract void collect(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv);
+
+    abstract boolean hasEntries();
+
+    abstract String location();
+
+    abstract void write(OutputStream out) throws IOException;
+
+    /**
+     * Returns the annotation in {@code annotations} with the given name,
+     * or {@code null} if it is not present in this round.
+     */
+    static TypeElement find(Set<? extends TypeElement> annotations, String name) {
+        for (TypeElement annotation : annotations) {
+            if (annotation.getQualifiedName().contentEquals(name)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the mirrors of the given annotation type present on an element.
+     */
+    static List<AnnotationMirror> mirrors(Element element, TypeElement annotation) {
+        List<AnnotationMirror> result = new ArrayList<>(1);
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                result.add(mirror);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values of an annotation, including defaults, by element name.
+     */
+    Map<String, Object> values(AnnotationMirror mirror) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(e.getKey().getSimpleName().toString(), e.getValue().getValue());
+        }
+        return values;
+    }
+
+    /**
+     * Returns the binary name of a class, as returned by {@link Class#getName()}.
+     */
+    String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * Returns the name of the erasure of a type as returned by
+     * {@link Class#getName()}, or the keyword of a primitive type.
+     */
+    String typeName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case DECLARED:
+                return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+            case ARRAY:
+                return descriptor(erased).replace('/', '.');
+            default:
+                return erased.toString();
+        }
+    }
+
+    private String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN: return "Z";
+            case BYTE: return "B";
+            case CHAR: return "C";
+            case SHORT: return "S";
+            case INT: return "I";
+            case LONG: return "J";
+            case FLOAT: return "F";
+            case DOUBLE: return "D";
+            case ARRAY: return "[" + descriptor(((ArrayType) type).getComponentType());
+            default: return "L" + typeName(type) + ";";
+        }
+    }
+
+    /**
+     * Returns the mirror of the given annotation type on an element, or
+     * {@code null} if the element is not annotated with it.
+     */
+    static AnnotationMirror mirror(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether an element is annotated with the given annotation type.
+     */
+    static boolean isAnnotated(Element element, String annotation) {
+        return mirror(element, annotation) != null;
+    }
+
+    /**
+     * Returns the strings of the {@code value} array of an annotation.
+     */
+    List<String> strings(AnnotationMirror mirror) {
+        List<String> strings = new ArrayList<>();
+        for (Object value : (Iterable<?>) values(mirror).get("value")) {
+            strings.add((String) ((AnnotationValue) value).getValue());
+        }
+        return strings;
+    }
+
+    /**
+     * Returns a class and its superclasses, most general first and
+     * without {@code java.lang.Object}.
+     */
+    static List<TypeElement> hierarchy(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement t = type; t != null; ) {
+            hierarchy.add(0, t);
+            TypeMirror superclass = t.getSuperclass();
+            t = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+            if (t != null && t.getQualifiedName().contentEquals("java.lang.Object")) {
+                t = null;
+            }
+        }
+        return hierarchy;
+    }
+
+    void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    void error(String message, Element element, AnnotationMirror mirror) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, mirror);
+    }
+
+    void warning(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The build-time index of {@code PostConstruct} and {@code PreDestroy}
+ * callbacks.
+ * <p>
+ * The index is written by {@link LifecycleIndexProcessor} to
+ * {@value #LOCATION}. For every class of a module that has at least one
+ * lifecycle callback, declared or inherited, it lists the callbacks in the
+ * order a container has to invoke them: methods of the most general
+ * superclass first, skipping methods that are overridden by a subclass.
+ * A container can therefore invoke the callbacks of a class without
+ * scanning its hierarchy with {@code getDeclaredMethods()}.
+ */
+public final class LifecycleIndex {
+
+    /**
+     * The location of the index within a jar or class directory.
+     */
+    public static final String LOCATION = "META-INF/jakarta.annotation/lifecycle.idx";
+
+    private final Map<String, Callbacks> callbacks;
+
+    private LifecycleIndex(Map<String, Callbacks> callbacks) {
+        this.callbacks = Collections.unmodifiableMap(callbacks);
+    }
+
+    /**
+     * Reads and merges every copy of the index visible to the given
+     * class loader.
+     *
+     * @param loader the class loader, or {@code null} for the system class loader
+     * @return the merged index, empty if no index was found
+     * @throws IOException if an index cannot be read
+     */
+    public static LifecycleIndex load(ClassLoader loader) throws IOException {
+        Map<String, Callbacks> callbacks = new LinkedHashMap<>();
+        for (URL url : IndexInput.locate(loader, LOCATION)) {
+            try (InputStream in = url.openStream()) {
+                readEntries(in, callbacks);
+            } catch (IOException e) {
+                throw new IOException("Cannot read " + url, e);
+            }
+        }
+        return new LifecycleIndex(callbacks);
+    }
+
+    /**
+     * Reads a single index.
+     *
+     * @param in the stream to read, not closed by this method
+     * @return the index
+     * @throws IOException if the index cannot be read
+     */
+    public static LifecycleIndex read(InputStream in) throws IOException {
+        Map<String, Callbacks> callbacks = new LinkedHashMap<>();
+        readEntries(in, callbacks);
+        return new LifecycleIndex(callbacks);
+    }
+
+    /**
+     * Returns the binary names of all indexed classes.
+     *
+     * @return an unmodifiable set of class names
+     */
+    public Set<String> classNames() {
+        return callbacks.keySet();
+    }
+
+    /**
+     * Returns whether the given class is part of this index. A class
+     * that is not indexed either has no lifecycle callbacks or was not
+     * compiled with the processor.
+     *
+     * @param className the binary name of the class
+     * @return {@code true} if the class is indexed
+     */
+    public boolean contains(String className) {
+        return callbacks.containsKey(className);
+    }
+
+    /**
+     * Returns the {@code PostConstruct} methods of a class in invocation order.
+     *
+     * @param className the binary name of the class
+     * @return an unmodifiable list of methods, empty if the class has none
+     */
+    public List<LifecycleMethod> postConstruct(String className) {
+        Callbacks c = callbacks.get(className);
+        return c == null ? List.of() : c.postConstruct;
+    }
+
+    /**
+     * Returns the {@code PreDestroy} methods of a class in invocation order.
+     *
+     * @param className the binary name of the class
+     * @return an unmodifiable list of methods, empty if the class has none
+     */
+    public List<LifecycleMethod> preDestroy(String className) {
+        Callbacks c = callbacks.get(className);
+        return c == null ? List.of() : c.preDestroy;
+    }
+
+    static void write(Map<String, Callbacks> classes, OutputStream out) throws IOException {
+        IndexOutput index = new IndexOutput(IndexOutput.KIND_LIFECYCLE);
+        index.writeInt(classes.size());
+        for (Map.Entry<String, Callbacks> e : classes.entrySet()) {
+            index.writeString(e.getKey());
+            writeMethods(index, e.getValue().postConstruct);
+            writeMethods(index, e.getValue().preDestroy);
+        }
+        index.writeTo(out);
+    }
+
+    private static void writeMethods(IndexOutput index, List<LifecycleMethod> methods) {
+        index.writeInt(methods.size());
+        for (LifecycleMethod method : methods) {
+            index.writeString(method.className());
+            index.writeString(method.methodName());
+            index.writeString(method.parameterType());
+        }
+    }
+
+    private static void readEntries(InputStream in, Map<String, Callbacks> callbacks) throws IOException {
+        IndexInput index = new IndexInput(in, IndexOutput.KIND_LIFECYCLE);
+        int count = index.readInt();
+        for (int i = 0; i < count; i++) {
+            String className = index.readString();
+            List<LifecycleMethod> postConstruct = readMethods(index);
+            List<LifecycleMethod> preDestroy = readMethods(index);
+            callbacks.put(className, new Callbacks(postConstruct, preDestroy));
+        }
+    }
+
+    private static List<LifecycleMethod> readMethods(IndexInput index) throws IOException {
+        int count = index.readInt();
+        if (count == 0) {
+            return List.of();
+        }
+        List<LifecycleMethod> methods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            methods.add(new LifecycleMethod(index.readString(), index.readString(), index.readString()));
+        }
+        return Collections.unmodifiableList(methods);
+    }
+
+    /**
+     * The callbacks of one class.
+     */
+    static final class Callbacks {
+
+        final List<LifecycleMethod> postConstruct;
+        final List<LifecycleMethod> preDestroy;
+
+        Callbacks(List<LifecycleMethod> postConstruct, List<LifecycleMethod> preDestroy) {
+            this.postConstruct = postConstruct;
+            this.preDestroy = preDestroy;
+        }
+    }
+}
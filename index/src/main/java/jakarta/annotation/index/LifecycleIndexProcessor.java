@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Annotation processor writing the {@link LifecycleIndex}.
+ * <p>
+ * Every class compiled together with the processor is indexed, including
+ * classes that only inherit their callbacks from a superclass in another
+ * jar. The processor also enforces the method signature rules of
+ * {@code PostConstruct} and {@code PreDestroy} for the classes it compiles:
+ * at most one method per class and annotation, no parameters other than an
+ * interceptor's {@code InvocationContext}, and no static {@code PreDestroy}
+ * methods. A final callback method only causes a warning.
+ */
+@SupportedAnnotationTypes("*")
+public class LifecycleIndexProcessor extends IndexProcessor {
+
+    static final String POST_CONSTRUCT = "jakarta.annotation.PostConstruct";
+    static final String PRE_DESTROY = "jakarta.annotation.PreDestroy";
+    static final String INVOCATION_CONTEXT = "jakarta.interceptor.InvocationContext";
+
+    private final Map<String, LifecycleIndex.Callbacks> classes = new TreeMap<>();
+
+    /**
+     * Creates the processor.
+     */
+    public LifecycleIndexProcessor() {
+    }
+
+    @Override
+    void collect(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            index(type);
+        }
+    }
+
+    private void index(TypeElement type) {
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            index(nested);
+        }
+        if (type.getKind() != ElementKind.CLASS) {
+            return;
+        }
+        validate(type, POST_CONSTRUCT);
+        validate(type, PRE_DESTROY);
+        List<LifecycleMethod> postConstruct = callbacks(type, POST_CONSTRUCT);
+        List<LifecycleMethod> preDestroy = callbacks(type, PRE_DESTROY);
+        if (!postConstruct.isEmpty() || !preDestroy.isEmpty()) {
+            classes.put(binaryName(type), new LifecycleIndex.Callbacks(postConstruct, preDestroy));
+        }
+    }
+
+    /**
+     * Returns the callbacks of a class in invocation order: most general
+     * superclass first, without the methods overridden along the way.
+     */
+    private List<LifecycleMethod> callbacks(TypeElement type, String annotation) {
+        List<TypeElement> hierarchy = hierarchy(type);
+        List<LifecycleMethod> callbacks = new ArrayList<>(1);
+        for (int i = 0; i < hierarchy.size(); i++) {
+            ExecutableElement method = callback(hierarchy.get(i), annotation);
+            if (method != null && !isOverridden(method, hierarchy, i, type)) {
+                callbacks.add(new LifecycleMethod(
+                        binaryName(hierarchy.get(i)),
+                        method.getSimpleName().toString(),
+                        method.getParameters().isEmpty() ? "" : INVOCATION_CONTEXT));
+            }
+        }
+        return callbacks;
+    }
+
+    private boolean isOverridden(ExecutableElement method, List<TypeElement> hierarchy, int index, TypeElement type) {
+        for (int i = index + 1; i < hierarchy.size(); i++) {
+            for (ExecutableElement candidate : ElementFilter.methodsIn(hierarchy.get(i).getEnclosedElements())) {
+                if (candidate.getSimpleName().equals(method.getSimpleName())
+                        && processingEnv.getElementUtils().overrides(candidate, method, type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void validate(TypeElement type, String annotation) {
+        String simpleName = "@" + annotation.substring(annotation.lastIndexOf('.') + 1);
+        boolean found = false;
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!isAnnotated(method, annotation)) {
+                continue;
+            }
+            if (found) {
+                error("Only one method of a class may be annotated with " + simpleName, method);
+            }
+            found = true;
+            List<? extends VariableElement> parameters = method.getParameters();
+            TypeMirror returnType = method.getReturnType();
+            if (parameters.isEmpty()) {
+                if (returnType.getKind() != TypeKind.VOID) {
+                    error(simpleName + " method must return void", method);
+                }
+            } else if (parameters.size() > 1 || !INVOCATION_CONTEXT.equals(typeName(parameters.get(0).asType()))) {
+                error(simpleName + " method must not have parameters other than an InvocationContext", method);
+            } else if (returnType.getKind() != TypeKind.VOID && !"java.lang.Object".equals(typeName(returnType))) {
+                error(simpleName + " interceptor method must return void or Object", method);
+            }
+            if (annotation.equals(PRE_DESTROY) && method.getModifiers().contains(Modifier.STATIC)) {
+                error(simpleName + " method must not be static", method);
+            }
+            if (method.getModifiers().contains(Modifier.FINAL)) {
+                warning(simpleName + " method should not be final", method);
+            }
+        }
+    }
+
+    private static ExecutableElement callback(TypeElement type, String annotation) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (isAnnotated(method, annotation)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    boolean hasEntries() {
+        return !classes.isEmpty();
+    }
+
+    @Override
+    String location() {
+        return LifecycleIndex.LOCATION;
+    }
+
+    @Override
+    void write(OutputStream out) throws IOException {
+        LifecycleIndex.write(classes, out);
+    }
+}
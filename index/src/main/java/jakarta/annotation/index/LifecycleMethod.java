@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.lang.reflect.Method;
+
+/**
+ * A {@code PostConstruct} or {@code PreDestroy} method recorded in a
+ * {@link LifecycleIndex}.
+ *
+ * @param className the binary name of the class declaring the method
+ * @param methodName the name of the method
+ * @param parameterType the binary name of the {@code InvocationContext}
+ *        parameter of an interceptor method, empty for a method without
+ *        parameters
+ */
+public record LifecycleMethod(String className, String methodName, String parameterType) {
+
+    /**
+     * Returns whether this is an interceptor lifecycle callback, which takes
+     * an {@code InvocationContext} parameter.
+     *
+     * @return {@code true} for an interceptor method
+     */
+    public boolean isInterceptorMethod() {
+        return !parameterType.isEmpty();
+    }
+
+    /**
+     * Looks up the recorded method without initializing its class. The
+     * method is not made accessible.
+     *
+     * @param loader the class loader to use
+     * @return the method
+     * @throws ReflectiveOperationException if the class or method no longer exists
+     */
+    public Method resolve(ClassLoader loader) throws ReflectiveOperationException {
+        Class<?> type = IndexInput.loadClass(className, loader);
+        return isInterceptorMethod()
+                ? type.getDeclaredMethod(methodName, IndexInput.loadClass(parameterType, loader))
+                : type.getDeclaredMethod(methodName);
+    }
+}
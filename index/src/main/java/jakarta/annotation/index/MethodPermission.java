@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The effective access to one method of a class, as recorded in a
+ * {@link SecurityIndex}.
+ *
+ * @param name the method name
+ * @param parameterTypes the binary names of the erased parameter types
+ * @param access the effective access
+ * @param roles the roles allowed to invoke the method, empty unless
+ *        {@code access} is {@link MethodAccess#ROLES_ALLOWED}
+ */
+public record MethodPermission(String name, List<String> parameterTypes, MethodAccess access, Set<String> roles) {
+
+    /**
+     * Returns whether a caller in the given roles may invoke the method.
+     *
+     * @param callerRoles the roles of the caller
+     * @return {@code true} if the invocation is permitted
+     */
+    public boolean permits(Set<String> callerRoles) {
+        switch (access) {
+            case PERMIT_ALL:
+                return true;
+            case ROLES_ALLOWED:
+                for (String role : roles) {
+                    if (callerRoles.contains(role)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+}
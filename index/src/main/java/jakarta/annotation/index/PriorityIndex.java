@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The build-time index of {@code Priority} annotated classes.
+ * <p>
+ * The index is written by {@link PriorityIndexProcessor} to
+ * {@value #LOCATION} and maps the binary name of every class of a module
+ * annotated with {@code Priority} to its priority value. A runtime can
+ * thus order service providers, interceptors or observers without
+ * reading their annotations reflectively.
+ */
+public final class PriorityIndex {
+
+    /**
+     * The location of the index within a jar or class directory.
+     */
+    public static final String LOCATION = "META-INF/jakarta.annotation/priorities.idx";
+
+    private final Map<String, Integer> priorities;
+
+    private PriorityIndex(Map<String, Integer> priorities) {
+        this.priorities = Collections.unmodifiableMap(priorities);
+    }
+
+    /**
+     * Reads and merges every copy of the index visible to the given
+     * class loader.
+     *
+     * @param loader the class loader, or {@code null} for the system class loader
+     * @return the merged index, empty if no index was found
+     * @throws IOException if an index cannot be read
+     */
+    public static PriorityIndex load(ClassLoader loader) throws IOException {
+        Map<String, Integer> priorities = new LinkedHashMap<>();
+        for (URL url : IndexInput.locate(loader, LOCATION)) {
+            try (InputStream in = url.openStream()) {
+                readEntries(in, priorities);
+            } catch (IOException e) {
+                throw new IOException("Cannot read " + url, e);
+            }
+        }
+        return new PriorityIndex(priorities);
+    }
+
+    /**
+     * Reads a single index.
+     *
+     * @param in the stream to read, not closed by this method
+     * @return the index
+     * @throws IOException if the index cannot be read
+     */
+    public static PriorityIndex read(InputStream in) throws IOException {
+        Map<String, Integer> priorities = new LinkedHashMap<>();
+        readEntries(in, priorities);
+        return new PriorityIndex(priorities);
+    }
+
+    /**
+     * Returns the priorities of all indexed classes.
+     *
+     * @return an unmodifiable map from binary class name to priority value
+     */
+    public Map<String, Integer> priorities() {
+        return priorities;
+    }
+
+    /**
+     * Returns the priority of a class.
+     *
+     * @param className the binary name of the class
+     * @param defaultPriority the value to return if the class is not indexed
+     * @return the priority value
+     */
+    public int priority(String className, int defaultPriority) {
+        Integer priority = priorities.get(className);
+        return priority == null ? defaultPriority : priority;
+    }
+
+    static void write(Map<String, Integer> priorities, OutputStream out) throws IOException {
+        IndexOutput index = new IndexOutput(IndexOutput.KIND_PRIORITY);
+        index.writeInt(priorities.size());
+        for (Map.Entry<String, Integer> e : priorities.entrySet()) {
+            index.writeString(e.getKey());
+            // zig-zag encoded, priorities may be negative
+            int v = e.getValue();
+            index.writeInt((v << 1) ^ (v >> 31));
+        }
+        index.writeTo(out);
+    }
+
+    private static void readEntries(InputStream in, Map<String, Integer> priorities) throws IOException {
+        IndexInput index = new IndexInput(in, IndexOutput.KIND_PRIORITY);
+        int count = index.readInt();
+        for (int i = 0; i < count; i++) {
+            String className = index.readString();
+            int v = index.readInt();
+            priorities.put(className, (v >>> 1) ^ -(v & 1));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Annotation processor writing the {@link PriorityIndex}.
+ * <p>
+ * Only classes are indexed; {@code Priority} on other elements, such as
+ * the parameters of CDI observer methods, is left to the runtime.
+ */
+@SupportedAnnotationTypes("jakarta.annotation.Priority")
+public class PriorityIndexProcessor extends IndexProcessor {
+
+    static final String PRIORITY = "jakarta.annotation.Priority";
+
+    private final Map<String, Integer> priorities = new TreeMap<>();
+
+    /**
+     * Creates the processor.
+     */
+    public PriorityIndexProcessor() {
+    }
+
+    @Override
+    void collect(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement priority = find(annotations, PRIORITY);
+        if (priority == null) {
+            return;
+        }
+        Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(priority);
+        for (TypeElement type : ElementFilter.typesIn(elements)) {
+            for (AnnotationMirror mirror : mirrors(type, priority)) {
+                priorities.put(binaryName(type), (Integer) values(mirror).get("value"));
+            }
+        }
+    }
+
+    @Override
+    boolean hasEntries() {
+        return !priorities.isEmpty();
+    }
+
+    @Override
+    String location() {
+        return PriorityIndex.LOCATION;
+    }
+
+    @Override
+    void write(OutputStream out) throws IOException {
+        PriorityIndex.write(priorities, out);
+    }
+}
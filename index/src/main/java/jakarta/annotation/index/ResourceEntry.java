@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.lang.annotation.ElementType;
+
+import jakarta.annotation.Resource;
+
+/**
+ * A single {@link Resource} declaration recorded in a {@link ResourceIndex}.
+ * <p>
+ * The defaults of {@code name()} and {@code type()} are already resolved:
+ * for a field they are the field name and type, for a method the JavaBeans
+ * property name and type of the setter. Class names are binary names as
+ * returned by {@link Class#getName()}, primitive types use their keyword.
+ *
+ * @param className the binary name of the class declaring the annotation
+ * @param elementType {@code TYPE}, {@code FIELD} or {@code METHOD}
+ * @param memberName the field or method name, empty for {@code TYPE}
+ * @param memberType the field type or setter parameter type, empty for {@code TYPE}
+ * @param name the resolved JNDI name of the resource
+ * @param lookup the {@code lookup} element
+ * @param type the binary name of the resolved resource type
+ * @param authenticationType the {@code authenticationType} element
+ * @param shareable the {@code shareable} element
+ * @param mappedName the {@code mappedName} element
+ * @param description the {@code description} element
+ */
+public record ResourceEntry(String className,
+                            ElementType elementType,
+                            String memberName,
+                            String memberType,
+                            String name,
+                            String lookup,
+                            String type,
+                            Resource.AuthenticationType authenticationType,
+                            boolean shareable,
+                            String mappedName,
+                            String description) {
+
+    /**
+     * Loads the resolved resource type without initializing it.
+     *
+     * @param loader the class loader to use
+     * @return the resource type
+     * @throws ClassNotFoundException if the type is not visible to the loader
+     */
+    public Class<?> loadType(ClassLoader loader) throws ClassNotFoundException {
+        return IndexInput.loadClass(type, loader);
+    }
+
+    /**
+     * Loads the declared type of the annotated field, or the parameter type
+     * of the annotated setter, without initializing it.
+     *
+     * @param loader the class loader to use
+     * @return the member type
+     * @throws ClassNotFoundException if the type is not visible to the loader
+     * @throws IllegalStateException if this entry is a class level declaration
+     */
+    public Class<?> loadMemberType(ClassLoader loader) throws ClassNotFoundException {
+        if (elementType == ElementType.TYPE) {
+            throw new IllegalStateException("Class level resource " + name + " has no member");
+        }
+        return IndexInput.loadClass(memberType, loader);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.ElementType;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.annotation.Resource;
+
+/**
+ * The build-time index of {@link Resource} declarations.
+ * <p>
+ * The index is written by {@link ResourceIndexProcessor} to
+ * {@value #LOCATION} and lists every class, field and method annotated with
+ * {@code Resource}, including the declarations grouped in a
+ * {@code Resources} container. A runtime can read it with
+ * {@link #load(ClassLoader)} instead of loading and reflecting on every
+ * class of an application.
+ * <p>
+ * Like the annotation, the index is not inherited: the entries for a class
+ * are only those it declares, and deployment tools still have to look at
+ * the entries of all superclasses.
+ */
+public final class ResourceIndex {
+
+    /**
+     * The location of the index within a jar or class directory.
+     */
+    public static final String LOCATION = "META-INF/jakarta.annotation/resources.idx";
+
+    private final List<ResourceEntry> entries;
+    private final Map<String, List<ResourceEntry>> byClass;
+
+    private ResourceIndex(List<ResourceEntry> entries) {
+        Map<String, List<ResourceEntry>> map = new LinkedHashMap<>();
+        for (ResourceEntry entry : entries) {
+            map.computeIfAbsent(entry.className(), k -> new ArrayList<>()).add(entry);
+        }
+        map.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        this.entries = Collections.unmodifiableList(entries);
+        this.byClass = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Reads and merges every copy of the index visible to the given
+     * class loader.
+     *
+     * @param loader the class loader, or {@code null} for the system class loader
+     * @return the merged index, empty if no index was found
+     * @throws IOException if an index cannot be read
+     */
+    public static ResourceIndex load(ClassLoader loader) throws IOException {
+        List<ResourceEntry> entries = new ArrayList<>();
+        for (URL url : IndexInput.locate(loader, LOCATION)) {
+            try (InputStream in = url.openStream()) {
+                readEntries(in, entries);
+            } catch (IOException e) {
+                throw new IOException("Cannot read " + url, e);
+            }
+        }
+        return new ResourceIndex(entries);
+    }
+
+    /**
+     * Reads a single index.
+     *
+     * @param in the stream to read, not closed by this method
+     * @return the index
+     * @throws IOException if the index cannot be read
+     */
+    public static ResourceIndex read(InputStream in) throws IOException {
+        List<ResourceEntry> entries = new ArrayList<>();
+        readEntries(in, entries);
+        return new ResourceIndex(entries);
+    }
+
+    /**
+     * Returns all entries of this index.
+     *
+     * @return an unmodifiable list of entries
+     */
+    public List<ResourceEntry> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entries declared by the given class, which does not
+     * include those of its superclasses.
+     *
+     * @param className the binary name of the class
+     * @return an unmodifiable list of entries, empty if the class declares none
+     */
+    public List<ResourceEntry> entries(String className) {
+        return byClass.getOrDefault(className, List.of());
+    }
+
+    /**
+     * Returns the binary names of all classes that declare at least one
+     * {@code Resource}.
+     *
+     * @return an unmodifiable set of class names
+     */
+    public Set<String> classNames() {
+        return byClass.keySet();
+    }
+
+    static void write(Collection<ResourceEntry> entries, OutputStream out) throws IOException {
+        IndexOutput index = new IndexOutput(IndexOutput.KIND_RESOURCES);
+        index.writeInt(entries.size());
+        for (ResourceEntry entry : entries) {
+            index.writeString(entry.className());
+            index.writeString(entry.elementType().name());
+            index.writeString(entry.memberName());
+            index.writeString(entry.memberType());
+            index.writeString(entry.name());
+            index.writeString(entry.lookup());
+            index.writeString(entry.type());
+            index.writeString(entry.authenticationType().name());
+            index.writeBoolean(entry.shareable());
+            index.writeString(entry.mappedName());
+            index.writeString(entry.description());
+        }
+        index.writeTo(out);
+    }
+
+    private static void readEntries(InputStream in, List<ResourceEntry> entries) throws IOException {
+        IndexInput index = new IndexInput(in, IndexOutput.KIND_RESOURCES);
+        int count = index.readInt();
+        for (int i = 0; i < count; i++) {
+            try {
+                entries.add(new ResourceEntry(
+                        index.readString(),
+                        ElementType.valueOf(index.readString()),
+                        index.readString(),
+                        index.readString(),
+                        index.readString(),
+                        index.readString(),
+                        index.readString(),
+                        Resource.AuthenticationType.valueOf(index.readString()),
+                        index.readBoolean(),
+                        index.readString(),
+                        index.readString()));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt index: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.ElementType;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import jakarta.annotation.Resource;
+
+/**
+ * Annotation processor writing the {@link ResourceIndex}.
+ * <p>
+ * Besides recording the declarations, the processor enforces the rules
+ * of {@link Resource} that can be checked at build time: an annotated
+ * method must be a JavaBeans setter, and a class level declaration must
+ * specify both {@code name} and {@code type}.
+ */
+@SupportedAnnotationTypes({"jakarta.annotation.Resource", "jakarta.annotation.Resources"})
+public class ResourceIndexProcessor extends IndexProcessor {
+
+    private static final Comparator<ResourceEntry> ORDER = Comparator
+            .comparing(ResourceEntry::className)
+            .thenComparing(ResourceEntry::elementType)
+            .thenComparing(ResourceEntry::memberName)
+            .thenComparing(ResourceEntry::memberType)
+            .thenComparing(ResourceEntry::name);
+
+    private final Set<ResourceEntry> entries = new TreeSet<>(ORDER);
+
+    /**
+     * Creates the processor.
+     */
+    public ResourceIndexProcessor() {
+    }
+
+    @Override
+    void collect(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement resource = find(annotations, "jakarta.annotation.Resource");
+        if (resource != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(resource)) {
+                for (AnnotationMirror mirror : mirrors(element, resource)) {
+                    add(element, mirror);
+                }
+            }
+        }
+        TypeElement resources = find(annotations, "jakarta.annotation.Resources");
+        if (resources != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(resources)) {
+                for (AnnotationMirror container : mirrors(element, resources)) {
+                    for (Object value : (Iterable<?>) values(container).get("value")) {
+                        add(element, (AnnotationMirror) ((AnnotationValue) value).getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    private void add(Element element, AnnotationMirror mirror) {
+        Map<String, Object> values = values(mirror);
+        String name = (String) values.get("name");
+        TypeMirror type = (TypeMirror) values.get("type");
+        boolean defaultType = isObject(type);
+
+        String className;
+        ElementType elementType;
+        String memberName;
+        String memberType;
+        switch (element.getKind()) {
+            case FIELD:
+                className = binaryName((TypeElement) element.getEnclosingElement());
+                elementType = ElementType.FIELD;
+                memberName = element.getSimpleName().toString();
+                memberType = typeName(element.asType());
+                if (name.isEmpty()) {
+                    name = memberName;
+                }
+                break;
+            case METHOD:
+                ExecutableElement method = (ExecutableElement) element;
+                memberName = method.getSimpleName().toString();
+                if (!isSetter(method)) {
+                    error("@Resource method " + memberName + " must be a JavaBeans setter", element, mirror);
+                    return;
+                }
+                className = binaryName((TypeElement) element.getEnclosingElement());
+                elementType = ElementType.METHOD;
+                memberType = typeName(method.getParameters().get(0).asType());
+                if (name.isEmpty()) {
+                    name = propertyName(memberName);
+                }
+                break;
+            default:
+                if (name.isEmpty() || defaultType) {
+                    error("@Resource on a class must specify name and type", element, mirror);
+                    return;
+                }
+                className = binaryName((TypeElement) element);
+                elementType = ElementType.TYPE;
+                memberName = "";
+                memberType = "";
+                break;
+        }
+
+        entries.add(new ResourceEntry(
+                className,
+                elementType,
+                memberName,
+                memberType,
+                name,
+                (String) values.get("lookup"),
+                defaultType ? memberType : typeName(type),
+                Resource.AuthenticationType.valueOf(
+                        ((VariableElement) values.get("authenticationType")).getSimpleName().toString()),
+                (Boolean) values.get("shareable"),
+                (String) values.get("mappedName"),
+                (String) values.get("description")));
+    }
+
+    @Override
+    boolean hasEntries() {
+        return !entries.isEmpty();
+    }
+
+    @Override
+    String location() {
+        return ResourceIndex.LOCATION;
+    }
+
+    @Override
+    void write(OutputStream out) throws IOException {
+        ResourceIndex.write(entries, out);
+    }
+
+    private boolean isObject(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && "java.lang.Object".equals(typeName(type));
+    }
+
+    private static boolean isSetter(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        return name.length() > 3
+                && name.startsWith("set")
+                && method.getParameters().size() == 1
+                && method.getReturnType().getKind() == TypeKind.VOID;
+    }
+
+    /**
+     * Returns the JavaBeans property name of a setter, following the rules
+     * of {@code java.beans.Introspector.decapitalize}.
+     */
+    static String propertyName(String setter) {
+        String property = setter.substring(3);
+        if (property.length() > 1
+                && Character.isUpperCase(property.charAt(0))
+                && Character.isUpperCase(property.charAt(1))) {
+            return property;
+        }
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The resolved security metadata of one class, as recorded in a
+ * {@link SecurityIndex}.
+ *
+ * @param className the binary name of the class
+ * @param runAs the {@code RunAs} role of the class or its nearest
+ *        superclass declaring one, empty if there is none
+ * @param declaredRoles the roles declared with {@code DeclareRoles} by the
+ *        class and its superclasses
+ * @param methods the public methods, declared or inherited, that have an
+ *        effective access; methods without security annotations on the
+ *        method or on the class declaring it are not listed
+ */
+public record SecurityDescriptor(String className, String runAs, Set<String> declaredRoles,
+                                 List<MethodPermission> methods) {
+
+    /**
+     * Returns the permission of a method.
+     *
+     * @param name the method name
+     * @param parameterTypes the binary names of the erased parameter types
+     * @return the permission, or {@code null} if the method has no
+     *         security annotations and access is up to the container
+     */
+    public MethodPermission method(String name, String... parameterTypes) {
+        for (MethodPermission method : methods) {
+            if (method.name().equals(name) && method.parameterTypes().equals(List.of(parameterTypes))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the permission of a method.
+     *
+     * @param method the method
+     * @return the permission, or {@code null} if the method has no
+     *         security annotations and access is up to the container
+     */
+    public MethodPermission method(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        String[] names = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            names[i] = types[i].getName();
+        }
+        return method(method.getName(), names);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The build-time index of the security annotations.
+ * <p>
+ * The index is written by {@link SecurityIndexProcessor} to
+ * {@value #LOCATION}. For every class of a module that uses
+ * {@code DenyAll}, {@code PermitAll}, {@code RolesAllowed},
+ * {@code DeclareRoles} or {@code RunAs}, on itself or a superclass, it
+ * holds a {@link SecurityDescriptor} in which the precedence of method
+ * level over class level annotations is already resolved: an annotation
+ * on a method wins over one on the class declaring the method, and a class
+ * level annotation only applies to the methods declared by that class.
+ * Setting up authorization for a module then becomes a table load.
+ */
+public final class SecurityIndex {
+
+    /**
+     * The location of the index within a jar or class directory.
+     */
+    public static final String LOCATION = "META-INF/jakarta.annotation/security.idx";
+
+    private final Map<String, SecurityDescriptor> descriptors;
+    private final Set<String> roles;
+
+    private SecurityIndex(Map<String, SecurityDescriptor> descriptors, Set<String> roles) {
+        this.descriptors = Collections.unmodifiableMap(descriptors);
+        this.roles = Collections.unmodifiableSet(roles);
+    }
+
+    /**
+     * Reads and merges every copy of the index visible to the given
+     * class loader.
+     *
+     * @param loader the class loader, or {@code null} for the system class loader
+     * @return the merged index, empty if no index was found
+     * @throws IOException if an index cannot be read
+     */
+    public static SecurityIndex load(ClassLoader loader) throws IOException {
+        Map<String, SecurityDescriptor> descriptors = new LinkedHashMap<>();
+        Set<String> roles = new LinkedHashSet<>();
+        for (URL url : IndexInput.locate(loader, LOCATION)) {
+            try (InputStream in = url.openStream()) {
+                readEntries(in, descriptors, roles);
+            } catch (IOException e) {
+                throw new IOException("Cannot read " + url, e);
+            }
+        }
+        return new SecurityIndex(descriptors, roles);
+    }
+
+    /**
+     * Reads a single index.
+     *
+     * @param in the stream to read, not closed by this method
+     * @return the index
+     * @throws IOException if the index cannot be read
+     */
+    public static SecurityIndex read(InputStream in) throws IOException {
+        Map<String, SecurityDescriptor> descriptors = new LinkedHashMap<>();
+        Set<String> roles = new LinkedHashSet<>();
+        readEntries(in, descriptors, roles);
+        return new SecurityIndex(descriptors, roles);
+    }
+
+    /**
+     * Returns the binary names of all indexed classes.
+     *
+     * @return an unmodifiable set of class names
+     */
+    public Set<String> classNames() {
+        return descriptors.keySet();
+    }
+
+    /**
+     * Returns the security metadata of a class.
+     *
+     * @param className the binary name of the class
+     * @return the descriptor, or {@code null} if the class is not indexed
+     */
+    public SecurityDescriptor descriptor(String className) {
+        return descriptors.get(className);
+    }
+
+    /**
+     * Returns all security roles of the indexed modules: the roles declared
+     * with {@code DeclareRoles} as well as those referenced by
+     * {@code RolesAllowed} and {@code RunAs}.
+     *
+     * @return an unmodifiable set of role names
+     */
+    public Set<String> roles() {
+        return roles;
+    }
+
+    static void write(Collection<SecurityDescriptor> descriptors, Set<String> roles, OutputStream out)
+            throws IOException {
+        IndexOutput index = new IndexOutput(IndexOutput.KIND_SECURITY);
+        writeStrings(index, roles);
+        index.writeInt(descriptors.size());
+        for (SecurityDescriptor descriptor : descriptors) {
+            index.writeString(descriptor.className());
+            index.writeString(descriptor.runAs());
+            writeStrings(index, descriptor.declaredRoles());
+            index.writeInt(descriptor.methods().size());
+            for (MethodPermission method : descriptor.methods()) {
+                index.writeString(method.name());
+                writeStrings(index, method.parameterTypes());
+                index.writeInt(method.access().ordinal());
+                writeStrings(index, method.roles());
+            }
+        }
+        index.writeTo(out);
+    }
+
+    private static void writeStrings(IndexOutput index, Collection<String> strings) {
+        index.writeInt(strings.size());
+        for (String s : strings) {
+            index.writeString(s);
+        }
+    }
+
+    private static void readEntries(InputStream in, Map<String, SecurityDescriptor> descriptors, Set<String> roles)
+            throws IOException {
+        MethodAccess[] access = MethodAccess.values();
+        IndexInput index = new IndexInput(in, IndexOutput.KIND_SECURITY);
+        roles.addAll(readStrings(index));
+        int count = index.readInt();
+        for (int i = 0; i < count; i++) {
+            String className = index.readString();
+            String runAs = index.readString();
+            Set<String> declaredRoles = readSet(index);
+            int methodCount = index.readInt();
+            List<MethodPermission> methods = new ArrayList<>(methodCount);
+            for (int j = 0; j < methodCount; j++) {
+                String name = index.readString();
+                List<String> parameterTypes = readStrings(index);
+                int ordinal = index.readInt();
+                if (ordinal >= access.length) {
+                    throw new IOException("Corrupt index: unknown access " + ordinal);
+                }
+                methods.add(new MethodPermission(name, parameterTypes, access[ordinal], readSet(index)));
+            }
+            descriptors.put(className, new SecurityDescriptor(className, runAs, declaredRoles,
+                    Collections.unmodifiableList(methods)));
+        }
+    }
+
+    private static List<String> readStrings(IndexInput index) throws IOException {
+        int count = index.readInt();
+        if (count == 0) {
+            return List.of();
+        }
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(index.readString());
+        }
+        return Collections.unmodifiableList(strings);
+    }
+
+    private static Set<String> readSet(IndexInput index) throws IOException {
+        List<String> strings = readStrings(index);
+        return strings.isEmpty() ? Set.of() : Collections.unmodifiableSet(new LinkedHashSet<>(strings));
+    }
+}
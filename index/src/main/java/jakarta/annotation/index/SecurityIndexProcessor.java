@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Annotation processor writing the {@link SecurityIndex}.
+ * <p>
+ * Every class compiled together with the processor that uses the security
+ * annotations, directly or through a superclass, is indexed. The processor
+ * reports an error when more than one of {@code DenyAll},
+ * {@code PermitAll} and {@code RolesAllowed} is applied to the same class
+ * or method.
+ */
+@SupportedAnnotationTypes("*")
+public class SecurityIndexProcessor extends IndexProcessor {
+
+    static final String DENY_ALL = "jakarta.annotation.security.DenyAll";
+    static final String PERMIT_ALL = "jakarta.annotation.security.PermitAll";
+    static final String ROLES_ALLOWED = "jakarta.annotation.security.RolesAllowed";
+    static final String DECLARE_ROLES = "jakarta.annotation.security.DeclareRoles";
+    static final String RUN_AS = "jakarta.annotation.security.RunAs";
+
+    private static final List<String> SECURITY_ANNOTATIONS =
+            List.of(DENY_ALL, PERMIT_ALL, ROLES_ALLOWED, DECLARE_ROLES, RUN_AS);
+
+    private final Map<String, SecurityDescriptor> descriptors = new TreeMap<>();
+    private final Set<String> roles = new TreeSet<>();
+
+    /**
+     * Creates the processor.
+     */
+    public SecurityIndexProcessor() {
+    }
+
+    @Override
+    void collect(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            index(type);
+        }
+    }
+
+    private void index(TypeElement type) {
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            index(nested);
+        }
+        if (type.getKind() != ElementKind.CLASS) {
+            return;
+        }
+        validate(type);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            validate(method);
+        }
+
+        List<TypeElement> hierarchy = hierarchy(type);
+        if (!usesSecurity(hierarchy)) {
+            return;
+        }
+
+        String runAs = "";
+        Set<String> declaredRoles = new TreeSet<>();
+        // methods by erased signature, subclasses replacing the methods they override
+        Map<String, MethodPermission> methods = new LinkedHashMap<>();
+        for (TypeElement t : hierarchy) {
+            AnnotationMirror mirror = mirror(t, RUN_AS);
+            if (mirror != null) {
+                runAs = (String) values(mirror).get("value");
+                roles.add(runAs);
+            }
+            mirror = mirror(t, DECLARE_ROLES);
+            if (mirror != null) {
+                declaredRoles.addAll(strings(mirror));
+            }
+            MethodPermission classLevel = permission(t, "", List.of());
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.PUBLIC)
+                        || method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String name = method.getSimpleName().toString();
+                List<String> parameterTypes = new ArrayList<>(method.getParameters().size());
+                for (VariableElement parameter : method.getParameters()) {
+                    parameterTypes.add(typeName(parameter.asType()));
+                }
+                String signature = name + parameterTypes;
+                MethodPermission permission = permission(method, name, parameterTypes);
+                if (permission == null && classLevel != null) {
+                    permission = new MethodPermission(name, parameterTypes, classLevel.access(), classLevel.roles());
+                }
+                // re-insert so that the order of the descriptor follows the hierarchy
+                methods.remove(signature);
+                if (permission != null) {
+                    methods.put(signature, permission);
+                }
+            }
+        }
+        roles.addAll(declaredRoles);
+        for (MethodPermission permission : methods.values()) {
+            roles.addAll(permission.roles());
+        }
+        String className = binaryName(type);
+        descriptors.put(className, new SecurityDescriptor(className, runAs,
+                Collections.unmodifiableSet(declaredRoles),
+                Collections.unmodifiableList(new ArrayList<>(methods.values()))));
+    }
+
+    /**
+     * Returns the access given by the annotations on a class or method, or
+     * {@code null} if it has none of them. When the annotations conflict,
+     * which is reported for the elements being compiled, the most
+     * restrictive one wins.
+     */
+    private MethodPermission permission(Element element, String name, List<String> parameterTypes) {
+        if (isAnnotated(element, DENY_ALL)) {
+            return new MethodPermission(name, parameterTypes, MethodAccess.DENY_ALL, Set.of());
+        }
+        AnnotationMirror mirror = mirror(element, ROLES_ALLOWED);
+        if (mirror != null) {
+            return new MethodPermission(name, parameterTypes, MethodAccess.ROLES_ALLOWED,
+                    Collections.unmodifiableSet(new TreeSet<>(strings(mirror))));
+        }
+        if (isAnnotated(element, PERMIT_ALL)) {
+            return new MethodPermission(name, parameterTypes, MethodAccess.PERMIT_ALL, Set.of());
+        }
+        return null;
+    }
+
+    private void validate(Element element) {
+        int count = 0;
+        for (String annotation : List.of(DENY_ALL, PERMIT_ALL, ROLES_ALLOWED)) {
+            if (isAnnotated(element, annotation)) {
+                count++;
+            }
+        }
+        if (count > 1) {
+            error("@DenyAll, @PermitAll and @RolesAllowed are mutually exclusive", element);
+        }
+    }
+
+    private static boolean usesSecurity(List<TypeElement> hierarchy) {
+        for (TypeElement type : hierarchy) {
+            if (hasSecurityAnnotation(type)) {
+                return true;
+            }
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (hasSecurityAnnotation(method)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasSecurityAnnotation(Element element) {
+        for (String annotation : SECURITY_ANNOTATIONS) {
+            if (isAnnotated(element, annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    boolean hasEntries() {
+        return !descriptors.isEmpty();
+    }
+
+    @Override
+    String location() {
+        return SecurityIndex.LOCATION;
+    }
+
+    @Override
+    void write(OutputStream out) throws IOException {
+        SecurityIndex.write(descriptors.values(), roles, out);
+    }
+}
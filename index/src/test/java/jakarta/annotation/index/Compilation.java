@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.annotation.Resource;
+
+/**
+ * The result of compiling sources with an index processor, written to a
+ * directory.
+ *
+ * @param output the directory of the classes and index files
+ * @param success whether the compilation succeeded
+ * @param diagnostics the diagnostics reported by the compiler and processor
+ */
+record Compilation(Path output, boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+    /**
+     * Compiles sources, given by the binary names of their top level
+     * classes, against the Jakarta Annotations API and the given
+     * directories.
+     */
+    static Compilation compile(Path output, Processor processor, Map<String, String> sources, Path... classPath) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> units = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new Source(source.getKey(), source.getValue()));
+        }
+        List<String> entries = new ArrayList<>();
+        entries.add(location(Resource.class));
+        for (Path path : classPath) {
+            entries.add(path.toString());
+        }
+        List<String> options = List.of("-d", output.toString(),
+                "-classpath", String.join(File.pathSeparator, entries));
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            Files.createDirectories(output);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, options, null, units);
+            task.setProcessors(List.of(processor));
+            boolean success = task.call();
+            return new Compilation(output, success, diagnostics.getDiagnostics());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the messages of the errors reported.
+     */
+    List<String> errors() {
+        return messages(Diagnostic.Kind.ERROR);
+    }
+
+    /**
+     * Returns the messages of the warnings reported.
+     */
+    List<String> warnings() {
+        return messages(Diagnostic.Kind.WARNING);
+    }
+
+    private List<String> messages(Diagnostic.Kind kind) {
+        return diagnostics.stream()
+                .filter(d -> d.getKind() == kind)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Opens an index file written by the processor.
+     */
+    InputStream open(String location) throws IOException {
+        return Files.newInputStream(output.resolve(location));
+    }
+
+    boolean exists(String location) {
+        return Files.exists(output.resolve(location));
+    }
+
+    /**
+     * Returns a class loader of the compiled classes, which sees neither
+     * the test classes nor the Jakarta Annotations API.
+     */
+    URLClassLoader loader() {
+        try {
+            return new URLClassLoader(new URL[] {output.toUri().toURL()}, ClassLoader.getPlatformClassLoader());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String code;
+
+        Source(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}
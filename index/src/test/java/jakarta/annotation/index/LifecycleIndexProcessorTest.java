@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LifecycleIndexProcessorTest {
+
+    private static final String BASE = """
+            package test;
+
+            import jakarta.annotation.PostConstruct;
+            import jakarta.annotation.PreDestroy;
+
+            public class Base {
+
+                @PostConstruct
+                void init() {
+                }
+
+                @PreDestroy
+                protected void destroy() {
+                }
+            }
+            """;
+
+    private static final String CHILD = """
+            package test;
+
+            import jakarta.annotation.PostConstruct;
+            import jakarta.annotation.PreDestroy;
+
+            public class Child extends Base {
+
+                @PostConstruct
+                void setUp() {
+                }
+
+                @Override
+                @PreDestroy
+                protected void destroy() {
+                }
+            }
+            """;
+
+    private static final String PLAIN = """
+            package test;
+
+            public class Plain extends Base {
+            }
+            """;
+
+    private static final String INVOCATION_CONTEXT = """
+            package jakarta.interceptor;
+
+            public interface InvocationContext {
+            }
+            """;
+
+    private static final String INTERCEPTOR = """
+            package test;
+
+            import jakarta.annotation.PostConstruct;
+            import jakarta.interceptor.InvocationContext;
+
+            public class Interceptor {
+
+                @PostConstruct
+                Object intercept(InvocationContext context) {
+                    return null;
+                }
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    private Compilation compile(Path output, Map<String, String> sources, Path... classPath) {
+        return Compilation.compile(output, new LifecycleIndexProcessor(), sources, classPath);
+    }
+
+    private static LifecycleIndex read(Compilation compilation) throws Exception {
+        try (InputStream in = compilation.open(LifecycleIndex.LOCATION)) {
+            return LifecycleIndex.read(in);
+        }
+    }
+
+    @Test
+    void indexesCallbacksInInvocationOrder() throws Exception {
+        Compilation compilation = compile(directory, Map.of(
+                "test.Base", BASE,
+                "test.Child", CHILD,
+                "test.Plain", PLAIN,
+                "test.Interceptor", INTERCEPTOR,
+                "jakarta.interceptor.InvocationContext", INVOCATION_CONTEXT));
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        LifecycleIndex index = read(compilation);
+        assertEquals(Set.of("test.Base", "test.Child", "test.Plain", "test.Interceptor"), index.classNames());
+        // the overridden callback of the superclass is not invoked
+        assertEquals(List.of(new LifecycleMethod("test.Base", "init", ""),
+                new LifecycleMethod("test.Child", "setUp", "")), index.postConstruct("test.Child"));
+        assertEquals(List.of(new LifecycleMethod("test.Child", "destroy", "")), index.preDestroy("test.Child"));
+        assertEquals(List.of(new LifecycleMethod("test.Base", "destroy", "")), index.preDestroy("test.Plain"));
+        List<LifecycleMethod> intercept = index.postConstruct("test.Interceptor");
+        assertEquals(List.of(new LifecycleMethod("test.Interceptor", "intercept",
+                LifecycleIndexProcessor.INVOCATION_CONTEXT)), intercept);
+        assertTrue(intercept.get(0).isInterceptorMethod());
+        assertEquals(List.of(), index.preDestroy("test.Interceptor"));
+        assertFalse(index.contains("jakarta.interceptor.InvocationContext"));
+    }
+
+    @Test
+    void resolvesIndexedMethods() throws Exception {
+        Compilation compilation = compile(directory, Map.of(
+                "test.Base", BASE,
+                "test.Child", CHILD,
+                "test.Interceptor", INTERCEPTOR,
+                "jakarta.interceptor.InvocationContext", INVOCATION_CONTEXT));
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        try (URLClassLoader loader = compilation.loader()) {
+            LifecycleIndex index = LifecycleIndex.load(loader);
+            Method setUp = index.postConstruct("test.Child").get(1).resolve(loader);
+            assertEquals("setUp", setUp.getName());
+            assertEquals("test.Child", setUp.getDeclaringClass().getName());
+            Method intercept = index.postConstruct("test.Interceptor").get(0).resolve(loader);
+            assertEquals("jakarta.interceptor.InvocationContext", intercept.getParameterTypes()[0].getName());
+        }
+    }
+
+    @Test
+    void indexesSubclassOfCompiledSuperclass() throws Exception {
+        Path base = directory.resolve("base");
+        assertTrue(compile(base, Map.of("test.Base", BASE)).success());
+        Compilation compilation = compile(directory.resolve("plain"), Map.of("test.Plain", PLAIN), base);
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        LifecycleIndex index = read(compilation);
+        assertEquals(Set.of("test.Plain"), index.classNames());
+        assertEquals(List.of(new LifecycleMethod("test.Base", "init", "")), index.postConstruct("test.Plain"));
+    }
+
+    @Test
+    void rejectsInvalidCallbacks() {
+        Compilation compilation = compile(directory, Map.of("test.Invalid", """
+                package test;
+
+                import jakarta.annotation.PostConstruct;
+                import jakarta.annotation.PreDestroy;
+
+                public class Invalid {
+
+                    @PostConstruct
+                    void first() {
+                    }
+
+                    @PostConstruct
+                    int second(String value) {
+                        return 0;
+                    }
+
+                    @PreDestroy
+                    static String destroy() {
+                        return null;
+                    }
+                }
+                """));
+        assertFalse(compilation.success());
+        assertEquals(List.of(
+                "Only one method of a class may be annotated with @PostConstruct",
+                "@PostConstruct method must not have parameters other than an InvocationContext",
+                "@PreDestroy method must return void",
+                "@PreDestroy method must not be static"), compilation.errors());
+    }
+
+    @Test
+    void warnsAboutFinalCallbacks() {
+        Compilation compilation = compile(directory, Map.of("test.Final", """
+                package test;
+
+                import jakarta.annotation.PostConstruct;
+
+                public class Final {
+
+                    @PostConstruct
+                    final void init() {
+                    }
+                }
+                """));
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        assertEquals(List.of("@PostConstruct method should not be final"), compilation.warnings());
+    }
+}
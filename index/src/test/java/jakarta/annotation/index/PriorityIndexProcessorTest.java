@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PriorityIndexProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexesPrioritiesOfClasses() throws Exception {
+        Compilation compilation = Compilation.compile(directory, new PriorityIndexProcessor(), Map.of(
+                "test.Providers", """
+                package test;
+
+                import jakarta.annotation.Priority;
+
+                public class Providers {
+
+                    @Priority(100)
+                    public static class First {
+                    }
+
+                    @Priority(-5)
+                    public static class Negative {
+                    }
+
+                    public static class Unannotated {
+
+                        public void observe(@Priority(7) Object event) {
+                        }
+                    }
+                }
+                """));
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        PriorityIndex index;
+        try (InputStream in = compilation.open(PriorityIndex.LOCATION)) {
+            index = PriorityIndex.read(in);
+        }
+        assertEquals(Map.of("test.Providers$First", 100, "test.Providers$Negative", -5), index.priorities());
+        assertEquals(100, index.priority("test.Providers$First", 0));
+        assertEquals(42, index.priority("test.Providers$Unannotated", 42));
+
+        try (URLClassLoader loader = compilation.loader()) {
+            assertEquals(index.priorities(), PriorityIndex.load(loader).priorities());
+        }
+    }
+
+    @Test
+    void writesNoIndexWithoutPriorities() {
+        Compilation compilation = Compilation.compile(directory, new PriorityIndexProcessor(), Map.of(
+                "test.Plain", """
+                package test;
+
+                public class Plain {
+                }
+                """));
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        assertFalse(compilation.exists(PriorityIndex.LOCATION));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.annotation.Resource;
+
+class ResourceIndexProcessorTest {
+
+    private static final String BEAN = """
+            package test;
+
+            import jakarta.annotation.Resource;
+            import jakarta.annotation.Resources;
+            import javax.sql.DataSource;
+
+            @Resources({
+                @Resource(name = "jms/queue", type = Runnable.class),
+                @Resource(name = "mail", type = String.class, description = "outgoing")
+            })
+            public class Bean {
+
+                @Resource(lookup = "java:app/ds", shareable = false,
+                        authenticationType = Resource.AuthenticationType.APPLICATION)
+                DataSource dataSource;
+
+                @Resource(mappedName = "counts")
+                int[] counts;
+
+                @Resource
+                void setURLBase(String base) {
+                }
+
+                @Resource(type = Integer.class)
+                void setTimeout(Number timeout) {
+                }
+
+                public static class Inner {
+
+                    @Resource
+                    Object value;
+                }
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    private Compilation compile(String source) {
+        return Compilation.compile(directory, new ResourceIndexProcessor(), Map.of("test.Bean", source));
+    }
+
+    @Test
+    void indexesFieldsSettersAndClasses() throws Exception {
+        Compilation compilation = compile(BEAN);
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        ResourceIndex index;
+        try (InputStream in = compilation.open(ResourceIndex.LOCATION)) {
+            index = ResourceIndex.read(in);
+        }
+        assertEquals(Set.of("test.Bean", "test.Bean$Inner"), index.classNames());
+        assertEquals(List.of(
+                new ResourceEntry("test.Bean", ElementType.TYPE, "", "", "jms/queue", "",
+                        "java.lang.Runnable", Resource.AuthenticationType.CONTAINER, true, "", ""),
+                new ResourceEntry("test.Bean", ElementType.TYPE, "", "", "mail", "",
+                        "java.lang.String", Resource.AuthenticationType.CONTAINER, true, "", "outgoing"),
+                new ResourceEntry("test.Bean", ElementType.FIELD, "counts", "[I", "counts", "",
+                        "[I", Resource.AuthenticationType.CONTAINER, true, "counts", ""),
+                new ResourceEntry("test.Bean", ElementType.FIELD, "dataSource", "javax.sql.DataSource",
+                        "dataSource", "java:app/ds", "javax.sql.DataSource",
+                        Resource.AuthenticationType.APPLICATION, false, "", ""),
+                new ResourceEntry("test.Bean", ElementType.METHOD, "setTimeout", "java.lang.Number", "timeout",
+                        "", "java.lang.Integer", Resource.AuthenticationType.CONTAINER, true, "", ""),
+                new ResourceEntry("test.Bean", ElementType.METHOD, "setURLBase", "java.lang.String", "URLBase",
+                        "", "java.lang.String", Resource.AuthenticationType.CONTAINER, true, "", "")),
+                index.entries("test.Bean"));
+        assertEquals(1, index.entries("test.Bean$Inner").size());
+        assertEquals(List.of(), index.entries("test.Missing"));
+    }
+
+    @Test
+    void loadsIndexAndTypesWithClassLoader() throws Exception {
+        Compilation compilation = compile(BEAN);
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        try (URLClassLoader loader = compilation.loader()) {
+            ResourceIndex index = ResourceIndex.load(loader);
+            assertEquals(7, index.entries().size());
+            for (ResourceEntry entry : index.entries("test.Bean")) {
+                switch (entry.memberName()) {
+                    case "dataSource":
+                        assertEquals("javax.sql.DataSource", entry.loadType(loader).getName());
+                        assertSame(entry.loadType(loader), entry.loadMemberType(loader));
+                        break;
+                    case "counts":
+                        assertSame(int[].class, entry.loadMemberType(loader));
+                        break;
+                    case "":
+                        assertThrows(IllegalStateException.class, () -> entry.loadMemberType(loader));
+                        break;
+                    default:
+                        entry.loadType(loader);
+                        break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsMethodsThatAreNotSetters() {
+        Compilation compilation = compile("""
+                package test;
+
+                import jakarta.annotation.Resource;
+
+                public class Bean {
+
+                    @Resource
+                    String getName() {
+                        return null;
+                    }
+                }
+                """);
+        assertFalse(compilation.success());
+        assertEquals(List.of("@Resource method getName must be a JavaBeans setter"), compilation.errors());
+    }
+
+    @Test
+    void rejectsClassDeclarationWithoutType() {
+        Compilation compilation = compile("""
+                package test;
+
+                import jakarta.annotation.Resource;
+
+                @Resource(name = "jdbc/db")
+                public class Bean {
+                }
+                """);
+        assertFalse(compilation.success());
+        assertEquals(List.of("@Resource on a class must specify name and type"), compilation.errors());
+    }
+
+    @Test
+    void writesNoIndexWithoutResources() {
+        Compilation compilation = compile("""
+                package test;
+
+                public class Bean {
+                }
+                """);
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        assertFalse(compilation.exists(ResourceIndex.LOCATION));
+    }
+
+    @Test
+    void derivesPropertyNames() {
+        assertEquals("name", ResourceIndexProcessor.propertyName("setName"));
+        assertEquals("URL", ResourceIndexProcessor.propertyName("setURL"));
+        assertEquals("x", ResourceIndexProcessor.propertyName("setX"));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SecurityIndexProcessorTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "test.Service", """
+            package test;
+
+            import jakarta.annotation.security.DeclareRoles;
+            import jakarta.annotation.security.DenyAll;
+            import jakarta.annotation.security.PermitAll;
+            import jakarta.annotation.security.RolesAllowed;
+            import jakarta.annotation.security.RunAs;
+
+            @DeclareRoles({"admin", "user"})
+            @RolesAllowed("user")
+            @RunAs("system")
+            public class Service {
+
+                public void read() {
+                }
+
+                @PermitAll
+                public void ping() {
+                }
+
+                @DenyAll
+                public void drop(String table, int[] ids) {
+                }
+
+                void internal() {
+                }
+
+                public static void utility() {
+                }
+            }
+            """,
+            "test.Admin", """
+            package test;
+
+            import jakarta.annotation.security.RolesAllowed;
+
+            public class Admin extends Service {
+
+                @Override
+                @RolesAllowed("admin")
+                public void read() {
+                }
+
+                public void audit() {
+                }
+            }
+            """,
+            "test.Unsecured", """
+            package test;
+
+            public class Unsecured {
+
+                public void read() {
+                }
+            }
+            """);
+
+    @TempDir
+    Path directory;
+
+    private Compilation compile(Map<String, String> sources) {
+        return Compilation.compile(directory, new SecurityIndexProcessor(), sources);
+    }
+
+    @Test
+    void resolvesClassAndMethodLevelAccess() throws Exception {
+        Compilation compilation = compile(SOURCES);
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        SecurityIndex index;
+        try (InputStream in = compilation.open(SecurityIndex.LOCATION)) {
+            index = SecurityIndex.read(in);
+        }
+        assertEquals(Set.of("test.Service", "test.Admin"), index.classNames());
+        assertEquals(Set.of("admin", "user", "system"), index.roles());
+
+        SecurityDescriptor service = index.descriptor("test.Service");
+        assertEquals("system", service.runAs());
+        assertEquals(Set.of("admin", "user"), service.declaredRoles());
+        assertEquals(List.of(
+                new MethodPermission("read", List.of(), MethodAccess.ROLES_ALLOWED, Set.of("user")),
+                new MethodPermission("ping", List.of(), MethodAccess.PERMIT_ALL, Set.of()),
+                new MethodPermission("drop", List.of("java.lang.String", "[I"), MethodAccess.DENY_ALL, Set.of())),
+                service.methods());
+
+        // the overriding method takes its own access, methods of the subclass have none
+        SecurityDescriptor admin = index.descriptor("test.Admin");
+        assertEquals("system", admin.runAs());
+        assertEquals(Set.of("admin", "user"), admin.declaredRoles());
+        assertEquals(List.of("ping", "drop", "read"), admin.methods().stream().map(MethodPermission::name).toList());
+        assertEquals(MethodAccess.ROLES_ALLOWED, admin.method("read").access());
+        assertEquals(Set.of("admin"), admin.method("read").roles());
+        assertNull(admin.method("audit"));
+        assertNull(index.descriptor("test.Unsecured"));
+    }
+
+    @Test
+    void decidesPermissions() throws Exception {
+        Compilation compilation = compile(SOURCES);
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        try (URLClassLoader loader = compilation.loader()) {
+            SecurityIndex index = SecurityIndex.load(loader);
+            SecurityDescriptor service = index.descriptor("test.Service");
+            Set<String> user = Set.of("user");
+            assertTrue(service.method("read").permits(user));
+            assertFalse(index.descriptor("test.Admin").method("read").permits(user));
+            assertTrue(service.method("ping").permits(Set.of()));
+
+            Method drop = loader.loadClass("test.Service").getMethod("drop", String.class, int[].class);
+            assertEquals(MethodAccess.DENY_ALL, service.method(drop).access());
+            assertFalse(service.method(drop).permits(Set.of("admin", "user")));
+            assertNull(service.method("drop", "java.lang.String"));
+        }
+    }
+
+    @Test
+    void rejectsConflictingAnnotations() {
+        Compilation compilation = compile(Map.of("test.Conflict", """
+                package test;
+
+                import jakarta.annotation.security.DenyAll;
+                import jakarta.annotation.security.PermitAll;
+
+                public class Conflict {
+
+                    @DenyAll
+                    @PermitAll
+                    public void run() {
+                    }
+                }
+                """));
+        assertFalse(compilation.success());
+        assertEquals(List.of("@DenyAll, @PermitAll and @RolesAllowed are mutually exclusive"),
+                compilation.errors());
+    }
+}
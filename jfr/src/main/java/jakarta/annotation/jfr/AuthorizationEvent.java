@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Records an authorization decision made for the
+ * {@link jakarta.annotation.security.RolesAllowed},
+ * {@link jakarta.annotation.security.PermitAll} or
+ * {@link jakarta.annotation.security.DenyAll} constraint of a method. The
+ * duration of the event, or its {@link #latency} if the decision was
+ * reported after it was made, is the latency of the decision.
+ */
+@Name("jakarta.annotation.Authorization")
+@Label("Authorization")
+@Description("Decision on the access to a secured method")
+@Category({"Jakarta EE", "Annotations"})
+@StackTrace(false)
+public class AuthorizationEvent extends Event {
+
+    /**
+     * The class of the component the method was invoked on.
+     */
+    @Label("Component Class")
+    public Class<?> componentClass;
+
+    /**
+     * The name of the method.
+     */
+    @Label("Method")
+    public String method;
+
+    /**
+     * The roles allowed to invoke the method, separated by commas, empty
+     * if the method is not restricted to roles.
+     */
+    @Label("Roles")
+    public String roles;
+
+    /**
+     * Whether access was granted.
+     */
+    @Label("Permitted")
+    public boolean permitted;
+
+    /**
+     * The time the decision took, as measured by the runtime; {@code 0} if the
+     * duration of the event is measured instead.
+     */
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    public long latency;
+
+    /**
+     * Creates an event.
+     */
+    public AuthorizationEvent() {
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.jfr;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import jakarta.annotation.reflect.AnnotationValues;
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.spi.Instrumentation;
+import jdk.jfr.EventType;
+
+/**
+ * An {@link Instrumentation} committing the events of this package, so
+ * that the behavior measured by the runtime module shows in Java Flight
+ * Recorder recordings.
+ * <p>
+ * This module provides it as a service, and the runtime module installs
+ * it when this module is present. The measured time is reported in the
+ * {@code latency} field of each event. Activities of connection pools have
+ * no event and are ignored. {@link #isEnabled()} is only true while one of
+ * the events is enabled in a recording, so that nothing is measured
+ * otherwise.
+ */
+public final class JfrInstrumentation implements Instrumentation {
+
+    private static final EventType LIFECYCLE = EventType.getEventType(LifecycleCallbackEvent.class);
+    private static final EventType RESOLUTION = EventType.getEventType(ResourceResolutionEvent.class);
+    private static final EventType AUTHORIZATION = EventType.getEventType(AuthorizationEvent.class);
+
+    /**
+     * Creates the instrumentation.
+     */
+    public JfrInstrumentation() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return LIFECYCLE.isEnabled() || RESOLUTION.isEnabled() || AUTHORIZATION.isEnabled();
+    }
+
+    @Override
+    public void lifecycleInvoked(Class<?> componentClass, Class<? extends Annotation> phase,
+            long nanos, Throwable failure) {
+        LifecycleCallbackEvent event = new LifecycleCallbackEvent();
+        if (event.shouldCommit()) {
+            event.componentClass = componentClass;
+            event.phase = phase.getSimpleName();
+            event.latency = nanos;
+            event.failure = failure == null ? null : failure.getClass();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void resourceResolved(String name, Class<?> type, boolean cacheHit, long nanos) {
+        ResourceResolutionEvent event = new ResourceResolutionEvent();
+        if (event.shouldCommit()) {
+            event.name = name;
+            event.type = type;
+            event.cacheHit = cacheHit;
+            event.latency = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void authorized(Class<?> componentClass, Method method, boolean permitted, long nanos) {
+        AuthorizationEvent event = new AuthorizationEvent();
+        if (event.shouldCommit()) {
+            event.componentClass = componentClass;
+            event.method = method.getName();
+            event.roles = roles(componentClass, method);
+            event.permitted = permitted;
+            event.latency = nanos;
+            event.commit();
+        }
+    }
+
+    private static String roles(Class<?> componentClass, Method method) {
+        Set<String> roles = AnnotationValues.rolesAllowed(method);
+        if (roles == null && !method.isAnnotationPresent(PermitAll.class)
+                && !method.isAnnotationPresent(DenyAll.class)) {
+            roles = AnnotationValues.rolesAllowed(componentClass);
+        }
+        return roles == null ? "" : String.join(",", roles);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Records the execution of a {@link jakarta.annotation.PostConstruct} or
+ * {@link jakarta.annotation.PreDestroy} callback. The duration of the
+ * event, or its {@link #latency} if the callback was reported after it
+ * completed, is the time the callback took.
+ */
+@Name("jakarta.annotation.LifecycleCallback")
+@Label("Lifecycle Callback")
+@Description("Execution of a PostConstruct or PreDestroy method")
+@Category({"Jakarta EE", "Annotations"})
+@StackTrace(false)
+public class LifecycleCallbackEvent extends Event {
+
+    /**
+     * The {@link #phase} of a {@code PostConstruct} callback.
+     */
+    public static final String POST_CONSTRUCT = "PostConstruct";
+
+    /**
+     * The {@link #phase} of a {@code PreDestroy} callback.
+     */
+    public static final String PRE_DESTROY = "PreDestroy";
+
+    /**
+     * The class of the component the callback was invoked on.
+     */
+    @Label("Component Class")
+    public Class<?> componentClass;
+
+    /**
+     * The name of the callback method, {@code null} if the callbacks of
+     * the phase were reported together.
+     */
+    @Label("Method")
+    public String method;
+
+    /**
+     * The lifecycle phase, {@link #POST_CONSTRUCT} or {@link #PRE_DESTROY}.
+     */
+    @Label("Phase")
+    public String phase;
+
+    /**
+     * The time the callbacks took, as measured by the runtime; {@code 0} if the
+     * duration of the event is measured instead.
+     */
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    public long latency;
+
+    /**
+     * The class of the exception thrown by the callback, {@code null} if
+     * it completed normally.
+     */
+    @Label("Failure")
+    public Class<?> failure;
+
+    /**
+     * Creates an event.
+     */
+    public LifecycleCallbackEvent() {
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Records the resolution of a resource requested with
+ * {@link jakarta.annotation.Resource}. The duration of the event, or its
+ * {@link #latency} if the resolution was reported after it completed, is
+ * the time the lookup took.
+ */
+@Name("jakarta.annotation.ResourceResolution")
+@Label("Resource Resolution")
+@Description("Resolution of a resource for injection")
+@Category({"Jakarta EE", "Annotations"})
+@StackTrace(false)
+public class ResourceResolutionEvent extends Event {
+
+    /**
+     * The JNDI name of the resource, or the name it was resolved with,
+     * its {@code lookup} name if one was given.
+     */
+    @Label("Name")
+    public String name;
+
+    /**
+     * The {@code lookup} name of the resource, empty if none was given,
+     * {@code null} if the resource was reported by the name it was
+     * resolved with only.
+     */
+    @Label("Lookup")
+    public String lookup;
+
+    /**
+     * The Java type of the resource.
+     */
+    @Label("Type")
+    public Class<?> type;
+
+    /**
+     * Whether the resource was served from a cache.
+     */
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    /**
+     * The time the resolution took, as measured by the runtime; {@code 0} if the
+     * duration of the event is measured instead.
+     */
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    public long latency;
+
+    /**
+     * Creates an event.
+     */
+    public ResourceResolutionEvent() {
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+/**
+ * This package provides Java Flight Recorder events for the behavior
+ * described by the common annotations: the execution of lifecycle
+ * callbacks, authorization decisions and the resolution of resources.
+ * <p>
+ * The events are defined for runtimes to emit. An event is emitted with
+ * the usual pattern, which the JIT compiler reduces to almost nothing
+ * while recording is off:
+ * <pre>{@code
+ * LifecycleCallbackEvent event = new LifecycleCallbackEvent();
+ * event.begin();
+ * invoker.postConstruct(instance);
+ * event.end();
+ * if (event.shouldCommit()) {
+ *     event.componentClass = instance.getClass();
+ *     event.method = "init";
+ *     event.phase = LifecycleCallbackEvent.POST_CONSTRUCT;
+ *     event.commit();
+ * }
+ * }</pre>
+ * With this module present, the runtime module reports its measurements
+ * as these events through {@link jakarta.annotation.jfr.JfrInstrumentation}.
+ */
+package jakarta.annotation.jfr;
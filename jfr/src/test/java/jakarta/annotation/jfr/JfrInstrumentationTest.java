@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.annotation.inject.ResourceCache;
+import jakarta.annotation.inject.ResourceKey;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.annotation.spi.Instrumentation;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+class JfrInstrumentationTest {
+
+    @RolesAllowed({"admin", "auditor"})
+    static class Secured {
+
+        @RolesAllowed("operator")
+        public void operate() {
+        }
+
+        public void audit() {
+        }
+
+        @PermitAll
+        public void read() {
+        }
+    }
+
+    private final JfrInstrumentation instrumentation = new JfrInstrumentation();
+    private final BlockingQueue<RecordedEvent> events = new LinkedBlockingQueue<>();
+    private RecordingStream stream;
+
+    @BeforeEach
+    void record() {
+        assertFalse(instrumentation.isEnabled());
+        stream = new RecordingStream();
+        for (Class<? extends Event> type : List.of(LifecycleCallbackEvent.class, ResourceResolutionEvent.class,
+                AuthorizationEvent.class)) {
+            stream.enable(type);
+            stream.onEvent(type.getAnnotation(Name.class).value(), events::add);
+        }
+        stream.startAsync();
+    }
+
+    @AfterEach
+    void stop() {
+        stream.close();
+    }
+
+    private RecordedEvent next() throws InterruptedException {
+        RecordedEvent event = events.poll(30, TimeUnit.SECONDS);
+        assertNotNull(event, "no event recorded");
+        return event;
+    }
+
+    @Test
+    void isInstalledAsInstrumentation() {
+        assertInstanceOf(JfrInstrumentation.class, Instrumentation.get());
+        assertTrue(instrumentation.isEnabled());
+    }
+
+    @Test
+    void commitsLifecycleCallbackEvents() throws Exception {
+        instrumentation.lifecycleInvoked(Secured.class, PostConstruct.class, 1500, null);
+        instrumentation.lifecycleInvoked(Secured.class, PreDestroy.class, 10, new IllegalStateException());
+
+        RecordedEvent postConstruct = next();
+        assertEquals("jakarta.annotation.LifecycleCallback", postConstruct.getEventType().getName());
+        assertEquals(Secured.class.getName(), postConstruct.getClass("componentClass").getName());
+        assertEquals(LifecycleCallbackEvent.POST_CONSTRUCT, postConstruct.getString("phase"));
+        assertEquals(Duration.ofNanos(1500), postConstruct.getDuration("latency"));
+        assertNull(postConstruct.getClass("failure"));
+        assertNull(postConstruct.getString("method"));
+
+        RecordedEvent preDestroy = next();
+        assertEquals(LifecycleCallbackEvent.PRE_DESTROY, preDestroy.getString("phase"));
+        assertEquals(IllegalStateException.class.getName(), preDestroy.getClass("failure").getName());
+    }
+
+    @Test
+    void commitsAuthorizationEvents() throws Exception {
+        instrumentation.authorized(Secured.class, Secured.class.getMethod("operate"), true, 20);
+        instrumentation.authorized(Secured.class, Secured.class.getMethod("audit"), false, 30);
+        instrumentation.authorized(Secured.class, Secured.class.getMethod("read"), true, 40);
+
+        RecordedEvent operate = next();
+        assertEquals("jakarta.annotation.Authorization", operate.getEventType().getName());
+        assertEquals(Secured.class.getName(), operate.getClass("componentClass").getName());
+        assertEquals("operate", operate.getString("method"));
+        assertEquals("operator", operate.getString("roles"));
+        assertTrue(operate.getBoolean("permitted"));
+        assertEquals(Duration.ofNanos(20), operate.getDuration("latency"));
+
+        RecordedEvent audit = next();
+        // roles of the class apply to methods without constraint
+        assertEquals("admin,auditor", audit.getString("roles"));
+        assertFalse(audit.getBoolean("permitted"));
+        assertEquals("", next().getString("roles"));
+    }
+
+    @Test
+    void commitsResourceResolutionEventsOfTheRuntime() throws Exception {
+        ResourceCache cache = new ResourceCache(key -> "resource", 16);
+        ResourceKey key = new ResourceKey("java:global/jdbc/orders", String.class,
+                Resource.AuthenticationType.CONTAINER, null);
+        cache.get(key, true, null);
+        cache.get(key, true, null);
+
+        RecordedEvent miss = next();
+        assertEquals("jakarta.annotation.ResourceResolution", miss.getEventType().getName());
+        assertEquals("java:global/jdbc/orders", miss.getString("name"));
+        assertEquals(String.class.getName(), miss.getClass("type").getName());
+        assertFalse(miss.getBoolean("cacheHit"));
+        assertTrue(miss.getDuration("latency").toNanos() > 0);
+        assertTrue(next().getBoolean("cacheHit"));
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.sql.CommonDataSource;
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.DataSource;
+import javax.sql.PooledConnection;
+import javax.sql.XADataSource;
+
+import jakarta.annotation.sql.DataSourceDefinition;
+
+/**
+ * Opens the physical connections of a pool, using the class named by
+ * {@link DataSourceDefinition#className()}.
+ * <p>
+ * The class may implement {@link DataSource},
+ * {@link ConnectionPoolDataSource} or {@link XADataSource}, which are
+ * configured through their JavaBeans setters, or {@link Driver}, which is
+ * given the {@code url} and the other properties as connection
+ * properties. The properties of the {@code properties} element are
+ * applied first, so that the annotation elements take precedence, and the
+ * {@code url} last, as some data sources derive their other properties
+ * from it. {@code serverName} is only applied without a {@code url}, as
+ * its default would override the host of the URL. Properties for which a
+ * data source has no setter are ignored.
+ */
+final class ConnectionFactory {
+
+    private static final System.Logger LOGGER = System.getLogger(ConnectionFactory.class.getName());
+
+    private final String name;
+    private final Object source;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final Properties properties;
+
+    private ConnectionFactory(String name, Object source, String url, String user, String password,
+            Properties properties) {
+        this.name = name;
+        this.source = source;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates the factory of a data source definition.
+     *
+     * @throws IllegalArgumentException if the class cannot be instantiated
+     *         or is not of one of the supported types
+     */
+    static ConnectionFactory of(DataSourceDefinition definition, ClassLoader loader) {
+        Object source;
+        try {
+            source = Class.forName(definition.className(), true, loader).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalArgumentException("Cannot instantiate " + definition.className()
+                    + " of data source " + definition.name(), e);
+        }
+        if (!(source instanceof CommonDataSource) && !(source instanceof Driver)) {
+            throw new IllegalArgumentException(definition.className() + " of data source " + definition.name()
+                    + " is neither a DataSource, ConnectionPoolDataSource, XADataSource nor Driver");
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String property : definition.properties()) {
+            int i = property.indexOf('=');
+            if (i <= 0) {
+                throw new IllegalArgumentException("Invalid property of data source " + definition.name()
+                        + ": " + property);
+            }
+            values.put(property.substring(0, i).trim(), property.substring(i + 1).trim());
+        }
+        String url = definition.url();
+        putIfNotEmpty(values, "user", definition.user());
+        putIfNotEmpty(values, "password", definition.password());
+        putIfNotEmpty(values, "databaseName", definition.databaseName());
+        putIfNotEmpty(values, "description", definition.description());
+        if (definition.portNumber() >= 0) {
+            values.put("portNumber", Integer.toString(definition.portNumber()));
+        }
+        if (url.isEmpty()) {
+            putIfNotEmpty(values, "serverName", definition.serverName());
+        }
+
+        Properties properties = new Properties();
+        if (source instanceof Driver) {
+            if (url.isEmpty()) {
+                throw new IllegalArgumentException("Data source " + definition.name() + " requires a url");
+            }
+            properties.putAll(values);
+        } else {
+            CommonDataSource dataSource = (CommonDataSource) source;
+            values.remove("user");
+            values.remove("password");
+            for (Map.Entry<String, String> e : values.entrySet()) {
+                configure(dataSource, e.getKey(), e.getValue());
+            }
+            if (!url.isEmpty()) {
+                configure(dataSource, "url", url);
+            }
+            try {
+                dataSource.setLoginTimeout(Math.max(definition.loginTimeout(), 0));
+            } catch (SQLException e) {
+                LOGGER.log(System.Logger.Level.DEBUG, "Ignoring login timeout of data source " + definition.name(), e);
+            }
+        }
+        return new ConnectionFactory(definition.name(), source, url, definition.user(), definition.password(),
+                properties);
+    }
+
+    /**
+     * Opens a physical connection.
+     */
+    PoolEntry open() throws SQLException {
+        if (source instanceof DataSource) {
+            DataSource dataSource = (DataSource) source;
+            return new PoolEntry(user.isEmpty()
+                    ? dataSource.getConnection()
+                    : dataSource.getConnection(user, password), null);
+        }
+        PooledConnection pooled;
+        if (source instanceof ConnectionPoolDataSource) {
+            ConnectionPoolDataSource dataSource = (ConnectionPoolDataSource) source;
+            pooled = user.isEmpty() ? dataSource.getPooledConnection() : dataSource.getPooledConnection(user, password);
+        } else if (source instanceof XADataSource) {
+            XADataSource dataSource = (XADataSource) source;
+            pooled = user.isEmpty() ? dataSource.getXAConnection() : dataSource.getXAConnection(user, password);
+        } else {
+            Connection connection = ((Driver) source).connect(url, properties);
+            if (connection == null) {
+                throw new SQLException("Driver " + source.getClass().getName() + " of data source " + name
+                        + " does not accept " + url, "08001");
+            }
+            return new PoolEntry(connection, null);
+        }
+        try {
+            return new PoolEntry(pooled.getConnection(), pooled);
+        } catch (SQLException | RuntimeException e) {
+            try {
+                pooled.close();
+            } catch (SQLException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether the given credentials are those of the definition.
+     */
+    boolean isUser(String user, String password) {
+        return this.user.equals(user) && this.password.equals(password);
+    }
+
+    private static void putIfNotEmpty(Map<String, String> values, String key, String value) {
+        if (!value.isEmpty()) {
+            values.put(key, value);
+        }
+    }
+
+    /**
+     * Sets a property through the JavaBeans setter of a data source,
+     * matching the name of the setter case-insensitively so that both
+     * {@code setUrl} and {@code setURL} are found.
+     */
+    private static void configure(CommonDataSource dataSource, String property, String value) {
+        String setter = "set" + property;
+        for (Method method : dataSource.getClass().getMethods()) {
+            if (method.getParameterCount() != 1
+                    || Modifier.isStatic(method.getModifiers())
+                    || !method.getName().equalsIgnoreCase(setter)) {
+                continue;
+            }
+            Object argument = convert(value, method.getParameterTypes()[0]);
+            if (argument == null) {
+                continue;
+            }
+            try {
+                method.invoke(dataSource, argument);
+                return;
+            } catch (InvocationTargetException e) {
+                throw new IllegalArgumentException("Cannot set " + property + " of " + dataSource.getClass().getName(),
+                        e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot set " + property + " of " + dataSource.getClass().getName(),
+                        e);
+            }
+        }
+        LOGGER.log(System.Logger.Level.DEBUG, "Ignoring unsupported property " + property + " of "
+                + dataSource.getClass().getName());
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        try {
+            if (type == String.class) {
+                return value;
+            } else if (type == int.class || type == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (type == long.class || type == Long.class) {
+                return Long.valueOf(value);
+            } else if (type == short.class || type == Short.class) {
+                return Short.valueOf(value);
+            } else if (type == boolean.class || type == Boolean.class) {
+                return Boolean.valueOf(value.toLowerCase(Locale.ROOT));
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + type.getName() + ": " + value, e);
+        }
+        return null;
+    }
+}
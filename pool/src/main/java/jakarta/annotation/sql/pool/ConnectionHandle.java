@@ -0,0 +1,704 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * The connection handed out by a pool for a borrowed physical connection.
+ * <p>
+ * Closing the handle closes the statements created through it and returns
+ * the physical connection to the pool; the handle is unusable afterwards.
+ * Statements are wrapped so that {@link Statement#getConnection()} returns
+ * the handle, never the physical connection. Prepared statements come
+ * from and go back to the statement cache of the physical connection.
+ * <p>
+ * The handle keeps track of the session attributes the application
+ * changes, such as the auto-commit mode and the isolation level, and of
+ * whether it may have started a transaction. Closing the handle rolls
+ * back and restores only as needed, rather than resetting every attribute
+ * of every returned connection. Once the application unwraps the physical
+ * connection, through which it can change any attribute unseen, closing
+ * the handle rolls back and restores all of them, and the connection is
+ * discarded if they cannot be read beforehand.
+ */
+final class ConnectionHandle implements Connection {
+
+    private static final System.Logger LOGGER = System.getLogger(ConnectionHandle.class.getName());
+
+    private static final int AUTO_COMMIT = 1;
+    private static final int ISOLATION = 1 << 1;
+    private static final int READ_ONLY = 1 << 2;
+    private static final int CATALOG = 1 << 3;
+    private static final int SCHEMA = 1 << 4;
+    private static final int HOLDABILITY = 1 << 5;
+    private static final int TYPE_MAP = 1 << 6;
+    private static final int CLIENT_INFO = 1 << 7;
+    private static final int NETWORK_TIMEOUT = 1 << 8;
+    private static final int ALL = (1 << 9) - 1;
+
+    /**
+     * Runs the abort of a connection whose network timeout is restored.
+     */
+    private static final Executor NETWORK_TIMEOUT_EXECUTOR = Thread::startVirtualThread;
+
+    private final DataSourcePool pool;
+    private final PoolEntry entry;
+    private volatile Connection connection;
+    // guarded by this
+    private final List<Statement> statements = new ArrayList<>();
+
+    // the session attributes the application changed, and their values before the first change
+    private int changed;
+    private int isolation;
+    private boolean readOnly;
+    private String catalog;
+    private String schema;
+    // the catalog and schema as set through the handle
+    private String currentCatalog;
+    private String currentSchema;
+    private int holdability;
+    private Map<String, Class<?>> typeMap;
+    private Properties clientInfo;
+    private int networkTimeout;
+    // the auto-commit mode as set through the handle
+    private boolean autoCommit;
+    // whether the application may have started a transaction
+    private boolean transaction;
+    // whether the application unwrapped the physical connection
+    private boolean unwrapped;
+    // whether the attributes could not be captured before unwrapping
+    private boolean unrestorable;
+
+    ConnectionHandle(DataSourcePool pool, PoolEntry entry) {
+        this.pool = pool;
+        this.entry = entry;
+        this.connection = entry.connection;
+        this.autoCommit = pool.configuration().autoCommit();
+    }
+
+    private Connection connection() throws SQLException {
+        Connection c = connection;
+        if (c == null) {
+            throw new SQLNonTransientConnectionException("Connection is closed", "08003");
+        }
+        return c;
+    }
+
+    /**
+     * Returns the physical connection for an operation that may start a
+     * transaction.
+     */
+    private Connection transactional() throws SQLException {
+        Connection c = connection();
+        transaction = true;
+        return c;
+    }
+
+    /**
+     * Restores the session attributes the application changed, after
+     * rolling back the transaction it may have left open. Attributes it did
+     * not change are left alone, sparing the round trips to the database.
+     *
+     * @return {@code false} if the connection is unusable
+     */
+    private boolean restore() {
+        Connection c = entry.connection;
+        PoolConfiguration configuration = pool.configuration();
+        try {
+            if (unrestorable || c.isClosed()) {
+                return false;
+            }
+            // after unwrapping, the application may have changed the auto-commit mode unseen
+            boolean autoCommit = unwrapped ? c.getAutoCommit() : this.autoCommit;
+            if (!autoCommit && transaction) {
+                c.rollback();
+            }
+            if ((changed & AUTO_COMMIT) != 0 && autoCommit != configuration.autoCommit()) {
+                c.setAutoCommit(configuration.autoCommit());
+            }
+            if ((changed & ISOLATION) != 0) {
+                c.setTransactionIsolation(isolation);
+            }
+            if ((changed & READ_ONLY) != 0) {
+                c.setReadOnly(readOnly);
+            }
+            if ((changed & CATALOG) != 0) {
+                c.setCatalog(catalog);
+            }
+            if ((changed & SCHEMA) != 0) {
+                c.setSchema(schema);
+            }
+            if ((changed & HOLDABILITY) != 0) {
+                c.setHoldability(holdability);
+            }
+            if ((changed & TYPE_MAP) != 0) {
+                c.setTypeMap(typeMap);
+            }
+            if ((changed & CLIENT_INFO) != 0) {
+                c.setClientInfo(clientInfo);
+            }
+            if ((changed & NETWORK_TIMEOUT) != 0) {
+                c.setNetworkTimeout(NETWORK_TIMEOUT_EXECUTOR, networkTimeout);
+            }
+            c.clearWarnings();
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Discarding connection of pool " + configuration.name()
+                    + " that cannot be restored", e);
+            return false;
+        }
+    }
+
+    private <T extends Statement> T track(T statement, Class<T> type) throws SQLException {
+        T handle = StatementHandler.wrap(this, statement, type);
+        synchronized (this) {
+            if (connection == null) {
+                statement.close();
+                throw new SQLNonTransientConnectionException("Connection is closed", "08003");
+            }
+            statements.add(handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Prepares a statement, taking it from the statement cache of the
+     * connection if one is cached for the key.
+     */
+    private <T extends PreparedStatement> T prepare(StatementCache.Key key, Class<T> type) throws SQLException {
+        Connection c = transactional();
+        StatementCache cache = entry.statements;
+        // after unwrapping, the catalog and schema of the key may not be those of the connection
+        if (!cache.isEnabled() || unwrapped) {
+            return track(create(c, key, type), type);
+        }
+        PreparedStatement statement = cache.take(key);
+        if (statement == null) {
+            statement = create(c, key, type);
+        }
+        T handle = StatementHandler.wrap(this, type.cast(statement), type, key);
+        synchronized (this) {
+            if (connection == null) {
+                cache.put(key, statement);
+                throw new SQLNonTransientConnectionException("Connection is closed", "08003");
+            }
+            statements.add(handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the key of a prepared statement. It includes the catalog and
+     * schema only if the application changed them, as unqualified names in
+     * the SQL text resolve against them.
+     */
+    private StatementCache.Key key(String sql, int resultSetType, int resultSetConcurrency,
+            int resultSetHoldability, boolean callable) {
+        return new StatementCache.Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, callable,
+                (changed & CATALOG) != 0 ? currentCatalog : null, (changed & SCHEMA) != 0 ? currentSchema : null);
+    }
+
+    private static <T extends PreparedStatement> T create(Connection c, StatementCache.Key key, Class<T> type)
+            throws SQLException {
+        if (key.callable()) {
+            return type.cast(key.resultSetHoldability() == 0
+                    ? c.prepareCall(key.sql(), key.resultSetType(), key.resultSetConcurrency())
+                    : c.prepareCall(key.sql(), key.resultSetType(), key.resultSetConcurrency(),
+                            key.resultSetHoldability()));
+        }
+        return type.cast(key.resultSetHoldability() == 0
+                ? c.prepareStatement(key.sql(), key.resultSetType(), key.resultSetConcurrency())
+                : c.prepareStatement(key.sql(), key.resultSetType(), key.resultSetConcurrency(),
+                        key.resultSetHoldability()));
+    }
+
+    /**
+     * Puts a prepared statement closed by the application back into the
+     * statement cache of the connection.
+     */
+    void recycle(StatementCache.Key key, PreparedStatement statement) {
+        entry.statements.put(key, statement);
+    }
+
+    synchronized void forget(Statement statement) {
+        statements.remove(statement);
+    }
+
+    /**
+     * Detaches the handle from the physical connection, returning the
+     * statements that are still open, or {@code null} if the handle was
+     * already closed.
+     */
+    private synchronized List<Statement> detach() {
+        if (connection == null) {
+            return null;
+        }
+        connection = null;
+        List<Statement> open = new ArrayList<>(statements);
+        statements.clear();
+        return open;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        List<Statement> open = detach();
+        if (open == null) {
+            return;
+        }
+        boolean broken = false;
+        for (Statement statement : open) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                broken = true;
+            }
+        }
+        broken |= !restore();
+        entry.statements.closeEvicted();
+        pool.release(entry, broken);
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        if (executor == null) {
+            throw new SQLException("Executor is null");
+        }
+        if (detach() != null) {
+            pool.abort(entry, executor);
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return connection == null;
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return track(transactional().createStatement(), Statement.class);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return track(transactional().createStatement(resultSetType, resultSetConcurrency), Statement.class);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        return track(transactional().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability),
+                Statement.class);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return prepare(key(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, 0, false),
+                PreparedStatement.class);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        return prepare(key(sql, resultSetType, resultSetConcurrency, 0, false),
+                PreparedStatement.class);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+            int resultSetHoldability) throws SQLException {
+        return prepare(key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, false),
+                PreparedStatement.class);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return track(transactional().prepareStatement(sql, autoGeneratedKeys), PreparedStatement.class);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return track(transactional().prepareStatement(sql, columnIndexes), PreparedStatement.class);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return track(transactional().prepareStatement(sql, columnNames), PreparedStatement.class);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return prepare(key(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, 0, true),
+                CallableStatement.class);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        return prepare(key(sql, resultSetType, resultSetConcurrency, 0, true),
+                CallableStatement.class);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
+            int resultSetHoldability) throws SQLException {
+        return prepare(key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, true),
+                CallableStatement.class);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return connection().nativeSQL(sql);
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        connection().setAutoCommit(autoCommit);
+        this.autoCommit = autoCommit;
+        changed |= AUTO_COMMIT;
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return connection().getAutoCommit();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        connection().commit();
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        connection().rollback();
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        connection().rollback(savepoint);
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return transactional().setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return transactional().setSavepoint(name);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        connection().releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return transactional().getMetaData();
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        Connection c = connection();
+        if ((changed & READ_ONLY) == 0) {
+            this.readOnly = c.isReadOnly();
+        }
+        c.setReadOnly(readOnly);
+        changed |= READ_ONLY;
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return connection().isReadOnly();
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        Connection c = connection();
+        if ((changed & CATALOG) == 0) {
+            this.catalog = c.getCatalog();
+        }
+        c.setCatalog(catalog);
+        currentCatalog = catalog;
+        changed |= CATALOG;
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return connection().getCatalog();
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        Connection c = connection();
+        if ((changed & ISOLATION) == 0) {
+            int configured = pool.configuration().isolationLevel();
+            this.isolation = configured != -1 ? configured : c.getTransactionIsolation();
+        }
+        c.setTransactionIsolation(level);
+        changed |= ISOLATION;
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return connection().getTransactionIsolation();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return connection().getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        connection().clearWarnings();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return connection().getTypeMap();
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        Connection c = connection();
+        if ((changed & TYPE_MAP) == 0) {
+            this.typeMap = c.getTypeMap();
+        }
+        c.setTypeMap(map);
+        changed |= TYPE_MAP;
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        Connection c = connection();
+        if ((changed & HOLDABILITY) == 0) {
+            this.holdability = c.getHoldability();
+        }
+        c.setHoldability(holdability);
+        changed |= HOLDABILITY;
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return connection().getHoldability();
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return transactional().createClob();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return transactional().createBlob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return transactional().createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return transactional().createSQLXML();
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        Connection c = connection;
+        return c != null && c.isValid(timeout);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        clientInfoConnection().setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        clientInfoConnection().setClientInfo(properties);
+    }
+
+    /**
+     * Returns the physical connection for changing client info properties,
+     * capturing their values before the first change.
+     */
+    private Connection clientInfoConnection() throws SQLClientInfoException {
+        Connection c = connection;
+        if (c == null) {
+            throw new SQLClientInfoException("Connection is closed", "08003", 0, Map.of());
+        }
+        if ((changed & CLIENT_INFO) == 0) {
+            try {
+                this.clientInfo = copy(c.getClientInfo());
+            } catch (SQLException e) {
+                throw new SQLClientInfoException(e.getMessage(), e.getSQLState(), e.getErrorCode(), Map.of(), e);
+            }
+            // marked before the change, which may fail for some properties only
+            changed |= CLIENT_INFO;
+        }
+        return c;
+    }
+
+    private static Properties copy(Properties properties) {
+        Properties copy = new Properties();
+        if (properties != null) {
+            copy.putAll(properties);
+        }
+        return copy;
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return connection().getClientInfo(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return connection().getClientInfo();
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        return transactional().createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        return transactional().createStruct(typeName, attributes);
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        Connection c = connection();
+        if ((changed & SCHEMA) == 0) {
+            this.schema = c.getSchema();
+        }
+        c.setSchema(schema);
+        currentSchema = schema;
+        changed |= SCHEMA;
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return connection().getSchema();
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        Connection c = connection();
+        if ((changed & NETWORK_TIMEOUT) == 0) {
+            this.networkTimeout = c.getNetworkTimeout();
+        }
+        c.setNetworkTimeout(executor, milliseconds);
+        changed |= NETWORK_TIMEOUT;
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return connection().getNetworkTimeout();
+    }
+
+    /**
+     * Unwraps the physical connection. Since the application can change
+     * any session attribute through it, the attributes not changed through
+     * the handle so far are captured first, so that closing the handle
+     * restores all of them.
+     */
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        Connection c = connection();
+        T unwrapped = c.unwrap(iface);
+        if (!this.unwrapped) {
+            captureAll(c);
+        }
+        return unwrapped;
+    }
+
+    private void captureAll(Connection c) {
+        unwrapped = true;
+        transaction = true;
+        try {
+            if ((changed & ISOLATION) == 0) {
+                int configured = pool.configuration().isolationLevel();
+                this.isolation = configured != -1 ? configured : c.getTransactionIsolation();
+            }
+            if ((changed & READ_ONLY) == 0) {
+                this.readOnly = c.isReadOnly();
+            }
+            if ((changed & CATALOG) == 0) {
+                this.catalog = c.getCatalog();
+            }
+            if ((changed & SCHEMA) == 0) {
+                this.schema = c.getSchema();
+            }
+            if ((changed & HOLDABILITY) == 0) {
+                this.holdability = c.getHoldability();
+            }
+            if ((changed & TYPE_MAP) == 0) {
+                this.typeMap = c.getTypeMap();
+            }
+            if ((changed & CLIENT_INFO) == 0) {
+                this.clientInfo = copy(c.getClientInfo());
+            }
+            if ((changed & NETWORK_TIMEOUT) == 0) {
+                this.networkTimeout = c.getNetworkTimeout();
+            }
+            changed = ALL;
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Discarding unwrapped connection of pool "
+                    + pool.configuration().name() + " whose attributes cannot be read", e);
+            unrestorable = true;
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || connection().isWrapperFor(iface);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionHandle[" + connection + "]";
+    }
+}
@@ -0,0 +1,1055 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.io.PrintWriter;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import jakarta.annotation.spi.Instrumentation;
+import jakarta.annotation.spi.PoolActivity;
+import jakarta.annotation.sql.DataSourceDefinition;
+
+/**
+ * A pool of the connections of a data source defined with
+ * {@link DataSourceDefinition}, honoring its pooling attributes as
+ * described by {@link PoolConfiguration}.
+ * <p>
+ * The pool opens {@code initialPoolSize} connections in parallel on
+ * virtual threads when it is created, and is handed to the application
+ * once the {@linkplain PoolConfiguration#readyFraction() ready fraction}
+ * of them is open, or {@code loginTimeout} elapsed; the rest are opened
+ * in the background. It keeps at least {@code minPoolSize} connections open, replacing
+ * connections that are discarded in the background. Connections are
+ * opened on demand up to {@code maxPoolSize}; beyond that,
+ * {@link #getConnection()} waits for a connection to be returned, at most
+ * for {@code loginTimeout}. Each connection caches the prepared statements
+ * closed by the application, up to its share of {@code maxStatements},
+ * and hands them out again for the same SQL and result set attributes.
+ * Connections are handed out in the auto-commit
+ * mode and with the isolation level of the definition and are restored to
+ * them when they are returned, after rolling back uncommitted work.
+ * Connections that cannot be restored are discarded. Connections idle for
+ * longer than {@code maxIdleTime} are closed as long as more than
+ * {@code minPoolSize} connections are open; their idle timeouts are kept
+ * on a hashed timer wheel shared by all pools, so that neither a timer
+ * per connection nor a periodic scan of every pool is needed.
+ * <p>
+ * Borrowing takes no lock. A platform thread first tries the connections
+ * it returned most recently, then every thread claims the first idle
+ * connection of the pool by compare-and-set. Threads that find none wait
+ * in a fair handoff queue, which parks virtual threads without pinning
+ * their carrier, and are handed connections as they are returned.
+ * {@link #acquire()} borrows without blocking the caller at all.
+ * <p>
+ * A {@link PoolAutoscaler} may be attached to a pool to adjust its size
+ * limit between {@code minPoolSize} and {@code maxPoolSize} to the
+ * demand.
+ * <p>
+ * The pool reports its activity to the installed
+ * {@link Instrumentation}. Instances of this class are safe for use by
+ * multiple threads.
+ */
+public final class DataSourcePool implements DataSource, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(DataSourcePool.class.getName());
+
+    private static final Instrumentation INSTRUMENTATION = Instrumentation.get();
+
+    /**
+     * The number of connections a thread remembers having returned.
+     */
+    private static final int RECENT_SIZE = 16;
+
+    /**
+     * Handed to a waiting borrower to have it look again, when a connection
+     * is removed or the pool is closed.
+     */
+    private static final PoolEntry WAKE_UP = new PoolEntry(null, null);
+
+    static {
+        WAKE_UP.state(PoolEntry.REMOVED);
+    }
+
+    private final PoolConfiguration configuration;
+    private final ConnectionFactory factory;
+
+    // the open connections in the order they were opened, idle or not
+    private final CopyOnWriteArrayList<PoolEntry> entries = new CopyOnWriteArrayList<>();
+    // the open connections including those being opened
+    private final AtomicInteger size = new AtomicInteger();
+    // the borrowers looking for an idle connection or waiting for one
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final SynchronousQueue<PoolEntry> handoff = new SynchronousQueue<>(true);
+    // the callers of acquire() waiting for a connection, in arrival order
+    private final ConcurrentLinkedQueue<Acquisition> acquisitions = new ConcurrentLinkedQueue<>();
+    private final ThreadFactory openers;
+    // whether a virtual thread is opening connections up to the minimum size
+    private final AtomicBoolean filling = new AtomicBoolean();
+    // held weakly, a thread that no longer borrows must not keep retired connections reachable
+    private final ThreadLocal<List<WeakReference<PoolEntry>>> recent =
+            ThreadLocal.withInitial(() -> new ArrayList<>(RECENT_SIZE));
+
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private volatile boolean closed;
+    // the maximum size, or the size chosen by the autoscaler
+    private volatile int limit;
+    private volatile PoolAutoscaler autoscaler;
+    private volatile int loginTimeout;
+    private volatile PrintWriter logWriter;
+
+    private DataSourcePool(PoolConfiguration configuration, ConnectionFactory factory) {
+        this.configuration = configuration;
+        this.factory = factory;
+        this.loginTimeout = (int) configuration.loginTimeout().toSeconds();
+        this.limit = configuration.maxPoolSize();
+        this.openers = Thread.ofVirtual()
+                .name("jakarta.annotation.sql.pool open " + configuration.name())
+                .factory();
+    }
+
+    /**
+     * Creates a pool, loading the class of the definition with the thread
+     * context class loader.
+     *
+     * @param definition the data source definition
+     * @return the pool
+     * @throws IllegalArgumentException if the definition is invalid
+     */
+    public static DataSourcePool create(DataSourceDefinition definition) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return create(definition, loader != null ? loader : DataSourcePool.class.getClassLoader());
+    }
+
+    /**
+     * Creates a pool and opens its initial connections. Failing to open
+     * them is logged; they are opened again on demand.
+     *
+     * @param definition the data source definition
+     * @param loader the class loader to load the class of the definition with
+     * @return the pool
+     * @throws IllegalArgumentException if the definition is invalid
+     */
+    public static DataSourcePool create(DataSourceDefinition definition, ClassLoader loader) {
+        return create(definition, PoolConfiguration.of(definition), loader);
+    }
+
+    /**
+     * Creates a pool with the given configuration in place of the pooling
+     * attributes of the definition, and opens its initial connections.
+     * Returns once the ready fraction of them is open, or the login timeout
+     * elapsed. Failing to open them is logged; they are opened again on
+     * demand.
+     *
+     * @param definition the data source definition
+     * @param configuration the configuration of the pool
+     * @param loader the class loader to load the class of the definition with
+     * @return the pool
+     * @throws IllegalArgumentException if the definition is invalid
+     */
+    public static DataSourcePool create(DataSourceDefinition definition, PoolConfiguration configuration,
+            ClassLoader loader) {
+        Objects.requireNonNull(definition, "definition");
+        Objects.requireNonNull(configuration, "configuration");
+        DataSourcePool pool = new DataSourcePool(configuration, ConnectionFactory.of(definition, loader));
+        pool.warmUp();
+        pool.awaitReady();
+        return pool;
+    }
+
+    /**
+     * Returns the configuration of this pool.
+     *
+     * @return the configuration
+     */
+    public PoolConfiguration configuration() {
+        return configuration;
+    }
+
+    /**
+     * Returns the number of open physical connections.
+     *
+     * @return the number of connections, borrowed or idle
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of idle physical connections.
+     *
+     * @return the number of connections available for borrowing
+     */
+    public int idleCount() {
+        int idle = 0;
+        for (PoolEntry entry : entries) {
+            if (entry.state() == PoolEntry.IDLE) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    /**
+     * Borrows a connection, waiting at most for the login timeout if all
+     * connections are in use. Closing the connection returns it.
+     *
+     * @return the connection
+     * @throws java.sql.SQLTransientConnectionException if no connection
+     *         became available in time
+     * @throws SQLException if the pool is closed or a connection cannot be opened
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        return borrowed(borrow(start), start);
+    }
+
+    /**
+     * Borrows a connection without blocking the calling thread. The stage
+     * completes right away if a connection is idle and no other borrower
+     * is waiting. Otherwise the caller is queued, first come, first served
+     * with the other callers of this method, and the stage is completed by
+     * the thread returning a connection, or with a connection opened on a
+     * virtual thread if the pool is not full, at most after the login
+     * timeout counted from this call. No thread waits on behalf of the
+     * caller. Dependent actions that are not asynchronous may therefore run
+     * on a thread returning a connection.
+     * <p>
+     * Cancelling the {@linkplain CompletionStage#toCompletableFuture()
+     * future} of the stage removes the caller from the queue. A connection
+     * handed to a stage that was cancelled or otherwise completed meanwhile
+     * is returned to the pool, never leaked.
+     *
+     * @return the stage, completed with the connection or exceptionally
+     *         with the {@link SQLException} {@link #getConnection()} throws
+     */
+    public CompletionStage<Connection> acquire() {
+        long start = System.nanoTime();
+        Acquisition acquisition = new Acquisition(start);
+        CompletableFuture<Connection> future = acquisition.future;
+        // claiming an idle connection right away must not overtake a waiting borrower
+        if (!closed && waiters.get() == 0 && acquisitions.isEmpty()) {
+            PoolEntry entry = claimIdle();
+            if (entry != null) {
+                future.complete(borrowed(entry, start));
+                return future;
+            }
+        }
+        int timeout = loginTimeout;
+        if (timeout > 0) {
+            acquisition.deadline = TimerWheel.SHARED.timeout(() -> Thread.startVirtualThread(
+                    () -> future.completeExceptionally(timedOut(start, timeout))));
+            TimerWheel.SHARED.schedule(acquisition.deadline, TimeUnit.SECONDS.toNanos(timeout));
+        }
+        future.whenComplete((connection, failure) -> {
+            if (acquisition.deadline != null) {
+                TimerWheel.SHARED.cancel(acquisition.deadline);
+            }
+            if (failure != null) {
+                acquisitions.remove(acquisition);
+            }
+        });
+        acquisitions.add(acquisition);
+        dispatch();
+        return future;
+    }
+
+    /**
+     * Serves the caller of {@link #acquire()} waiting longest with an idle
+     * connection, or has a connection opened for it if the pool is not
+     * full. Fails all waiting callers if the pool is closed.
+     */
+    private void dispatch() {
+        if (closed) {
+            for (Acquisition acquisition; (acquisition = acquisitions.poll()) != null;) {
+                acquisition.future.completeExceptionally(closedException());
+            }
+            return;
+        }
+        if (acquisitions.isEmpty()) {
+            return;
+        }
+        PoolEntry entry = claimIdle();
+        if (entry != null) {
+            if (!complete(entry)) {
+                entry.state(PoolEntry.IDLE);
+                handOff(entry);
+            }
+        } else if (reserve()) {
+            openers.newThread(this::openForAcquisition).start();
+        }
+    }
+
+    /**
+     * Opens a connection in a reserved slot for the caller of
+     * {@link #acquire()} waiting longest.
+     */
+    private void openForAcquisition() {
+        PoolEntry entry;
+        try {
+            entry = open();
+        } catch (SQLException | RuntimeException | Error e) {
+            // fail the caller, rather than having the slot reserved again for another attempt
+            for (Acquisition acquisition; (acquisition = acquisitions.poll()) != null;) {
+                if (acquisition.future.completeExceptionally(e)) {
+                    break;
+                }
+            }
+            unreserve();
+            return;
+        }
+        entry.state(PoolEntry.IN_USE);
+        entries.add(entry);
+        if (closed) {
+            retire(entry);
+        } else if (!complete(entry)) {
+            entry.state(PoolEntry.IDLE);
+            if (!handOff(entry)) {
+                scheduleIdleTimeout(entry, configuration.maxIdleTime().toNanos());
+            }
+        }
+    }
+
+    /**
+     * Hands a connection claimed by the caller to the caller of
+     * {@link #acquire()} waiting longest.
+     *
+     * @return {@code false} if no caller is waiting, the connection is
+     *         still claimed
+     */
+    private boolean complete(PoolEntry entry) {
+        for (Acquisition acquisition; (acquisition = acquisitions.poll()) != null;) {
+            if (!acquisition.future.isDone()) {
+                Connection connection = borrowed(entry, acquisition.start);
+                if (!acquisition.future.complete(connection)) {
+                    // cancelled or timed out meanwhile, return the connection
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        LOGGER.log(System.Logger.Level.DEBUG, "Failed to return an unclaimed connection", e);
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Connection borrowed(PoolEntry entry, long start) {
+        long now = System.nanoTime();
+        entry.lastBorrowed = now;
+        if (INSTRUMENTATION.isEnabled()) {
+            INSTRUMENTATION.poolActivity(configuration.name(), PoolActivity.CONNECTION_BORROWED, now - start);
+        }
+        PoolAutoscaler autoscaler = this.autoscaler;
+        if (autoscaler != null) {
+            autoscaler.borrowed(now - start);
+        }
+        return new ConnectionHandle(this, entry);
+    }
+
+    /**
+     * Claims the first idle connection of the pool.
+     *
+     * @return the connection, or {@code null} if none is idle
+     */
+    private PoolEntry claimIdle() {
+        for (PoolEntry entry : entries) {
+            if (entry.compareAndSet(PoolEntry.IDLE, PoolEntry.IN_USE)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Borrows a connection if the credentials are those of the definition.
+     *
+     * @param username the user name of the definition
+     * @param password the password of the definition
+     * @return the connection
+     * @throws SQLFeatureNotSupportedException for other credentials
+     * @throws SQLException if no connection can be borrowed
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!factory.isUser(username, password)) {
+            throw new SQLFeatureNotSupportedException("Pool " + configuration.name()
+                    + " only holds connections of the user of its definition");
+        }
+        return getConnection();
+    }
+
+    private PoolEntry borrow(long start) throws SQLException {
+        checkOpen();
+        if (!Thread.currentThread().isVirtual()) {
+            List<WeakReference<PoolEntry>> recent = this.recent.get();
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                PoolEntry entry = recent.remove(i).get();
+                if (entry != null && entry.compareAndSet(PoolEntry.IDLE, PoolEntry.IN_USE)) {
+                    return entry;
+                }
+            }
+        }
+        PoolEntry entry = await(start, loginTimeout);
+        if (entry != null) {
+            return entry;
+        }
+        // a slot was reserved for a new connection
+        try {
+            entry = open();
+        } catch (SQLException | RuntimeException | Error e) {
+            unreserve();
+            throw e;
+        }
+        entry.state(PoolEntry.IN_USE);
+        entries.add(entry);
+        if (closed) {
+            retire(entry);
+            checkOpen();
+        }
+        return entry;
+    }
+
+    /**
+     * Claims an idle connection, waiting for one to be returned unless a
+     * slot for a new connection can be reserved.
+     *
+     * @param timeout the login timeout in seconds, {@code 0} for no limit
+     * @return the connection, or {@code null} if a slot was reserved
+     */
+    private PoolEntry await(long start, int timeout) throws SQLException {
+        long deadline = start + TimeUnit.SECONDS.toNanos(timeout);
+        waiters.incrementAndGet();
+        try {
+            while (true) {
+                checkOpen();
+                PoolEntry idle = claimIdle();
+                if (idle != null) {
+                    return idle;
+                }
+                if (reserve()) {
+                    return null;
+                }
+                PoolAutoscaler autoscaler = this.autoscaler;
+                if (autoscaler != null) {
+                    autoscaler.pressed();
+                }
+                long remaining = timeout == 0 ? Long.MAX_VALUE : deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw timedOut(start, timeout);
+                }
+                PoolEntry entry = handoff.poll(remaining, TimeUnit.NANOSECONDS);
+                if (entry != null && entry.compareAndSet(PoolEntry.IDLE, PoolEntry.IN_USE)) {
+                    return entry;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", "08001", e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reports a borrower that waited in vain.
+     *
+     * @return the exception to fail the borrower with
+     */
+    private SQLException timedOut(long start, int timeout) {
+        long waited = System.nanoTime() - start;
+        if (INSTRUMENTATION.isEnabled()) {
+            INSTRUMENTATION.poolActivity(configuration.name(), PoolActivity.BORROW_TIMED_OUT, waited);
+        }
+        PoolAutoscaler autoscaler = this.autoscaler;
+        if (autoscaler != null) {
+            autoscaler.borrowed(waited);
+        }
+        return new SQLTransientConnectionException("No connection of pool " + configuration.name()
+                + " available within " + timeout + " seconds", "08001");
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw closedException();
+        }
+    }
+
+    private SQLException closedException() {
+        return new SQLNonTransientConnectionException("Pool " + configuration.name() + " is closed", "08003");
+    }
+
+    /**
+     * Counts a connection about to be opened, unless the pool is full.
+     */
+    private boolean reserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Uncounts a connection that was closed or could not be opened, waking
+     * up a borrower to open another.
+     */
+    private void unreserve() {
+        size.decrementAndGet();
+        handOff(WAKE_UP);
+    }
+
+    /**
+     * Hands a connection, or {@link #WAKE_UP}, to a waiting borrower,
+     * serving the callers of {@link #acquire()} first since they are
+     * queued already. While borrowers are looking for a connection, it
+     * spins until one takes it, since a borrower may be about to wait.
+     *
+     * @return whether a borrower took the connection
+     */
+    private boolean handOff(PoolEntry entry) {
+        if (!acquisitions.isEmpty()) {
+            if (entry == WAKE_UP) {
+                dispatch();
+            } else if (!entry.compareAndSet(PoolEntry.IDLE, PoolEntry.IN_USE)) {
+                return true;
+            } else if (complete(entry)) {
+                return true;
+            } else {
+                entry.state(PoolEntry.IDLE);
+            }
+        }
+        for (int i = 0; waiters.get() > 0; i++) {
+            if (entry != WAKE_UP && entry.state() != PoolEntry.IDLE || handoff.offer(entry)) {
+                return true;
+            }
+            if ((i & 0xff) == 0xff) {
+                LockSupport.parkNanos(10_000);
+            } else {
+                Thread.yield();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Opens a physical connection and sets it up as configured. The
+     * connection must have been counted in {@link #size} already.
+     */
+    private PoolEntry open() throws SQLException {
+        long start = System.nanoTime();
+        PoolEntry entry = factory.open();
+        try {
+            Connection connection = entry.connection;
+            connection.setAutoCommit(configuration.autoCommit());
+            if (configuration.isolationLevel() != -1) {
+                connection.setTransactionIsolation(configuration.isolationLevel());
+            }
+        } catch (SQLException | RuntimeException e) {
+            entry.close();
+            throw e;
+        }
+        if (configuration.maxStatements() > 0) {
+            entry.statements = new StatementCache(configuration.statementsPerConnection());
+        }
+        if (!configuration.maxIdleTime().isZero()) {
+            entry.idleTimeout = TimerWheel.SHARED.timeout(() -> idleTimeoutExpired(entry));
+        }
+        long created = System.nanoTime() - start;
+        if (INSTRUMENTATION.isEnabled()) {
+            INSTRUMENTATION.poolActivity(configuration.name(), PoolActivity.CONNECTION_CREATED, created);
+        }
+        PoolAutoscaler autoscaler = this.autoscaler;
+        if (autoscaler != null) {
+            autoscaler.created(created);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns a connection to the pool, called when its handle is closed
+     * and restored the connection to its configured state.
+     *
+     * @param broken whether the connection is unusable
+     */
+    void release(PoolEntry entry, boolean broken) {
+        boolean reusable = !broken;
+        long now = System.nanoTime();
+        if (INSTRUMENTATION.isEnabled()) {
+            INSTRUMENTATION.poolActivity(configuration.name(), PoolActivity.CONNECTION_RETURNED,
+                    now - entry.lastBorrowed);
+        }
+        entry.lastReturned = now;
+        if (!reusable || closed) {
+            retire(entry);
+            return;
+        }
+        if (size.get() > limit && shrink(limit)) {
+            detach(entry);
+            destroy(entry);
+            return;
+        }
+        entry.state(PoolEntry.IDLE);
+        if (!handOff(entry)) {
+            scheduleIdleTimeout(entry, configuration.maxIdleTime().toNanos());
+            if (!Thread.currentThread().isVirtual()) {
+                remember(entry);
+            }
+        }
+    }
+
+    /**
+     * Remembers a connection returned by the current platform thread,
+     * forgetting the connections that were removed from the pool since.
+     */
+    private void remember(PoolEntry entry) {
+        List<WeakReference<PoolEntry>> recent = this.recent.get();
+        recent.removeIf(reference -> {
+            PoolEntry remembered = reference.get();
+            return remembered == null || remembered == entry || remembered.state() == PoolEntry.REMOVED;
+        });
+        if (recent.size() < RECENT_SIZE) {
+            recent.add(entry.reference);
+        }
+    }
+
+    /**
+     * Discards a connection aborted by the application.
+     */
+    void abort(PoolEntry entry, Executor executor) {
+        try {
+            entry.connection.abort(executor);
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to abort pooled connection", e);
+        }
+        retire(entry);
+    }
+
+    /**
+     * Removes a connection claimed by the caller from the pool and closes
+     * it, replacing it if the pool fell below its minimum size.
+     */
+    private void retire(PoolEntry entry) {
+        detach(entry);
+        unreserve();
+        destroy(entry);
+        if (!closed && size.get() < configuration.minPoolSize()) {
+            fillToMinimum();
+        }
+    }
+
+    private void detach(PoolEntry entry) {
+        entry.state(PoolEntry.REMOVED);
+        entries.remove(entry);
+        if (entry.idleTimeout != null) {
+            TimerWheel.SHARED.cancel(entry.idleTimeout);
+        }
+    }
+
+    private void destroy(PoolEntry entry) {
+        entry.close();
+        if (INSTRUMENTATION.isEnabled()) {
+            INSTRUMENTATION.poolActivity(configuration.name(), PoolActivity.CONNECTION_CLOSED, 0);
+        }
+    }
+
+    /**
+     * Opens the initial connections in parallel, one virtual thread each,
+     * and the connections up to the minimum size in the background.
+     */
+    private void warmUp() {
+        int initial = configuration.initialPoolSize();
+        int needed = configuration.readyPoolSize();
+        if (needed == 0) {
+            ready.complete(null);
+        }
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Thread.Builder builder = Thread.ofVirtual().name("jakarta.annotation.sql.pool warm-up " + configuration.name());
+        for (int i = 0; i < initial; i++) {
+            builder.start(() -> {
+                if (add()) {
+                    if (opened.incrementAndGet() == needed) {
+                        ready.complete(null);
+                    }
+                } else if (failed.incrementAndGet() == initial - needed + 1) {
+                    ready.completeExceptionally(new SQLTransientConnectionException("Cannot open " + needed
+                            + " connections of pool " + configuration.name(), "08001"));
+                }
+            });
+        }
+        if (configuration.minPoolSize() > initial) {
+            fillToMinimum();
+        }
+    }
+
+    /**
+     * Waits for the pool to be ready, at most for the login timeout.
+     */
+    private void awaitReady() {
+        long timeout = configuration.loginTimeout().toNanos();
+        try {
+            if (timeout == 0) {
+                ready.get();
+            } else {
+                ready.get(timeout, TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Pool " + configuration.name() + " not ready within "
+                    + configuration.loginTimeout().toSeconds() + " seconds, opening connections in the background");
+        } catch (ExecutionException e) {
+            LOGGER.log(System.Logger.Level.WARNING, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Opens connections up to the minimum size on a virtual thread of this
+     * pool, unless one is doing so already, so that a database that does
+     * not answer holds up neither the caller nor other pools.
+     */
+    private void fillToMinimum() {
+        if (closed || !filling.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("jakarta.annotation.sql.pool fill " + configuration.name()).start(() -> {
+            boolean opened = true;
+            try {
+                while (opened && !closed && size.get() < configuration.minPoolSize()) {
+                    opened = add();
+                }
+            } finally {
+                filling.set(false);
+            }
+            // a connection may have been retired after the last check
+            if (opened && size.get() < configuration.minPoolSize()) {
+                fillToMinimum();
+            }
+        });
+    }
+
+    /**
+     * Opens an idle connection if the pool is not full.
+     *
+     * @return {@code false} if the pool is full or closed, or the
+     *         connection could not be opened
+     */
+    private boolean add() {
+        if (closed || !reserve()) {
+            return false;
+        }
+        PoolEntry entry;
+        try {
+            entry = open();
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Cannot open a connection of pool " + configuration.name(), e);
+            unreserve();
+            return false;
+        }
+        entry.state(PoolEntry.IDLE);
+        entries.add(entry);
+        if (closed && entry.compareAndSet(PoolEntry.IDLE, PoolEntry.REMOVED)) {
+            retire(entry);
+            return false;
+        }
+        if (!handOff(entry)) {
+            scheduleIdleTimeout(entry, configuration.maxIdleTime().toNanos());
+        }
+        return true;
+    }
+
+    /**
+     * Schedules the idle timeout of an idle connection, unless it is
+     * scheduled already. The timeout is not cancelled when the connection
+     * is borrowed; it checks when the connection was returned instead.
+     */
+    private void scheduleIdleTimeout(PoolEntry entry, long delay) {
+        if (entry.idleTimeout != null && entry.idleTimeoutScheduled.compareAndSet(false, true)) {
+            TimerWheel.SHARED.schedule(entry.idleTimeout, delay);
+        }
+    }
+
+    /**
+     * Runs on the timer wheel once a connection may have been idle for the
+     * maximum idle time. A borrowed connection schedules its timeout again
+     * when it is returned.
+     */
+    private void idleTimeoutExpired(PoolEntry entry) {
+        entry.idleTimeoutScheduled.set(false);
+        if (entry.state() != PoolEntry.IDLE) {
+            return;
+        }
+        long maxIdle = configuration.maxIdleTime().toNanos();
+        long idle = System.nanoTime() - entry.lastReturned;
+        if (idle < maxIdle) {
+            scheduleIdleTimeout(entry, maxIdle - idle);
+        } else {
+            Thread.startVirtualThread(() -> evict(entry));
+        }
+    }
+
+    /**
+     * Closes a connection idle for the maximum idle time, unless the pool
+     * is at its minimum size.
+     */
+    private void evict(PoolEntry entry) {
+        if (!entry.compareAndSet(PoolEntry.IDLE, PoolEntry.RESERVED)) {
+            return;
+        }
+        long maxIdle = configuration.maxIdleTime().toNanos();
+        long idle = System.nanoTime() - entry.lastReturned;
+        if (idle < maxIdle || !shrink(configuration.minPoolSize())) {
+            entry.state(PoolEntry.IDLE);
+            scheduleIdleTimeout(entry, idle < maxIdle ? maxIdle - idle : maxIdle);
+            handOff(entry);
+            return;
+        }
+        detach(entry);
+        destroy(entry);
+    }
+
+    /**
+     * Uncounts a connection about to be closed, unless the pool is at the
+     * given size or at its minimum size.
+     */
+    private boolean shrink(int floor) {
+        floor = Math.max(floor, configuration.minPoolSize());
+        while (true) {
+            int current = size.get();
+            if (current <= floor) {
+                return false;
+            }
+            if (size.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * A caller of {@link #acquire()} waiting for a connection.
+     */
+    private static final class Acquisition {
+
+        final CompletableFuture<Connection> future = new CompletableFuture<>();
+        final long start;
+        // completes the future exceptionally at the login timeout, if there is one
+        TimerWheel.Timeout deadline;
+
+        Acquisition(long start) {
+            this.start = start;
+        }
+    }
+
+    /**
+     * Returns the number of connections the pool may hold.
+     */
+    int limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of borrowed connections.
+     */
+    int inUse() {
+        return size.get() - idleCount();
+    }
+
+    /**
+     * Returns the number of borrowers waiting for a connection.
+     */
+    int waiters() {
+        return waiters.get();
+    }
+
+    synchronized void startScaling(PoolAutoscaler autoscaler) {
+        if (closed) {
+            throw new IllegalStateException("Pool " + configuration.name() + " is closed");
+        }
+        if (this.autoscaler != null) {
+            throw new IllegalStateException("Pool " + configuration.name() + " is scaled already");
+        }
+        this.autoscaler = autoscaler;
+        int start = Math.max(Math.max(size.get(), configuration.initialPoolSize()),
+                Math.max(configuration.minPoolSize(), 1));
+        this.limit = Math.min(start, configuration.maxPoolSize());
+    }
+
+    synchronized void stopScaling(PoolAutoscaler autoscaler) {
+        if (this.autoscaler == autoscaler) {
+            this.autoscaler = null;
+            this.limit = configuration.maxPoolSize();
+        }
+    }
+
+    /**
+     * Sets the number of connections the pool may hold. Idle connections
+     * above the limit are closed, and connections up to the limit opened
+     * if requested, on a virtual thread. Otherwise, borrowers waiting for
+     * a connection are woken up to open the connections the new limit
+     * allows.
+     *
+     * @param limit the limit, between the minimum and maximum size
+     * @param open whether to open connections up to the limit
+     */
+    void resize(int limit, boolean open) {
+        int previous = this.limit;
+        this.limit = limit;
+        if (size.get() > limit) {
+            Thread.startVirtualThread(this::trim);
+        } else if (open) {
+            Thread.startVirtualThread(() -> {
+                while (size.get() < this.limit && add()) {
+                    // open up to the limit
+                }
+            });
+        } else if (limit > previous) {
+            Thread.startVirtualThread(() -> {
+                for (int i = previous; i < limit && handOff(WAKE_UP); i++) {
+                    // wake up borrowers waiting at the previous limit to open connections
+                }
+            });
+        }
+    }
+
+    /**
+     * Closes idle connections while the pool holds more than its limit.
+     */
+    private void trim() {
+        for (PoolEntry entry : entries) {
+            if (size.get() <= limit) {
+                return;
+            }
+            if (entry.compareAndSet(PoolEntry.IDLE, PoolEntry.RESERVED)) {
+                if (shrink(limit)) {
+                    detach(entry);
+                    destroy(entry);
+                } else {
+                    entry.state(PoolEntry.IDLE);
+                    scheduleIdleTimeout(entry, configuration.maxIdleTime().toNanos());
+                    handOff(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the pool, its autoscaler if any, and its idle connections.
+     * Borrowed connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        recent.remove();
+        PoolAutoscaler autoscaler = this.autoscaler;
+        if (autoscaler != null) {
+            autoscaler.close();
+        }
+        for (PoolEntry entry : entries) {
+            if (entry.compareAndSet(PoolEntry.IDLE, PoolEntry.REMOVED)) {
+                retire(entry);
+            }
+        }
+        while (handOff(WAKE_UP)) {
+            // wake up every waiting borrower
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    /**
+     * Sets the maximum time to wait for a connection, overriding the
+     * {@code loginTimeout} of the definition.
+     *
+     * @param seconds the timeout in seconds, {@code 0} for no limit
+     */
+    @Override
+    public void setLoginTimeout(int seconds) {
+        if (seconds < 0) {
+            throw new IllegalArgumentException("Negative login timeout: " + seconds);
+        }
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return loginTimeout;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("The pool logs through System.Logger");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public String toString() {
+        return "DataSourcePool[" + configuration.name() + "]";
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.spi.Instrumentation;
+import jakarta.annotation.spi.PoolActivity;
+
+/**
+ * Grows and shrinks a pool between its minimum and maximum size as the
+ * demand for connections changes.
+ * <p>
+ * The autoscaler moves a size limit of the pool, which starts at the
+ * largest of the current, initial and minimum size of the pool, and at
+ * least one connection. It watches how long borrowers wait for a
+ * connection, the share of the connections in use and how long opening a
+ * connection takes, and decides as described by its
+ * {@link ScalingPolicy} at the end of every interval, on the timer wheel
+ * shared by all pools. When the pool grows, the limit rises by a quarter;
+ * if opening connections takes longer than the target wait, they are
+ * opened right away rather than by the next borrowers, and shrinking
+ * takes twice as many calm intervals. When the pool shrinks, the limit
+ * falls by a quarter, never below what the grow utilization requires for
+ * the connections in use, and idle connections above the limit are
+ * closed.
+ * <p>
+ * A borrower that finds the pool at its limit brings the next decision
+ * forward to the next tick of the timer wheel, so that a cold pool grows
+ * as soon as borrowers queue up rather than an interval later; the limit
+ * then rises by at least the number of waiting borrowers.
+ * <p>
+ * Every decision is reported to the installed {@link Instrumentation} as
+ * {@link PoolActivity#POOL_GROWN} or {@link PoolActivity#POOL_SHRUNK}.
+ * Instances of this class are safe for use by multiple threads.
+ */
+public final class PoolAutoscaler implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(PoolAutoscaler.class.getName());
+
+    private static final Instrumentation INSTRUMENTATION = Instrumentation.get();
+
+    private final DataSourcePool pool;
+    private final ScalingPolicy policy;
+    private final TimerWheel.Timeout timeout;
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder creating = new LongAdder();
+    private volatile boolean closed;
+    private volatile boolean pressed;
+    // written by the thread of the timer wheel only
+    private volatile long grown;
+    private volatile long shrunk;
+    // owned by the thread of the timer wheel, the moving average of the time to open a connection
+    private long creationLatency;
+    private int calm;
+
+    private PoolAutoscaler(DataSourcePool pool, ScalingPolicy policy) {
+        this.pool = pool;
+        this.policy = policy;
+        this.timeout = TimerWheel.SHARED.timeout(this::decide);
+    }
+
+    /**
+     * Starts scaling a pool.
+     *
+     * @param pool the pool
+     * @param policy the policy to scale it by
+     * @return the autoscaler, to be closed to stop scaling
+     * @throws IllegalStateException if the pool is scaled already or closed
+     */
+    public static PoolAutoscaler attach(DataSourcePool pool, ScalingPolicy policy) {
+        PoolAutoscaler autoscaler = new PoolAutoscaler(pool, policy);
+        pool.startScaling(autoscaler);
+        TimerWheel.SHARED.schedule(autoscaler.timeout, policy.interval().toNanos());
+        return autoscaler;
+    }
+
+    /**
+     * Returns the current size limit of the pool.
+     *
+     * @return the number of connections the pool may hold
+     */
+    public int limit() {
+        return pool.limit();
+    }
+
+    /**
+     * Returns the number of times the pool was grown.
+     *
+     * @return the number of decisions to grow
+     */
+    public long grown() {
+        return grown;
+    }
+
+    /**
+     * Returns the number of times the pool was shrunk.
+     *
+     * @return the number of decisions to shrink
+     */
+    public long shrunk() {
+        return shrunk;
+    }
+
+    void borrowed(long nanos) {
+        borrows.increment();
+        waited.add(nanos);
+    }
+
+    void created(long nanos) {
+        creations.increment();
+        creating.add(nanos);
+    }
+
+    /**
+     * Called by a borrower that has to wait because the pool is at its
+     * limit, to decide on the size of the pool right away.
+     */
+    void pressed() {
+        if (!pressed && pool.limit() < pool.configuration().maxPoolSize()) {
+            pressed = true;
+            TimerWheel.SHARED.schedule(timeout, 0);
+        }
+    }
+
+    /**
+     * Decides on the size of the pool, on the thread of the timer wheel.
+     */
+    private void decide() {
+        if (closed) {
+            return;
+        }
+        pressed = false;
+        long borrows = this.borrows.sumThenReset();
+        long waited = this.waited.sumThenReset();
+        long creations = this.creations.sumThenReset();
+        long creating = this.creating.sumThenReset();
+        if (creations > 0) {
+            creationLatency = creationLatency == 0 ? creating / creations
+                    : (3 * creationLatency + creating / creations) / 4;
+        }
+        PoolConfiguration configuration = pool.configuration();
+        long averageWait = borrows == 0 ? 0 : waited / borrows;
+        long targetWait = policy.targetWait().toNanos();
+        boolean slowToOpen = creationLatency > targetWait;
+        int limit = pool.limit();
+        int inUse = pool.inUse();
+        // borrowers queued at the limit, who report their wait only once served
+        int waiting = inUse >= limit ? pool.waiters() : 0;
+        double utilization = (double) inUse / limit;
+        if (averageWait > targetWait || utilization >= policy.growUtilization() || waiting > 0) {
+            calm = 0;
+            int grownLimit = Math.min(limit + Math.max(Math.max(1, limit / 4), waiting),
+                    configuration.maxPoolSize());
+            if (grownLimit > limit) {
+                pool.resize(grownLimit, slowToOpen);
+                grown++;
+                LOGGER.log(System.Logger.Level.DEBUG, "Growing pool " + configuration.name() + " to "
+                        + grownLimit + " connections");
+                if (INSTRUMENTATION.isEnabled()) {
+                    INSTRUMENTATION.poolActivity(configuration.name(), PoolActivity.POOL_GROWN, averageWait);
+                }
+            }
+        } else if (averageWait <= targetWait / 2 && utilization <= policy.shrinkUtilization()) {
+            if (++calm >= (slowToOpen ? 2 * policy.calmIntervals() : policy.calmIntervals())) {
+                calm = 0;
+                int shrunkLimit = Math.max(limit - Math.max(1, limit / 4),
+                        Math.max(Math.max(configuration.minPoolSize(), 1),
+                                (int) Math.ceil(inUse / policy.growUtilization())));
+                if (shrunkLimit < limit) {
+                    pool.resize(shrunkLimit, false);
+                    shrunk++;
+                    LOGGER.log(System.Logger.Level.DEBUG, "Shrinking pool " + configuration.name() + " to "
+                            + shrunkLimit + " connections");
+                    if (INSTRUMENTATION.isEnabled()) {
+                        INSTRUMENTATION.poolActivity(configuration.name(), PoolActivity.POOL_SHRUNK, 0);
+                    }
+                }
+            }
+        } else {
+            calm = 0;
+        }
+        if (!closed) {
+            TimerWheel.SHARED.schedule(timeout, policy.interval().toNanos());
+            if (pressed) {
+                // a borrower pressed since this decision started and may have been rescheduled above
+                TimerWheel.SHARED.schedule(timeout, 0);
+            }
+        }
+    }
+
+    /**
+     * Stops scaling the pool, restoring its limit to the maximum size.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        TimerWheel.SHARED.cancel(timeout);
+        pool.stopScaling(this);
+    }
+
+    @Override
+    public String toString() {
+        return "PoolAutoscaler[" + pool.configuration().name() + ", limit " + pool.limit() + "]";
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Objects;
+
+import jakarta.annotation.sql.DataSourceDefinition;
+
+/**
+ * The pooling attributes of a {@link DataSourceDefinition}, with the
+ * defaults of this pool applied to the attributes left unspecified.
+ * <p>
+ * The attributes are interpreted as follows:
+ * <ul>
+ * <li>{@code minPoolSize}: the pool never shrinks below this number of
+ * connections; {@code 0} if unspecified.
+ * <li>{@code maxPoolSize}: the pool never holds more connections; the
+ * larger of {@value #DEFAULT_MAX_POOL_SIZE} and the minimum size if
+ * unspecified.
+ * <li>{@code initialPoolSize}: the number of connections opened when the
+ * pool is created; the minimum size if unspecified.
+ * <li>{@code maxIdleTime}: connections unused for longer are closed, as
+ * far as the minimum size allows; never if unspecified or zero.
+ * <li>{@code maxStatements}: the number of prepared statements the pool
+ * keeps open, in total over all connections; none if unspecified. Each
+ * connection caches up to its {@linkplain #statementsPerConnection() share}.
+ * <li>{@code isolationLevel}: the isolation level of every connection
+ * handed out; the default of the driver if unspecified.
+ * <li>{@code transactional}: whether connections take part in
+ * transactions; they are handed out with auto-commit disabled if so, and
+ * enabled otherwise. Uncommitted work is rolled back when a connection
+ * is returned.
+ * <li>{@code loginTimeout}: the maximum time to wait for a connection,
+ * both when opening one and when waiting for one to be returned; no
+ * limit if zero.
+ * </ul>
+ * <p>
+ * The {@code readyFraction} is not an attribute of the definition: it is
+ * the fraction of the initial connections that must be open before the
+ * pool is handed to the application, the rest being opened in the
+ * background; {@code 1} unless {@linkplain #withReadyFraction(double)
+ * configured otherwise}.
+ *
+ * @param name the name of the data source
+ * @param initialPoolSize the number of connections opened at creation
+ * @param minPoolSize the minimum number of connections
+ * @param maxPoolSize the maximum number of connections
+ * @param maxIdleTime the time after which an unused connection is
+ *        closed, {@link Duration#ZERO} for never
+ * @param maxStatements the total number of cached prepared statements
+ * @param isolationLevel the transaction isolation level, or {@code -1}
+ *        for the default of the driver
+ * @param transactional whether connections take part in transactions
+ * @param loginTimeout the maximum time to wait for a connection,
+ *        {@link Duration#ZERO} for no limit
+ * @param readyFraction the fraction of the initial connections opened
+ *        before the pool is ready
+ */
+public record PoolConfiguration(String name, int initialPoolSize, int minPoolSize, int maxPoolSize,
+        Duration maxIdleTime, int maxStatements, int isolationLevel, boolean transactional,
+        Duration loginTimeout, double readyFraction) {
+
+    /**
+     * The maximum pool size used if a definition specifies none, unless its
+     * minimum or initial pool size is larger.
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 20;
+
+    /**
+     * Creates a configuration.
+     *
+     * @param name the name of the data source
+     * @param initialPoolSize the number of connections opened at creation
+     * @param minPoolSize the minimum number of connections
+     * @param maxPoolSize the maximum number of connections
+     * @param maxIdleTime the time after which an unused connection is closed
+     * @param maxStatements the total number of cached prepared statements
+     * @param isolationLevel the transaction isolation level, or {@code -1}
+     * @param transactional whether connections take part in transactions
+     * @param loginTimeout the maximum time to wait for a connection
+     * @param readyFraction the fraction of the initial connections opened
+     *        before the pool is ready
+     * @throws IllegalArgumentException if the sizes are negative or
+     *         inconsistent, a duration is negative, the isolation level
+     *         is not one of the levels of {@link Connection} or the ready
+     *         fraction is not between {@code 0} and {@code 1}
+     */
+    public PoolConfiguration {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(maxIdleTime, "maxIdleTime");
+        Objects.requireNonNull(loginTimeout, "loginTimeout");
+        if (minPoolSize < 0 || maxPoolSize < 1 || minPoolSize > maxPoolSize) {
+            throw new IllegalArgumentException("Invalid pool size of " + name + ": min " + minPoolSize
+                    + ", max " + maxPoolSize);
+        }
+        if (initialPoolSize < 0 || initialPoolSize > maxPoolSize) {
+            throw new IllegalArgumentException("Invalid initial pool size of " + name + ": " + initialPoolSize);
+        }
+        if (maxIdleTime.isNegative() || loginTimeout.isNegative() || maxStatements < 0) {
+            throw new IllegalArgumentException("Invalid pool configuration of " + name);
+        }
+        if (!(readyFraction >= 0 && readyFraction <= 1)) {
+            throw new IllegalArgumentException("Invalid ready fraction of " + name + ": " + readyFraction);
+        }
+        switch (isolationLevel) {
+            case -1:
+            case Connection.TRANSACTION_NONE:
+            case Connection.TRANSACTION_READ_UNCOMMITTED:
+            case Connection.TRANSACTION_READ_COMMITTED:
+            case Connection.TRANSACTION_REPEATABLE_READ:
+            case Connection.TRANSACTION_SERIALIZABLE:
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid isolation level of " + name + ": " + isolationLevel);
+        }
+    }
+
+    /**
+     * Returns the configuration of a data source definition.
+     *
+     * @param definition the data source definition
+     * @return the configuration
+     * @throws IllegalArgumentException if the pooling attributes are invalid
+     */
+    public static PoolConfiguration of(DataSourceDefinition definition) {
+        int min = Math.max(definition.minPoolSize(), 0);
+        int initial = definition.initialPoolSize() < 0 ? min : definition.initialPoolSize();
+        int max = definition.maxPoolSize() < 0 ? Math.max(DEFAULT_MAX_POOL_SIZE, Math.max(min, initial))
+                : definition.maxPoolSize();
+        return new PoolConfiguration(definition.name(), initial, min, max,
+                Duration.ofSeconds(Math.max(definition.maxIdleTime(), 0)),
+                Math.max(definition.maxStatements(), 0),
+                definition.isolationLevel(),
+                definition.transactional(),
+                Duration.ofSeconds(Math.max(definition.loginTimeout(), 0)),
+                1);
+    }
+
+    /**
+     * Returns a copy of this configuration with the given ready fraction.
+     *
+     * @param readyFraction the fraction of the initial connections opened
+     *        before the pool is ready, between {@code 0} and {@code 1}
+     * @return the configuration
+     * @throws IllegalArgumentException if the fraction is out of range
+     */
+    public PoolConfiguration withReadyFraction(double readyFraction) {
+        return new PoolConfiguration(name, initialPoolSize, minPoolSize, maxPoolSize, maxIdleTime, maxStatements,
+                isolationLevel, transactional, loginTimeout, readyFraction);
+    }
+
+    /**
+     * Returns the number of initial connections opened before the pool is
+     * ready, the ready fraction of the initial pool size rounded up.
+     *
+     * @return the number of connections
+     */
+    public int readyPoolSize() {
+        return (int) Math.ceil(initialPoolSize * readyFraction);
+    }
+
+    /**
+     * Returns the auto-commit mode connections are handed out in.
+     *
+     * @return {@code true} unless the data source is transactional
+     */
+    public boolean autoCommit() {
+        return !transactional;
+    }
+
+    /**
+     * Returns the number of prepared statements each connection caches,
+     * the maximum number of statements divided evenly over the maximum
+     * number of connections, rounded up.
+     *
+     * @return the number of statements, {@code 0} if none are cached
+     */
+    public int statementsPerConnection() {
+        return (int) ((maxStatements + (long) maxPoolSize - 1) / maxPoolSize);
+    }
+}
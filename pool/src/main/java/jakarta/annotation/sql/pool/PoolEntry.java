@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.PooledConnection;
+
+/**
+ * A physical connection held by a pool.
+ * <p>
+ * The state of an entry is claimed by compare-and-set, so a borrower,
+ * the evictor and the pool closing it never take the same entry.
+ */
+final class PoolEntry {
+
+    private static final System.Logger LOGGER = System.getLogger(PoolEntry.class.getName());
+
+    /**
+     * The state of an idle entry.
+     */
+    static final int IDLE = 0;
+
+    /**
+     * The state of a borrowed entry.
+     */
+    static final int IN_USE = 1;
+
+    /**
+     * The state of an idle entry claimed by the pool itself.
+     */
+    static final int RESERVED = 2;
+
+    /**
+     * The state of an entry no longer in the pool.
+     */
+    static final int REMOVED = -1;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(PoolEntry.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final Connection connection;
+    private final PooledConnection pooledConnection;
+
+    /**
+     * Refers to this entry from the thread locals of the threads that
+     * returned it last, without keeping it reachable once it is retired.
+     */
+    final WeakReference<PoolEntry> reference = new WeakReference<>(this);
+
+    /**
+     * When the connection was last returned to the pool, by
+     * {@link System#nanoTime()}.
+     */
+    volatile long lastReturned;
+
+    /**
+     * When the connection was last borrowed, by {@link System#nanoTime()}.
+     */
+    long lastBorrowed;
+
+    /**
+     * The prepared statements of the connection not in use.
+     */
+    StatementCache statements = StatementCache.DISABLED;
+
+    /**
+     * The idle timeout of the connection, {@code null} if connections
+     * never time out.
+     */
+    TimerWheel.Timeout idleTimeout;
+
+    /**
+     * Whether the idle timeout is scheduled.
+     */
+    final AtomicBoolean idleTimeoutScheduled = new AtomicBoolean();
+
+    private volatile int state;
+
+    PoolEntry(Connection connection, PooledConnection pooledConnection) {
+        this.connection = connection;
+        this.pooledConnection = pooledConnection;
+        this.lastReturned = System.nanoTime();
+    }
+
+    int state() {
+        return state;
+    }
+
+    void state(int state) {
+        this.state = state;
+    }
+
+    boolean compareAndSet(int expected, int state) {
+        return STATE.compareAndSet(this, expected, state);
+    }
+
+    /**
+     * Closes the physical connection, logging failures.
+     */
+    void close() {
+        statements.close();
+        try {
+            connection.close();
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to close pooled connection", e);
+        }
+        if (pooledConnection != null) {
+            try {
+                pooledConnection.close();
+            } catch (SQLException | RuntimeException e) {
+                LOGGER.log(System.Logger.Level.DEBUG, "Failed to close pooled connection", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * When a {@link PoolAutoscaler} grows or shrinks a pool.
+ * <p>
+ * At the end of every interval, the pool grows if borrowers waited longer
+ * than the target wait on average, or if the share of its connections in
+ * use reached the grow utilization. It shrinks only after a number of
+ * consecutive calm intervals, in which borrowers did not wait longer than
+ * half the target and the utilization stayed at or below the shrink
+ * utilization. The gap between the two utilizations and the calm
+ * intervals keep the pool from oscillating.
+ *
+ * @param interval the interval between decisions
+ * @param targetWait the average borrow wait above which the pool grows
+ * @param growUtilization the share of connections in use at which the
+ *        pool grows
+ * @param shrinkUtilization the share of connections in use at or below
+ *        which an interval is calm
+ * @param calmIntervals the number of consecutive calm intervals after
+ *        which the pool shrinks
+ */
+public record ScalingPolicy(Duration interval, Duration targetWait, double growUtilization,
+        double shrinkUtilization, int calmIntervals) {
+
+    /**
+     * Decides every 5 seconds, grows above 10 milliseconds of average wait
+     * or 85% utilization, and shrinks after 30 seconds at or below 50%
+     * utilization.
+     */
+    public static final ScalingPolicy DEFAULT = new ScalingPolicy(Duration.ofSeconds(5), Duration.ofMillis(10),
+            0.85, 0.5, 6);
+
+    /**
+     * Creates a policy.
+     *
+     * @param interval the interval between decisions
+     * @param targetWait the average borrow wait above which the pool grows
+     * @param growUtilization the share of connections in use at which the
+     *        pool grows
+     * @param shrinkUtilization the share of connections in use at or below
+     *        which an interval is calm
+     * @param calmIntervals the number of consecutive calm intervals after
+     *        which the pool shrinks
+     * @throws IllegalArgumentException if the interval is not positive, the
+     *         target wait is negative, the utilizations are not ordered
+     *         within {@code 0} and {@code 1} or no calm interval is required
+     */
+    public ScalingPolicy {
+        Objects.requireNonNull(interval, "interval");
+        Objects.requireNonNull(targetWait, "targetWait");
+        if (interval.isNegative() || interval.isZero() || targetWait.isNegative()) {
+            throw new IllegalArgumentException("Invalid scaling intervals: " + interval + ", " + targetWait);
+        }
+        if (!(shrinkUtilization >= 0 && shrinkUtilization < growUtilization && growUtilization <= 1)) {
+            throw new IllegalArgumentException("Invalid scaling utilizations: " + shrinkUtilization + ", "
+                    + growUtilization);
+        }
+        if (calmIntervals < 1) {
+            throw new IllegalArgumentException("Invalid number of calm intervals: " + calmIntervals);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * The prepared statements of a physical connection that are not in use,
+ * least recently returned first.
+ * <p>
+ * A statement is taken out of the cache when the application prepares
+ * it, so no two handles share a statement, and is put back when the
+ * application closes it. Statements beyond the capacity of the cache are
+ * evicted least recently used first. A JDBC connection need not support
+ * use by several threads, so evicted statements are not closed while the
+ * application may be using the connection, but by the thread returning
+ * the connection to the pool, before the pool hands it out again.
+ */
+final class StatementCache {
+
+    private static final System.Logger LOGGER = System.getLogger(StatementCache.class.getName());
+
+    /**
+     * The cache of connections that cache no statements.
+     */
+    static final StatementCache DISABLED = new StatementCache(0);
+
+    /**
+     * Identifies interchangeable prepared statements.
+     *
+     * @param sql the SQL text
+     * @param resultSetType the result set type
+     * @param resultSetConcurrency the result set concurrency
+     * @param resultSetHoldability the result set holdability, or {@code 0}
+     *        for the holdability of the connection
+     * @param callable whether the statement is a {@code CallableStatement}
+     * @param catalog the catalog the statement was prepared in, or
+     *        {@code null} for the catalog the pool hands connections out in
+     * @param schema the schema the statement was prepared in, or
+     *        {@code null} for the schema the pool hands connections out in
+     */
+    record Key(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability,
+            boolean callable, String catalog, String schema) {
+    }
+
+    private final int capacity;
+    // guarded by this
+    private final LinkedHashMap<Key, PreparedStatement> statements = new LinkedHashMap<>();
+    // evicted and not closed yet, guarded by this
+    private List<PreparedStatement> evicted = new ArrayList<>();
+    // guarded by this
+    private boolean closed;
+
+    StatementCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns whether this cache holds any statements at all.
+     */
+    boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * Takes the statement cached for the key out of the cache.
+     *
+     * @return the statement, or {@code null} if none is cached
+     */
+    synchronized PreparedStatement take(Key key) {
+        return statements.remove(key);
+    }
+
+    /**
+     * Returns a statement closed by the application to the cache, evicting
+     * the least recently used statements beyond the capacity. A statement
+     * that cannot be reset is closed instead.
+     */
+    void put(Key key, PreparedStatement statement) {
+        if (!reset(statement)) {
+            close(statement);
+            return;
+        }
+        synchronized (this) {
+            if (!closed) {
+                PreparedStatement previous = statements.put(key, statement);
+                if (previous != null) {
+                    evicted.add(previous);
+                }
+                Iterator<PreparedStatement> eldest = statements.values().iterator();
+                while (statements.size() > capacity) {
+                    evicted.add(eldest.next());
+                    eldest.remove();
+                }
+                return;
+            }
+        }
+        close(statement);
+    }
+
+    /**
+     * Closes the statements evicted since the last call, on the thread
+     * returning the connection to the pool.
+     */
+    void closeEvicted() {
+        List<PreparedStatement> closing;
+        synchronized (this) {
+            if (evicted.isEmpty()) {
+                return;
+            }
+            closing = evicted;
+            evicted = new ArrayList<>();
+        }
+        closing.forEach(StatementCache::close);
+    }
+
+    /**
+     * Closes the cached and evicted statements, before the physical
+     * connection is closed. Statements put afterwards are closed right
+     * away.
+     */
+    void close() {
+        List<PreparedStatement> closing;
+        synchronized (this) {
+            closed = true;
+            closing = new ArrayList<>(statements.values());
+            closing.addAll(evicted);
+            statements.clear();
+            evicted.clear();
+        }
+        closing.forEach(StatementCache::close);
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    /**
+     * Clears what the application left in a statement it closed.
+     */
+    private static boolean reset(PreparedStatement statement) {
+        try {
+            if (statement.isClosed()) {
+                return false;
+            }
+            ResultSet resultSet = statement.getResultSet();
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearWarnings();
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Not caching a statement that cannot be reset", e);
+            return false;
+        }
+    }
+
+    private static void close(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to close cached statement", e);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "StatementCache[" + statements.size() + "/" + capacity + "]";
+    }
+}
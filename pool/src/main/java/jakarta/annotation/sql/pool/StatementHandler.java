@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The invocation handler of the statements created through a
+ * {@link ConnectionHandle}.
+ * <p>
+ * Statements are wrapped with a dynamic proxy rather than a class per
+ * statement interface, so that the wrappers follow the interfaces of the
+ * running JDBC version. Only {@code getConnection}, {@code close} and the
+ * {@code Wrapper} methods are intercepted.
+ * <p>
+ * Closing the wrapper of a cached statement puts the statement back into
+ * the {@link StatementCache} of the connection, unless the application
+ * changed its settings, such as the fetch size or query timeout, or left
+ * a batch behind. The wrapper rejects any further use.
+ */
+final class StatementHandler implements InvocationHandler {
+
+    private final ConnectionHandle connection;
+    private final Statement statement;
+    private final StatementCache.Key key;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // whether the statement is in the state the cache hands it out in
+    private volatile boolean reusable = true;
+    private volatile boolean batched;
+
+    private StatementHandler(ConnectionHandle connection, Statement statement, StatementCache.Key key) {
+        this.connection = connection;
+        this.statement = statement;
+        this.key = key;
+    }
+
+    static <T extends Statement> T wrap(ConnectionHandle connection, T statement, Class<T> type) {
+        return wrap(connection, statement, type, null);
+    }
+
+    /**
+     * Wraps a statement that is put back into the statement cache under
+     * the given key when it is closed.
+     */
+    static <T extends Statement> T wrap(ConnectionHandle connection, T statement, Class<T> type,
+            StatementCache.Key key) {
+        return type.cast(Proxy.newProxyInstance(StatementHandler.class.getClassLoader(), new Class<?>[] {type},
+                new StatementHandler(connection, statement, key)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getConnection":
+                if (method.getParameterCount() == 0) {
+                    checkOpen();
+                    return connection;
+                }
+                break;
+            case "close":
+                if (method.getParameterCount() == 0) {
+                    close((Statement) proxy);
+                    return null;
+                }
+                break;
+            case "isClosed":
+                if (method.getParameterCount() == 0 && closed.get()) {
+                    return true;
+                }
+                break;
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+                break;
+            case "isWrapperFor":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return true;
+                }
+                break;
+            case "equals":
+                if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == Object.class) {
+                    return proxy == args[0];
+                }
+                break;
+            case "hashCode":
+                if (method.getParameterCount() == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                break;
+            case "toString":
+                if (method.getParameterCount() == 0) {
+                    return "StatementHandle[" + statement + "]";
+                }
+                break;
+            case "addBatch":
+                batched = true;
+                break;
+            case "executeBatch":
+            case "executeLargeBatch":
+            case "clearBatch":
+                batched = false;
+                break;
+            case "closeOnCompletion":
+                reusable = false;
+                break;
+            default:
+                if (method.getDeclaringClass() == Statement.class && method.getName().startsWith("set")) {
+                    reusable = false;
+                }
+                break;
+        }
+        checkOpen();
+        try {
+            return method.invoke(statement, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("Statement is closed");
+        }
+    }
+
+    private void close(Statement proxy) throws SQLException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        connection.forget(proxy);
+        if (key != null && reusable && !batched) {
+            connection.recycle(key, (PreparedStatement) statement);
+        } else {
+            statement.close();
+        }
+    }
+}
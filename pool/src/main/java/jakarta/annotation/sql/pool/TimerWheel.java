@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel, running the tasks of timeouts on a single thread.
+ * <p>
+ * The wheel is an array of buckets, each a doubly linked list of
+ * timeouts; the thread advances one bucket per tick and runs the
+ * timeouts of the bucket that are due, counting down the rounds of the
+ * others. Scheduling and cancelling a timeout only queue the change for
+ * the thread, and linking, unlinking and expiring a timeout take constant
+ * time, whatever the number of timeouts. Timeouts fire up to one tick
+ * late.
+ * <p>
+ * A {@link Timeout} is reusable: scheduling it again replaces its
+ * deadline. Tasks run on the thread of the wheel and must not block.
+ */
+final class TimerWheel {
+
+    private static final System.Logger LOGGER = System.getLogger(TimerWheel.class.getName());
+
+    /**
+     * The wheel shared by all pools, ticking every 100 milliseconds.
+     */
+    static final TimerWheel SHARED = new TimerWheel("jakarta.annotation.sql.pool timer",
+            TimeUnit.MILLISECONDS.toNanos(100), 512);
+
+    /**
+     * A task to run once its deadline passed.
+     */
+    static final class Timeout {
+
+        private final Runnable task;
+        private volatile long deadline;
+        private volatile boolean scheduled;
+
+        // owned by the thread of the wheel
+        private Timeout previous;
+        private Timeout next;
+        private long rounds;
+        private int bucket = -1;
+
+        private Timeout(Runnable task) {
+            this.task = task;
+        }
+    }
+
+    private final String name;
+    private final long tick;
+    private final int mask;
+    private final Timeout[] buckets;
+    private final ConcurrentLinkedQueue<Timeout> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Creates a wheel.
+     *
+     * @param name the name of its thread
+     * @param tick the duration of a tick in nanoseconds
+     * @param size the number of buckets, a power of two
+     */
+    TimerWheel(String name, long tick, int size) {
+        if (tick <= 0 || size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Invalid timer wheel of " + size + " buckets of " + tick + " ns");
+        }
+        this.name = name;
+        this.tick = tick;
+        this.mask = size - 1;
+        this.buckets = new Timeout[size];
+    }
+
+    /**
+     * Creates a timeout, not scheduled yet.
+     *
+     * @param task the task to run when the timeout expires
+     * @return the timeout
+     */
+    Timeout timeout(Runnable task) {
+        return new Timeout(task);
+    }
+
+    /**
+     * Schedules a timeout, replacing its deadline if it is scheduled
+     * already.
+     *
+     * @param timeout the timeout
+     * @param delay the delay in nanoseconds
+     */
+    void schedule(Timeout timeout, long delay) {
+        timeout.deadline = System.nanoTime() + delay;
+        timeout.scheduled = true;
+        changes.add(timeout);
+        if (!started.get() && started.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::run, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Cancels a timeout, if it is scheduled.
+     *
+     * @param timeout the timeout
+     */
+    void cancel(Timeout timeout) {
+        timeout.scheduled = false;
+        if (started.get()) {
+            changes.add(timeout);
+        }
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        for (long ticks = 0;; ticks++) {
+            long deadline = start + (ticks + 1) * tick;
+            for (long delay = deadline - System.nanoTime(); delay > 0; delay = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(this, delay);
+            }
+            for (Timeout timeout = changes.poll(); timeout != null; timeout = changes.poll()) {
+                unlink(timeout);
+                if (timeout.scheduled) {
+                    // due at the end of the tick its deadline falls into, or the current one if it passed
+                    long due = Math.max(Math.ceilDiv(timeout.deadline - start, tick) - 1, ticks);
+                    timeout.rounds = (due - ticks) / buckets.length;
+                    link(timeout, (int) (due & mask));
+                }
+            }
+            Timeout timeout = buckets[(int) (ticks & mask)];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.rounds <= 0) {
+                    unlink(timeout);
+                    try {
+                        timeout.task.run();
+                    } catch (RuntimeException | Error e) {
+                        LOGGER.log(System.Logger.Level.WARNING, "Timeout task failed", e);
+                    }
+                } else {
+                    timeout.rounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private void link(Timeout timeout, int bucket) {
+        Timeout head = buckets[bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        buckets[bucket] = timeout;
+        timeout.bucket = bucket;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.bucket < 0) {
+            return;
+        }
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.literal.DataSourceDefinitionLiteral;
+import jakarta.annotation.sql.DataSourceDefinition;
+
+class DataSourcePoolTest {
+
+    private static final ClassLoader LOADER = StubDriver.class.getClassLoader();
+
+    static DataSourcePool pool(DataSourceDefinition definition) {
+        return DataSourcePool.create(definition, LOADER);
+    }
+
+    /**
+     * Waits at most 10 seconds for a condition to hold.
+     */
+    static void await(String description, BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting until " + description);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static Connection connection(CompletableFuture<Connection> future) throws Exception {
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    private static Throwable failure(CompletableFuture<Connection> future) throws Exception {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    @Test
+    void reusesReturnedConnection() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(0).maxPoolSize(1).loginTimeout(5).build())) {
+            Connection first = pool.getConnection();
+            Connection physical = first.unwrap(StubDriver.Physical.class);
+            first.close();
+            assertEquals(1, pool.size());
+            assertEquals(1, pool.idleCount());
+            try (Connection second = pool.getConnection()) {
+                assertSame(physical, second.unwrap(StubDriver.Physical.class));
+                assertEquals(0, pool.idleCount());
+            }
+            assertEquals(1, database.opened.get());
+        }
+    }
+
+    @Test
+    void handsReturnedConnectionToWaitingBorrower() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).loginTimeout(10).build())) {
+            Connection held = pool.getConnection();
+            CompletableFuture<Connection> waiting = new CompletableFuture<>();
+            Thread borrower = Thread.ofPlatform().start(() -> {
+                try {
+                    waiting.complete(pool.getConnection());
+                } catch (SQLException e) {
+                    waiting.completeExceptionally(e);
+                }
+            });
+            Thread.sleep(100);
+            assertFalse(waiting.isDone());
+            held.close();
+            connection(waiting).close();
+            borrower.join();
+            assertEquals(1, database.opened.get());
+            assertEquals(1, pool.idleCount());
+        }
+    }
+
+    @Test
+    void opensInitialAndMinimumConnections() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(2).minPoolSize(3).maxPoolSize(5).loginTimeout(5).build())) {
+            assertTrue(database.opened.get() >= 2);
+            await("the minimum size is reached", () -> pool.idleCount() == 3);
+            assertEquals(3, database.opened.get());
+        }
+        assertEquals(0, database.live());
+    }
+
+    @Test
+    void replacesDiscardedConnectionBelowMinimum() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).minPoolSize(1).maxPoolSize(1).loginTimeout(5).build())) {
+            Connection connection = pool.getConnection();
+            connection.unwrap(StubDriver.Physical.class).close();
+            connection.close();
+            await("the connection is replaced", () -> pool.idleCount() == 1);
+            assertEquals(2, database.opened.get());
+            assertEquals(1, database.live());
+        }
+    }
+
+    @Test
+    void waitsAtMostLoginTimeoutAtMaximumSize() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(0).maxPoolSize(2).loginTimeout(1).build())) {
+            Connection first = pool.getConnection();
+            Connection second = pool.getConnection();
+            long start = System.nanoTime();
+            assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+            assertEquals(2, database.opened.get());
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void setLoginTimeoutOverridesDefinition() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(0).maxPoolSize(1).loginTimeout(60).build())) {
+            assertEquals(60, pool.getLoginTimeout());
+            assertThrows(IllegalArgumentException.class, () -> pool.setLoginTimeout(-1));
+            pool.setLoginTimeout(1);
+            Connection held = pool.getConnection();
+            long start = System.nanoTime();
+            assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+            held.close();
+        }
+    }
+
+    @Test
+    void closesConnectionsIdleForMaxIdleTime() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        DataSourceDefinition definition = StubDriver.definition(database).loginTimeout(5).build();
+        PoolConfiguration configuration = new PoolConfiguration(definition.name(), 0, 1, 3,
+                Duration.ofMillis(300), 0, -1, false, Duration.ofSeconds(5), 1);
+        try (DataSourcePool pool = DataSourcePool.create(definition, configuration, LOADER)) {
+            List<Connection> connections = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                connections.add(pool.getConnection());
+            }
+            for (Connection connection : connections) {
+                connection.close();
+            }
+            assertEquals(3, pool.size());
+            await("idle connections are closed", () -> pool.size() == 1);
+            Thread.sleep(500);
+            assertEquals(1, pool.size());
+            assertEquals(1, database.live());
+        }
+    }
+
+    @Test
+    void keepsConnectionsWithoutMaxIdleTime() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(2).maxPoolSize(2).maxIdleTime(0).loginTimeout(5).build())) {
+            Thread.sleep(500);
+            assertEquals(2, pool.idleCount());
+        }
+    }
+
+    @Test
+    void cachesPreparedStatements() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).maxStatements(2).loginTimeout(5).build())) {
+            try (Connection connection = pool.getConnection()) {
+                connection.prepareStatement("select a").close();
+                connection.prepareStatement("select a").close();
+                assertEquals(1, database.prepared.get());
+                connection.prepareStatement("select b").close();
+                connection.prepareStatement("select c").close();
+                assertEquals(3, database.prepared.get());
+            }
+            // the least recently used statement was evicted and closed with the handle
+            assertEquals(1, database.statementsClosed.get());
+            try (Connection connection = pool.getConnection()) {
+                connection.prepareStatement("select c").close();
+                connection.prepareStatement("select a").close();
+                assertEquals(4, database.prepared.get());
+            }
+        }
+        assertEquals(database.prepared.get(), database.statementsClosed.get());
+    }
+
+    @Test
+    void keysStatementsByCatalogAndSchema() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).maxStatements(10).loginTimeout(5).build())) {
+            try (Connection connection = pool.getConnection()) {
+                connection.prepareStatement("select * from t").close();
+                connection.setSchema("other");
+                connection.prepareStatement("select * from t").close();
+                assertEquals(2, database.prepared.get());
+                connection.setCatalog("archive");
+                connection.prepareStatement("select * from t").close();
+                assertEquals(3, database.prepared.get());
+            }
+            try (Connection connection = pool.getConnection()) {
+                assertEquals("public", connection.getSchema());
+                connection.prepareStatement("select * from t").close();
+                assertEquals(3, database.prepared.get());
+            }
+        }
+    }
+
+    @Test
+    void closesStatementsLeftOpen() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).maxStatements(0).loginTimeout(5).build())) {
+            PreparedStatement statement;
+            try (Connection connection = pool.getConnection()) {
+                statement = connection.prepareStatement("select a");
+                connection.prepareStatement("select a").close();
+                assertEquals(2, database.prepared.get());
+                assertSame(connection, statement.getConnection());
+            }
+            assertTrue(statement.isClosed());
+            assertEquals(2, database.statementsClosed.get());
+        }
+    }
+
+    @Test
+    void appliesIsolationAndTransactional() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).isolationLevel(Connection.TRANSACTION_SERIALIZABLE)
+                .transactional(true).loginTimeout(5).build())) {
+            try (Connection connection = pool.getConnection()) {
+                assertFalse(connection.getAutoCommit());
+                assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+                connection.setAutoCommit(true);
+                connection.setTransactionIsolation(Connection.TRANSACTION_READ_UNCOMMITTED);
+            }
+            try (Connection connection = pool.getConnection()) {
+                assertFalse(connection.getAutoCommit());
+                assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+            }
+        }
+        StubDriver.Database other = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(other)
+                .initialPoolSize(1).maxPoolSize(1).transactional(false).loginTimeout(5).build())) {
+            try (Connection connection = pool.getConnection()) {
+                assertTrue(connection.getAutoCommit());
+                assertEquals(Connection.TRANSACTION_READ_COMMITTED, connection.getTransactionIsolation());
+            }
+        }
+    }
+
+    @Test
+    void rollsBackAndRestoresChangedAttributes() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).transactional(false).loginTimeout(5).build())) {
+            try (Connection connection = pool.getConnection()) {
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+                connection.setHoldability(ResultSet.CLOSE_CURSORS_AT_COMMIT);
+                connection.setClientInfo("ApplicationName", "test");
+                connection.setNetworkTimeout(Runnable::run, 500);
+                connection.createStatement().execute("update t set a = 1");
+            }
+            assertTrue(database.calls.contains("rollback"));
+            try (Connection connection = pool.getConnection()) {
+                assertTrue(connection.getAutoCommit());
+                assertFalse(connection.isReadOnly());
+                assertEquals(ResultSet.HOLD_CURSORS_OVER_COMMIT, connection.getHoldability());
+                assertNull(connection.getClientInfo("ApplicationName"));
+                assertEquals(0, connection.getNetworkTimeout());
+            }
+            assertEquals(1, database.opened.get());
+        }
+    }
+
+    @Test
+    void leavesUnchangedConnectionAlone() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).transactional(true).loginTimeout(5).build())) {
+            database.calls.clear();
+            try (Connection connection = pool.getConnection()) {
+                connection.getAutoCommit();
+            }
+            assertEquals(List.of("clearWarnings"), database.calls);
+        }
+    }
+
+    @Test
+    void restoresEveryAttributeAfterUnwrapping() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).maxStatements(4).transactional(false).loginTimeout(5).build())) {
+            try (Connection connection = pool.getConnection()) {
+                StubDriver.Physical physical = connection.unwrap(StubDriver.Physical.class);
+                physical.setAutoCommit(false);
+                physical.setReadOnly(true);
+                physical.setCatalog("archive");
+                physical.setClientInfo("ApplicationName", "test");
+            }
+            assertTrue(database.calls.contains("rollback"));
+            try (Connection connection = pool.getConnection()) {
+                assertTrue(connection.getAutoCommit());
+                assertFalse(connection.isReadOnly());
+                assertEquals("main", connection.getCatalog());
+                assertNull(connection.getClientInfo("ApplicationName"));
+            }
+            assertEquals(1, database.opened.get());
+        }
+    }
+
+    @Test
+    void acquireCompletesRightAwayWithIdleConnection() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).loginTimeout(5).build())) {
+            CompletableFuture<Connection> future = pool.acquire().toCompletableFuture();
+            assertTrue(future.isDone());
+            future.join().close();
+            assertEquals(1, pool.idleCount());
+        }
+    }
+
+    @Test
+    void acquireOpensConnectionIfNotFull() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(0).maxPoolSize(2).loginTimeout(5).build())) {
+            connection(pool.acquire().toCompletableFuture()).close();
+            assertEquals(1, database.opened.get());
+        }
+    }
+
+    @Test
+    void acquireServesCallersInOrder() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).loginTimeout(10).build())) {
+            Connection held = pool.getConnection();
+            CompletableFuture<Connection> first = pool.acquire().toCompletableFuture();
+            CompletableFuture<Connection> second = pool.acquire().toCompletableFuture();
+            assertFalse(first.isDone());
+            assertFalse(second.isDone());
+            held.close();
+            Connection connection = connection(first);
+            assertFalse(second.isDone());
+            connection.close();
+            connection(second).close();
+            assertEquals(1, database.opened.get());
+        }
+    }
+
+    @Test
+    void cancelledAcquisitionDoesNotLeakConnection() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).loginTimeout(10).build())) {
+            Connection held = pool.getConnection();
+            CompletableFuture<Connection> cancelled = pool.acquire().toCompletableFuture();
+            CompletableFuture<Connection> waiting = pool.acquire().toCompletableFuture();
+            assertTrue(cancelled.cancel(false));
+            held.close();
+            connection(waiting).close();
+            assertEquals(1, pool.idleCount());
+        }
+    }
+
+    @Test
+    void racingCancellationsDoNotLeakConnections() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(2).maxPoolSize(2).loginTimeout(10).build())) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        CompletableFuture<Connection> future = pool.acquire().toCompletableFuture();
+                        if (i % 3 == 0) {
+                            future.cancel(false);
+                        }
+                        future.whenComplete((connection, failure) -> {
+                            if (connection != null) {
+                                try {
+                                    connection.close();
+                                } catch (SQLException e) {
+                                    throw new IllegalStateException(e);
+                                }
+                            }
+                        });
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            await("every connection is returned", () -> pool.idleCount() == pool.size());
+            assertEquals(2, pool.size());
+            assertEquals(2, database.live());
+        }
+    }
+
+    @Test
+    void acquireFailsAtLoginTimeout() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).loginTimeout(1).build())) {
+            Connection held = pool.getConnection();
+            CompletableFuture<Connection> future = pool.acquire().toCompletableFuture();
+            assertInstanceOf(SQLTransientConnectionException.class, failure(future));
+            held.close();
+            // the timed out caller left the queue
+            connection(pool.acquire().toCompletableFuture()).close();
+        }
+    }
+
+    @Test
+    void closeFailsQueuedCallers() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).maxPoolSize(1).loginTimeout(10).build());
+        Connection held = pool.getConnection();
+        CompletableFuture<Connection> future = pool.acquire().toCompletableFuture();
+        pool.close();
+        assertInstanceOf(SQLNonTransientConnectionException.class, failure(future));
+        assertInstanceOf(SQLNonTransientConnectionException.class,
+                failure(pool.acquire().toCompletableFuture()));
+        assertThrows(SQLNonTransientConnectionException.class, pool::getConnection);
+        assertEquals(1, database.live());
+        held.close();
+        assertEquals(0, database.live());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void failsWhenConnectionCannotBeOpened() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        database.failing = true;
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(0).maxPoolSize(1).loginTimeout(5).build())) {
+            assertThrows(SQLException.class, pool::getConnection);
+            assertInstanceOf(SQLException.class, failure(pool.acquire().toCompletableFuture()));
+            assertEquals(0, pool.size());
+            database.failing = false;
+            pool.getConnection().close();
+            assertEquals(1, pool.size());
+        }
+    }
+
+    @Test
+    void defaultsMaximumToCoverInitialSize() {
+        StubDriver.Database database = StubDriver.newDatabase();
+        PoolConfiguration configuration = PoolConfiguration.of(StubDriver.definition(database)
+                .initialPoolSize(50).build());
+        assertEquals(50, configuration.initialPoolSize());
+        assertEquals(50, configuration.maxPoolSize());
+        assertEquals(PoolConfiguration.DEFAULT_MAX_POOL_SIZE, PoolConfiguration.of(StubDriver.definition(database)
+                .initialPoolSize(2).build()).maxPoolSize());
+        assertThrows(IllegalArgumentException.class, () -> PoolConfiguration.of(StubDriver.definition(database)
+                .initialPoolSize(50).maxPoolSize(10).build()));
+    }
+
+    @Test
+    void rejectsInvalidDefinition() {
+        StubDriver.Database database = StubDriver.newDatabase();
+        assertThrows(IllegalArgumentException.class, () -> pool(StubDriver.definition(database)
+                .minPoolSize(3).maxPoolSize(2).build()));
+        assertThrows(IllegalArgumentException.class, () -> pool(StubDriver.definition(database)
+                .url("").build()));
+        assertThrows(IllegalArgumentException.class, () -> DataSourcePool.create(
+                DataSourceDefinitionLiteral.builder("java:app/missing",
+                        "com.example.MissingDriver").build(), LOADER));
+    }
+}
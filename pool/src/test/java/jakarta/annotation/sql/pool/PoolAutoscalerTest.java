@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import static jakarta.annotation.sql.pool.DataSourcePoolTest.await;
+import static jakarta.annotation.sql.pool.DataSourcePoolTest.pool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class PoolAutoscalerTest {
+
+    private static final ScalingPolicy FAST = new ScalingPolicy(Duration.ofMillis(100), Duration.ofMillis(1),
+            0.75, 0.25, 2);
+
+    @Test
+    void growsUnderLoadAndShrinksWhenCalm() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).minPoolSize(1).maxPoolSize(8).loginTimeout(5).build());
+                PoolAutoscaler autoscaler = PoolAutoscaler.attach(pool, FAST)) {
+            assertEquals(1, autoscaler.limit());
+            List<Connection> connections = new ArrayList<>();
+            connections.add(pool.getConnection());
+            await("the pool grows", () -> autoscaler.limit() > 1);
+            connections.add(pool.getConnection());
+            await("the pool grows again", () -> autoscaler.limit() > 2);
+            assertTrue(autoscaler.grown() >= 2);
+            for (Connection connection : connections) {
+                connection.close();
+            }
+            await("the pool shrinks", () -> autoscaler.limit() == 1);
+            assertTrue(autoscaler.shrunk() >= 1);
+            await("idle connections above the limit are closed", () -> pool.size() == 1);
+            assertEquals(1, database.live());
+        }
+    }
+
+    @Test
+    void startsAtInitialSize() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(4).minPoolSize(0).maxPoolSize(8).loginTimeout(5).build());
+                PoolAutoscaler autoscaler = PoolAutoscaler.attach(pool, FAST)) {
+            assertEquals(4, autoscaler.limit());
+        }
+    }
+
+    @Test
+    void growsColdPoolForConcurrentBorrowers() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        // decisions of the interval come too late for the borrowers
+        ScalingPolicy slow = new ScalingPolicy(Duration.ofMinutes(10), Duration.ofMillis(1), 0.75, 0.25, 2);
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(0).minPoolSize(0).maxPoolSize(8).loginTimeout(5).build());
+                PoolAutoscaler autoscaler = PoolAutoscaler.attach(pool, slow)) {
+            assertEquals(1, autoscaler.limit());
+            int borrowers = 6;
+            CountDownLatch borrowed = new CountDownLatch(borrowers);
+            try (ExecutorService executor = Executors.newFixedThreadPool(borrowers)) {
+                CompletableFuture<?>[] futures = IntStream.range(0, borrowers)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            // every borrower holds its connection until all have one
+                            try (Connection connection = pool.getConnection()) {
+                                borrowed.countDown();
+                                assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+                                assertFalse(connection.isClosed());
+                            } catch (Exception e) {
+                                throw new AssertionError(e);
+                            }
+                        }, executor))
+                        .toArray(CompletableFuture<?>[]::new);
+                CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+            }
+            assertTrue(autoscaler.limit() >= borrowers, autoscaler::toString);
+            assertTrue(autoscaler.limit() <= 8, autoscaler::toString);
+            assertTrue(autoscaler.grown() >= 1);
+            assertEquals(borrowers, pool.size());
+        }
+    }
+
+    @Test
+    void neverExceedsMaximumSize() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(2).minPoolSize(0).maxPoolSize(2).loginTimeout(5).build());
+                PoolAutoscaler autoscaler = PoolAutoscaler.attach(pool, FAST)) {
+            Connection first = pool.getConnection();
+            Connection second = pool.getConnection();
+            Thread.sleep(500);
+            assertEquals(2, autoscaler.limit());
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void closingRestoresMaximumSize() throws Exception {
+        StubDriver.Database database = StubDriver.newDatabase();
+        try (DataSourcePool pool = pool(StubDriver.definition(database)
+                .initialPoolSize(1).minPoolSize(1).maxPoolSize(4).loginTimeout(5).build())) {
+            PoolAutoscaler autoscaler = PoolAutoscaler.attach(pool, FAST);
+            assertEquals(1, pool.limit());
+            assertThrows(IllegalStateException.class, () -> PoolAutoscaler.attach(pool, FAST));
+            autoscaler.close();
+            assertEquals(4, pool.limit());
+            PoolAutoscaler.attach(pool, FAST).close();
+        }
+    }
+
+    @Test
+    void cannotScaleClosedPool() {
+        StubDriver.Database database = StubDriver.newDatabase();
+        DataSourcePool pool = pool(StubDriver.definition(database).maxPoolSize(1).loginTimeout(5).build());
+        pool.close();
+        assertThrows(IllegalStateException.class, () -> PoolAutoscaler.attach(pool, FAST));
+    }
+
+    @Test
+    void rejectsInvalidPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new ScalingPolicy(Duration.ZERO, Duration.ZERO,
+                0.75, 0.25, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ScalingPolicy(Duration.ofSeconds(1),
+                Duration.ZERO, 0.25, 0.75, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ScalingPolicy(Duration.ofSeconds(1),
+                Duration.ZERO, 0.75, 0.25, 0));
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.sql.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import jakarta.annotation.literal.DataSourceDefinitionLiteral;
+
+/**
+ * A JDBC driver whose connections hold their session attributes in memory
+ * and record the calls that change them, for testing pools without a
+ * database. Every URL {@code jdbc:stub:<name>} denotes a separate
+ * {@link Database}.
+ */
+public final class StubDriver implements Driver {
+
+    private static final String PREFIX = "jdbc:stub:";
+
+    private static final Map<String, Database> DATABASES = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a driver, as the pool does through its class name.
+     */
+    public StubDriver() {
+    }
+
+    /**
+     * Returns a new database with a unique URL.
+     */
+    static Database newDatabase() {
+        return database(PREFIX + UUID.randomUUID());
+    }
+
+    static Database database(String url) {
+        return DATABASES.computeIfAbsent(url, Database::new);
+    }
+
+    /**
+     * Returns a definition of a data source of a database, to be completed
+     * with pooling attributes.
+     */
+    static DataSourceDefinitionLiteral.Builder definition(Database database) {
+        return DataSourceDefinitionLiteral.builder("java:app/" + database.url.substring(PREFIX.length()),
+                StubDriver.class.getName())
+                .url(database.url);
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        return acceptsURL(url) ? database(url).open() : null;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * The type of the physical connections, which a pooled connection can
+     * be unwrapped to.
+     */
+    interface Physical extends Connection {
+    }
+
+    /**
+     * The state shared by the connections of one URL.
+     */
+    static final class Database {
+
+        final String url;
+        final AtomicInteger opened = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+        final AtomicInteger prepared = new AtomicInteger();
+        final AtomicInteger statementsClosed = new AtomicInteger();
+        // the calls changing the state of a connection, in order
+        final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        volatile long openDelayMillis;
+        volatile boolean failing;
+
+        private Database(String url) {
+            this.url = url;
+        }
+
+        /**
+         * Returns the number of connections opened and not closed yet.
+         */
+        int live() {
+            return opened.get() - closed.get();
+        }
+
+        private Connection open() throws SQLException {
+            if (failing) {
+                throw new SQLException("Database " + url + " is down", "08001");
+            }
+            if (openDelayMillis > 0) {
+                try {
+                    Thread.sleep(openDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted", "08001", e);
+                }
+            }
+            opened.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+                    new Class<?>[] {Physical.class}, new StubConnection(this));
+        }
+    }
+
+    /**
+     * A connection with in-memory session attributes.
+     */
+    private static final class StubConnection implements InvocationHandler {
+
+        private final Database database;
+        private boolean autoCommit = true;
+        private int isolation = Connection.TRANSACTION_READ_COMMITTED;
+        private boolean readOnly;
+        private String catalog = "main";
+        private String schema = "public";
+        private int holdability = ResultSet.HOLD_CURSORS_OVER_COMMIT;
+        private Map<String, Class<?>> typeMap = new HashMap<>();
+        private Properties clientInfo = new Properties();
+        private int networkTimeout;
+        private boolean closed;
+
+        StubConnection(Database database) {
+            this.database = database;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            String name = method.getName();
+            if (closed && !name.equals("close") && !name.equals("isClosed") && !name.equals("isValid")) {
+                throw new SQLException("Connection is closed", "08003");
+            }
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        database.closed.incrementAndGet();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "isValid":
+                    return !closed;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    break;
+                case "getTransactionIsolation":
+                    return isolation;
+                case "setTransactionIsolation":
+                    isolation = (Integer) args[0];
+                    break;
+                case "isReadOnly":
+                    return readOnly;
+                case "setReadOnly":
+                    readOnly = (Boolean) args[0];
+                    break;
+                case "getCatalog":
+                    return catalog;
+                case "setCatalog":
+                    catalog = (String) args[0];
+                    break;
+                case "getSchema":
+                    return schema;
+                case "setSchema":
+                    schema = (String) args[0];
+                    break;
+                case "getHoldability":
+                    return holdability;
+                case "setHoldability":
+                    holdability = (Integer) args[0];
+                    break;
+                case "getTypeMap":
+                    return new HashMap<>(typeMap);
+                case "setTypeMap":
+                    typeMap = new HashMap<>((Map<String, Class<?>>) args[0]);
+                    break;
+                case "getClientInfo":
+                    if (args == null) {
+                        Properties copy = new Properties();
+                        copy.putAll(clientInfo);
+                        return copy;
+                    }
+                    return clientInfo.getProperty((String) args[0]);
+                case "setClientInfo":
+                    if (args.length == 1) {
+                        clientInfo = new Properties();
+                        clientInfo.putAll((Properties) args[0]);
+                    } else if (args[1] == null) {
+                        clientInfo.remove(args[0]);
+                    } else {
+                        clientInfo.setProperty((String) args[0], (String) args[1]);
+                    }
+                    break;
+                case "getNetworkTimeout":
+                    return networkTimeout;
+                case "setNetworkTimeout":
+                    networkTimeout = (Integer) args[1];
+                    break;
+                case "commit":
+                case "rollback":
+                case "clearWarnings":
+                    break;
+                case "getWarnings":
+                    return null;
+                case "createStatement":
+                    return statement(Statement.class, null);
+                case "prepareStatement":
+                case "prepareCall":
+                    database.prepared.incrementAndGet();
+                    return statement(method.getReturnType(), (String) args[0]);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    throw new SQLException("Not a wrapper for " + args[0]);
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubConnection[" + database.url + "]";
+                default:
+                    throw new SQLFeatureNotSupportedException(name);
+            }
+            database.calls.add(args == null ? name : name + " " + args[args.length - 1]);
+            return null;
+        }
+
+        private Object statement(Class<?> type, String sql) {
+            return Proxy.newProxyInstance(StubDriver.class.getClassLoader(), new Class<?>[] {type},
+                    new StubStatement(database, sql));
+        }
+    }
+
+    /**
+     * A statement that executes nothing.
+     */
+    private static final class StubStatement implements InvocationHandler {
+
+        private final Database database;
+        private final String sql;
+        private boolean closed;
+
+        StubStatement(Database database, String sql) {
+            this.database = database;
+            this.sql = sql;
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        database.statementsClosed.incrementAndGet();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubStatement[" + sql + "]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            Class<?> type = method.getReturnType();
+            if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            } else if (type == boolean.class) {
+                return false;
+            } else if (type == int[].class) {
+                return new int[0];
+            }
+            return null;
+        }
+    }
+
+}
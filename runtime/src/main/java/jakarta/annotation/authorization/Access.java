@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+/**
+ * The kind of access control that applies to a method.
+ */
+public enum Access {
+
+    /**
+     * No security annotation applies, access is not restricted.
+     */
+    UNCHECKED,
+
+    /**
+     * {@code DenyAll} applies, no caller may invoke the method.
+     */
+    DENY_ALL,
+
+    /**
+     * {@code PermitAll} applies, every caller may invoke the method.
+     */
+    PERMIT_ALL,
+
+    /**
+     * {@code RolesAllowed} applies, only callers in one of the roles may
+     * invoke the method.
+     */
+    ROLES_ALLOWED
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Evaluates the constraints of many methods or classes for one caller at
+ * once, for example to decide which actions a user interface offers.
+ * <p>
+ * A batch is compiled from a list of {@link MethodConstraint}s into one
+ * bitmap over the entries per role, plus a bitmap of the entries that are
+ * unchecked or permitted to all. The entries a caller may access are then
+ * the union of the bitmaps of the caller's roles, computed word by word in
+ * a single pass that the JIT compiler can vectorize, instead of one check
+ * per entry. Instances of this class are immutable.
+ */
+public final class AuthorizationBatch {
+
+    private final int size;
+    private final RoleTable table;
+    private final long[] permitted;
+    private final long[][] roles;
+
+    private AuthorizationBatch(int size, RoleTable table, long[] permitted, long[][] roles) {
+        this.size = size;
+        this.table = table;
+        this.permitted = permitted;
+        this.roles = roles;
+    }
+
+    /**
+     * Compiles a batch.
+     *
+     * @param constraints the constraints of the entries, in the order of
+     *        the bits of the resulting bitmaps
+     * @return the batch
+     * @throws IllegalArgumentException if the constraints refer to
+     *         different role tables
+     */
+    public static AuthorizationBatch of(List<MethodConstraint> constraints) {
+        int size = constraints.size();
+        long[] permitted = new long[(size + 63) >>> 6];
+        long[][] roles = new long[0][];
+        RoleTable table = null;
+        for (int i = 0; i < size; i++) {
+            MethodConstraint constraint = constraints.get(i);
+            switch (constraint.access()) {
+                case UNCHECKED:
+                case PERMIT_ALL:
+                    permitted[i >>> 6] |= 1L << i;
+                    break;
+                case ROLES_ALLOWED:
+                    RoleSet allowed = constraint.roles();
+                    if (table == null) {
+                        table = allowed.table();
+                    } else if (allowed.table() != table) {
+                        throw new IllegalArgumentException("Constraints of different role tables");
+                    }
+                    long[] words = allowed.words();
+                    if (words.length << 6 > roles.length) {
+                        roles = Arrays.copyOf(roles, words.length << 6);
+                    }
+                    for (int w = 0; w < words.length; w++) {
+                        for (long word = words[w]; word != 0; word &= word - 1) {
+                            int role = (w << 6) + Long.numberOfTrailingZeros(word);
+                            if (roles[role] == null) {
+                                roles[role] = new long[permitted.length];
+                            }
+                            roles[role][i >>> 6] |= 1L << i;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new AuthorizationBatch(size, table, permitted, roles);
+    }
+
+    /**
+     * Returns the number of entries of this batch.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the entries a caller may access.
+     *
+     * @param caller the roles of the caller
+     * @return a bitmap with the bits of the accessible entries set
+     * @throws IllegalArgumentException if the caller roles belong to
+     *         another role table than the constraints
+     */
+    public BitSet permitted(RoleSet caller) {
+        long[] bitmap = new long[permitted.length];
+        permitted(caller, bitmap);
+        return BitSet.valueOf(bitmap);
+    }
+
+    /**
+     * Computes the entries a caller may access into an existing bitmap,
+     * without allocating.
+     *
+     * @param caller the roles of the caller
+     * @param bitmap the words of the bitmap, at least {@code (size() + 63) / 64}
+     *        long, overwritten with the bits of the accessible entries
+     * @throws IllegalArgumentException if the caller roles belong to
+     *         another role table than the constraints, or the bitmap is too short
+     */
+    public void permitted(RoleSet caller, long[] bitmap) {
+        if (table != null && caller.table() != table) {
+            throw new IllegalArgumentException("Role sets of different role tables");
+        }
+        if (bitmap.length < permitted.length) {
+            throw new IllegalArgumentException("Bitmap of " + bitmap.length + " words for " + size + " entries");
+        }
+        int length = permitted.length;
+        System.arraycopy(permitted, 0, bitmap, 0, length);
+        long[] words = caller.words();
+        for (int w = 0, n = Math.min(words.length, (roles.length + 63) >>> 6); w < n; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                int role = (w << 6) + Long.numberOfTrailingZeros(word);
+                long[] entries = role < roles.length ? roles[role] : null;
+                if (entries != null) {
+                    for (int i = 0; i < length; i++) {
+                        bitmap[i] |= entries[i];
+                    }
+                }
+            }
+        }
+    }
+}
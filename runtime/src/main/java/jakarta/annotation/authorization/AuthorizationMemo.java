@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A memo of the authorization decisions made for one caller during one
+ * request.
+ * <p>
+ * A request often passes many {@code RolesAllowed} boundaries that allow
+ * the same roles. While a memo is open on a thread,
+ * {@link SecurityResolver#permits(Class, java.lang.reflect.Method, RoleSet)}
+ * evaluates the roles allowed by such a boundary only once for the caller
+ * of the memo, and remembers the decision by the identity of the
+ * {@link RoleSet}, which the resolver shares between all elements
+ * allowing the same roles. Checks for other callers, or made on other
+ * threads, are not memoized.
+ * <p>
+ * A memo is opened at the start of a request and cleared when it is
+ * closed at its end:
+ * <pre>{@code
+ * try (AuthorizationMemo memo = AuthorizationMemo.open(callerRoles)) {
+ *     dispatch(request);
+ * }
+ * }</pre>
+ * Memos are confined to the thread that opened them.
+ * <p>
+ * Memoization is disabled unless the system property
+ * {@value #ENABLED_PROPERTY} is {@code true} when this class is
+ * initialized. While it is disabled, {@link #open(RoleSet)} returns a memo
+ * that is never consulted, and checks only read a constant, which the JIT
+ * compiler folds away. Whether memoization pays off depends on the size of
+ * the role table and the number of boundaries per request; the
+ * {@code AuthorizationBenchmark} of the benchmarks module measures both
+ * modes.
+ */
+public final class AuthorizationMemo implements AutoCloseable {
+
+    /**
+     * The system property enabling memoization.
+     */
+    public static final String ENABLED_PROPERTY = "jakarta.annotation.authorization.memo";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final ThreadLocal<AuthorizationMemo> CURRENT = new ThreadLocal<>();
+
+    private final RoleSet caller;
+    private final AuthorizationMemo previous;
+    private final Thread thread;
+    private RoleSet[] keys = new RoleSet[16];
+    private boolean[] decisions = new boolean[16];
+    private int size;
+
+    private AuthorizationMemo(RoleSet caller, AuthorizationMemo previous) {
+        this.caller = caller;
+        this.previous = previous;
+        this.thread = Thread.currentThread();
+    }
+
+    /**
+     * Opens a memo for a caller on the current thread. A memo that is
+     * already open on the thread is suspended until the new one is closed.
+     * If memoization is disabled, the memo is not made current.
+     *
+     * @param caller the roles of the caller
+     * @return the memo
+     */
+    public static AuthorizationMemo open(RoleSet caller) {
+        Objects.requireNonNull(caller, "caller");
+        if (!ENABLED) {
+            return new AuthorizationMemo(caller, null);
+        }
+        AuthorizationMemo memo = new AuthorizationMemo(caller, CURRENT.get());
+        CURRENT.set(memo);
+        return memo;
+    }
+
+    /**
+     * Returns the memo open on the current thread.
+     *
+     * @return the memo, or {@code null} if none is open
+     */
+    public static AuthorizationMemo current() {
+        return ENABLED ? CURRENT.get() : null;
+    }
+
+    /**
+     * Returns whether memoization is enabled.
+     *
+     * @return {@code true} if {@value #ENABLED_PROPERTY} was set
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the caller whose decisions are memoized.
+     *
+     * @return the roles of the caller
+     */
+    public RoleSet caller() {
+        return caller;
+    }
+
+    /**
+     * Returns the number of memoized decisions.
+     *
+     * @return the number of decisions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discards the memoized decisions and reinstates the memo that was
+     * open when this one was opened.
+     *
+     * @throws IllegalStateException if called by another thread than the
+     *         one that opened the memo, or if a memo opened later is still open
+     */
+    @Override
+    public void close() {
+        if (!ENABLED) {
+            return;
+        }
+        if (Thread.currentThread() != thread || CURRENT.get() != this) {
+            throw new IllegalStateException("Memo is not the current memo of this thread");
+        }
+        Arrays.fill(keys, null);
+        size = 0;
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Returns whether a caller passes a constraint, using the memo of the
+     * current thread if there is one for the caller.
+     */
+    static boolean permits(MethodConstraint constraint, RoleSet caller) {
+        if (ENABLED && constraint.access() == Access.ROLES_ALLOWED) {
+            AuthorizationMemo memo = CURRENT.get();
+            if (memo != null && (memo.caller == caller || memo.caller.equals(caller))) {
+                return memo.decide(constraint.roles());
+            }
+        }
+        return constraint.permits(caller);
+    }
+
+    private boolean decide(RoleSet allowed) {
+        int mask = keys.length - 1;
+        int i = System.identityHashCode(allowed) & mask;
+        for (RoleSet key; (key = keys[i]) != null; i = (i + 1) & mask) {
+            if (key == allowed) {
+                return decisions[i];
+            }
+        }
+        boolean decision = allowed.intersects(caller);
+        keys[i] = allowed;
+        decisions[i] = decision;
+        if (++size > keys.length >>> 1) {
+            rehash();
+        }
+        return decision;
+    }
+
+    private void rehash() {
+        RoleSet[] oldKeys = keys;
+        boolean[] oldDecisions = decisions;
+        keys = new RoleSet[oldKeys.length << 1];
+        decisions = new boolean[oldKeys.length << 1];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != null) {
+                int i = System.identityHashCode(oldKeys[j]) & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                decisions[i] = oldDecisions[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.util.Objects;
+
+/**
+ * The effective access control of a method, after resolving the
+ * precedence of the security annotations.
+ *
+ * @param access the kind of access control
+ * @param roles the roles allowed to invoke the method if {@code access} is
+ *        {@link Access#ROLES_ALLOWED}, otherwise {@code null}
+ */
+public record MethodConstraint(Access access, RoleSet roles) {
+
+    static final MethodConstraint UNCHECKED = new MethodConstraint(Access.UNCHECKED, null);
+    static final MethodConstraint DENY_ALL = new MethodConstraint(Access.DENY_ALL, null);
+    static final MethodConstraint PERMIT_ALL = new MethodConstraint(Access.PERMIT_ALL, null);
+
+    /**
+     * Creates a constraint.
+     *
+     * @param access the kind of access control
+     * @param roles the allowed roles, required for and only for
+     *        {@link Access#ROLES_ALLOWED}
+     */
+    public MethodConstraint {
+        Objects.requireNonNull(access, "access");
+        if ((access == Access.ROLES_ALLOWED) != (roles != null)) {
+            throw new IllegalArgumentException("Roles are required for and only for " + Access.ROLES_ALLOWED);
+        }
+    }
+
+    /**
+     * Returns whether a caller may invoke the method.
+     *
+     * @param caller the roles of the caller
+     * @return {@code true} if access is granted
+     * @throws IllegalArgumentException if the caller roles belong to another role table
+     */
+    public boolean permits(RoleSet caller) {
+        switch (access) {
+            case DENY_ALL:
+                return false;
+            case ROLES_ALLOWED:
+                return roles.intersects(caller);
+            default:
+                return true;
+        }
+    }
+}
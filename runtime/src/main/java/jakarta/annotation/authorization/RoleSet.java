@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * An immutable set of the roles of a {@link RoleTable}, stored as a bitset
+ * over the role ids.
+ * <p>
+ * The operations on two role sets require both to belong to the same
+ * table. Checking whether a caller is in one of the roles allowed to call
+ * a method is {@link #intersects(RoleSet)}, which allocates nothing and
+ * takes one {@code AND} per 64 roles.
+ */
+public final class RoleSet {
+
+    private final RoleTable table;
+    private final long[] words;
+
+    RoleSet(RoleTable table, long[] words) {
+        this.table = table;
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        this.words = length == words.length ? words : Arrays.copyOf(words, length);
+    }
+
+    /**
+     * Returns the table of the roles of this set.
+     *
+     * @return the role table
+     */
+    public RoleTable table() {
+        return table;
+    }
+
+    /**
+     * Returns whether this set and another set have a role in common.
+     *
+     * @param other a set of the same table
+     * @return {@code true} if the sets intersect
+     * @throws IllegalArgumentException if the sets belong to different tables
+     */
+    public boolean intersects(RoleSet other) {
+        long[] a = words;
+        long[] b = compatible(other).words;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether this set contains all roles of another set.
+     *
+     * @param other a set of the same table
+     * @return {@code true} if {@code other} is a subset of this set
+     * @throws IllegalArgumentException if the sets belong to different tables
+     */
+    public boolean containsAll(RoleSet other) {
+        long[] a = words;
+        long[] b = compatible(other).words;
+        if (b.length > a.length) {
+            return false;
+        }
+        for (int i = 0; i < b.length; i++) {
+            if ((b[i] & ~a[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether this set contains a role.
+     *
+     * @param id the id of the role
+     * @return {@code true} if the role is in this set
+     */
+    public boolean contains(int id) {
+        int word = id >>> 6;
+        return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns whether this set contains a role.
+     *
+     * @param role the role name
+     * @return {@code true} if the role is in this set
+     */
+    public boolean contains(String role) {
+        return contains(table.indexOf(role));
+    }
+
+    /**
+     * Returns whether this set is empty.
+     *
+     * @return {@code true} if the set contains no role
+     */
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * Returns the number of roles in this set.
+     *
+     * @return the number of roles
+     */
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the names of the roles in this set, in the order of their ids.
+     *
+     * @return an unmodifiable set of role names
+     */
+    public Set<String> names() {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                names.add(table.role((i << 6) + Long.numberOfTrailingZeros(word)));
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    private RoleSet compatible(RoleSet other) {
+        if (other.table != table) {
+            throw new IllegalArgumentException("Role sets of different role tables");
+        }
+        return other;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof RoleSet
+                && ((RoleSet) obj).table == table
+                && Arrays.equals(((RoleSet) obj).words, words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return names().toString();
+    }
+}
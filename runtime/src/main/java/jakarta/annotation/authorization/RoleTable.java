@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.reflect.AnnotationValues;
+import jakarta.annotation.reflect.Hierarchy;
+import jakarta.annotation.security.RunAs;
+
+/**
+ * The security roles of an application, numbered by dense integer ids.
+ * <p>
+ * Role names are interned into ids in the order they are first seen,
+ * typically by {@linkplain #register(Class) registering} the components
+ * of the application at deployment, which interns the roles of their
+ * {@code DeclareRoles}, {@code RolesAllowed} and {@code RunAs}
+ * annotations. Sets of roles, such as the roles allowed to call a method
+ * or the roles of a principal, are then represented as {@link RoleSet}
+ * bitsets over these ids, so that an authorization check is a few
+ * bitwise operations on {@code long} values instead of a string set
+ * intersection.
+ * <p>
+ * Ids are never reused or reassigned, so that role sets created at
+ * different times remain comparable. Only the roles declared by the
+ * application are interned; the role set of a caller leaves out roles the
+ * table does not know, which no declared role set can contain, so that
+ * callers cannot grow the table. Instances of this class are safe for use
+ * by multiple threads; looking up a known role does not lock.
+ */
+public final class RoleTable {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[16];
+    private volatile int size;
+
+    /**
+     * Creates an empty table.
+     */
+    public RoleTable() {
+    }
+
+    /**
+     * Interns the roles declared or referenced by the security annotations
+     * of a component class and its superclasses.
+     *
+     * @param component the component class
+     * @return this table
+     */
+    public RoleTable register(Class<?> component) {
+        for (Class<?> type : Hierarchy.of(component)) {
+            internAll(AnnotationValues.declaredRoles(type));
+            RunAs runAs = type.getAnnotation(RunAs.class);
+            if (runAs != null) {
+                intern(runAs.value());
+            }
+            Collection<String> roles = AnnotationValues.rolesAllowed(type);
+            if (roles != null) {
+                internAll(roles);
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                roles = AnnotationValues.rolesAllowed(method);
+                if (roles != null) {
+                    internAll(roles);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the id of a role, assigning the next free id if the role is
+     * not known yet.
+     *
+     * @param role the role name
+     * @return the id of the role
+     */
+    public int intern(String role) {
+        Integer id = ids.get(role);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(role);
+            if (id == null) {
+                id = size;
+                String[] n = names;
+                if (id == n.length) {
+                    n = Arrays.copyOf(n, n.length * 2);
+                }
+                n[id] = role;
+                // publish the name before the id, so that every visible id has a name
+                names = n;
+                size = id + 1;
+                ids.put(role, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Returns the id of a role without interning it.
+     *
+     * @param role the role name
+     * @return the id of the role, or {@code -1} if the role is not known
+     */
+    public int indexOf(String role) {
+        Integer id = ids.get(role);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the name of a role.
+     *
+     * @param id the id of the role
+     * @return the role name
+     * @throws IndexOutOfBoundsException if no role has the given id
+     */
+    public String role(int id) {
+        // read the size before the names, which are published first
+        int n = size;
+        return names[Objects.checkIndex(id, n)];
+    }
+
+    /**
+     * Returns the number of known roles.
+     *
+     * @return the number of roles
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the set of the known roles among the given roles, such as
+     * the roles of a caller. Roles that are not known are left out and
+     * are not interned.
+     *
+     * @param roles the role names
+     * @return the role set
+     */
+    public RoleSet roles(Collection<String> roles) {
+        long[] words = new long[0];
+        for (String role : roles) {
+            int id = indexOf(role);
+            if (id >= 0) {
+                words = set(words, id);
+            }
+        }
+        return new RoleSet(this, words);
+    }
+
+    /**
+     * Returns the set of the known roles among the given roles, such as
+     * the roles of a caller. Roles that are not known are left out and
+     * are not interned.
+     *
+     * @param roles the role names
+     * @return the role set
+     */
+    public RoleSet roles(String... roles) {
+        return roles(Arrays.asList(roles));
+    }
+
+    /**
+     * Returns the set of roles declared by the application, interning
+     * unknown roles.
+     */
+    RoleSet declared(Collection<String> roles) {
+        long[] words = new long[0];
+        for (String role : roles) {
+            words = set(words, intern(role));
+        }
+        return new RoleSet(this, words);
+    }
+
+    private void internAll(Collection<String> roles) {
+        for (String role : roles) {
+            intern(role);
+        }
+    }
+
+    private static long[] set(long[] words, int id) {
+        int word = id >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, word + 1);
+        }
+        words[word] |= 1L << id;
+        return words;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * The identity a component runs as, from its {@code RunAs} annotation.
+ * <p>
+ * Run-as contexts are immutable and are computed once per component class
+ * by {@link SecurityResolver#runAs(Class)}. One is bound to the current
+ * thread for the execution of an action:
+ * <pre>{@code
+ * RunAsContext runAs = resolver.runAs(component.getClass());
+ * Object result = runAs == null ? invocation.call() : runAs.call(invocation);
+ * }</pre>
+ * Within the action, {@link #current()} returns the bound context.
+ * Bindings nest, and are restored when the action completes, normally or
+ * not.
+ * <p>
+ * On Java 25 and later the context is bound with a
+ * {@code java.lang.ScopedValue} whose carrier is computed with the
+ * context, so binding allocates no carrier per call, and subtasks forked
+ * in a {@code StructuredTaskScope} opened by the action run with the
+ * context. On earlier releases it is held in a thread local for the
+ * duration of the action. In both cases other threads, including threads
+ * started by the action, do not see the binding, so that the identity of
+ * the component cannot leak into work that outlives the action. Work
+ * handed to an executor runs with the context of its submitter only if it
+ * is wrapped explicitly:
+ * <pre>{@code
+ * executor.submit(RunAsContext.propagate(task));
+ * }</pre>
+ */
+public final class RunAsContext {
+
+    private final Class<?> component;
+    private final String role;
+    private final RoleSet roles;
+    private final RunAsScope scope;
+
+    RunAsContext(Class<?> component, String role, RoleSet roles) {
+        this.component = component;
+        this.role = role;
+        this.roles = roles;
+        this.scope = new RunAsScope(this);
+    }
+
+    /**
+     * Returns the context bound to the current thread.
+     *
+     * @return the context, or {@code null} if none is bound
+     */
+    public static RunAsContext current() {
+        return RunAsScope.current();
+    }
+
+    /**
+     * Returns an action that runs another action with the context bound to
+     * the current thread now, or with no context if none is bound.
+     *
+     * @param action the action
+     * @return the action binding the current context
+     */
+    public static Runnable propagate(Runnable action) {
+        Objects.requireNonNull(action, "action");
+        RunAsScope scope = scope(current());
+        return () -> scope.run(action);
+    }
+
+    /**
+     * Returns an action that calls another action with the context bound
+     * to the current thread now, or with no context if none is bound.
+     *
+     * @param <R> the type of the result
+     * @param action the action
+     * @return the action binding the current context
+     */
+    public static <R> Callable<R> propagate(Callable<R> action) {
+        Objects.requireNonNull(action, "action");
+        RunAsScope scope = scope(current());
+        return () -> scope.call(action);
+    }
+
+    /**
+     * Returns the component class annotated with {@code RunAs}.
+     *
+     * @return the component class
+     */
+    public Class<?> component() {
+        return component;
+    }
+
+    /**
+     * Returns the role the component runs as.
+     *
+     * @return the role name
+     */
+    public String role() {
+        return role;
+    }
+
+    /**
+     * Returns the role the component runs as, as a role set to check
+     * calls made by the component with.
+     *
+     * @return the role set containing only {@link #role()}
+     */
+    public RoleSet roles() {
+        return roles;
+    }
+
+    /**
+     * Runs an action with this context bound to the current thread.
+     *
+     * @param action the action
+     */
+    public void run(Runnable action) {
+        Objects.requireNonNull(action, "action");
+        scope.run(action);
+    }
+
+    /**
+     * Computes a result with this context bound to the current thread.
+     *
+     * @param <R> the type of the result
+     * @param action the action
+     * @return the result of the action
+     */
+    public <R> R get(Supplier<? extends R> action) {
+        Objects.requireNonNull(action, "action");
+        return scope.get(action);
+    }
+
+    /**
+     * Calls an action with this context bound to the current thread.
+     *
+     * @param <R> the type of the result
+     * @param action the action
+     * @return the result of the action
+     * @throws Exception if the action throws an exception
+     */
+    public <R> R call(Callable<? extends R> action) throws Exception {
+        Objects.requireNonNull(action, "action");
+        return scope.call(action);
+    }
+
+    private static RunAsScope scope(RunAsContext context) {
+        return context == null ? RunAsScope.NONE : context.scope;
+    }
+
+    @Override
+    public String toString() {
+        return "RunAsContext[component=" + component.getName() + ", role=" + role + "]";
+    }
+}
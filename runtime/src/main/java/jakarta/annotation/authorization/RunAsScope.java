@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * The binding of one run-as context, or of none, to the current thread.
+ * <p>
+ * This is the implementation for Java 17 to 24, which holds the binding in
+ * a thread local that is not inherited by other threads. The runtime jar
+ * replaces it on Java 25 and later with an implementation binding a
+ * {@code java.lang.ScopedValue}, found under {@code META-INF/versions/25}.
+ */
+final class RunAsScope {
+
+    // not inheritable, threads created by the action must not keep its identity
+    private static final ThreadLocal<RunAsContext> CURRENT = new ThreadLocal<>();
+
+    static final RunAsScope NONE = new RunAsScope(null);
+
+    private final RunAsContext context;
+
+    RunAsScope(RunAsContext context) {
+        this.context = context;
+    }
+
+    static RunAsContext current() {
+        return CURRENT.get();
+    }
+
+    void run(Runnable action) {
+        RunAsContext previous = bind();
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    <R> R get(Supplier<? extends R> action) {
+        RunAsContext previous = bind();
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    <R> R call(Callable<? extends R> action) throws Exception {
+        RunAsContext previous = bind();
+        try {
+            return action.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private RunAsContext bind() {
+        RunAsContext previous = CURRENT.get();
+        restore(context);
+        return previous;
+    }
+
+    private static void restore(RunAsContext context) {
+        // no stale entries on pooled threads and carriers once unbound
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+}
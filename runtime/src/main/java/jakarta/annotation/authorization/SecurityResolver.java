@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.reflect.AnnotationValues;
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RunAs;
+import jakarta.annotation.spi.Instrumentation;
+
+/**
+ * Resolves and caches the effective access control of the methods of
+ * component classes.
+ * <p>
+ * The constraint of a method invoked on an instance of a class is
+ * resolved from the implementation of the method in that class: an
+ * annotation on the implementing method wins over one on the class
+ * declaring it, and a class level annotation only applies to the methods
+ * declared by that class, not to those it inherits. Should more than one
+ * of {@code DenyAll}, {@code RolesAllowed} and {@code PermitAll} be
+ * present on the same element, the most restrictive one wins. A method
+ * without any of them is {@linkplain Access#UNCHECKED unchecked}.
+ * <p>
+ * The constraint of every {@code (Class, Method)} pair is resolved once,
+ * and all elements allowing the same set of roles share one constraint.
+ * The cache is attached to the component classes through a
+ * {@link ClassValue}, so that it does not keep their class loaders alive,
+ * and looking up a resolved constraint does not lock or allocate. The
+ * {@link RunAsContext} of each component class is precomputed the same
+ * way.
+ */
+public final class SecurityResolver {
+
+    private static final Instrumentation INSTRUMENTATION = Instrumentation.get();
+
+    private final RoleTable table;
+    // shared by all elements allowing the same roles, see AuthorizationMemo
+    private final Map<Set<String>, MethodConstraint> rolesAllowed = new ConcurrentHashMap<>();
+
+    private final ClassValue<ClassSecurity> classes = new ClassValue<>() {
+        @Override
+        protected ClassSecurity computeValue(Class<?> type) {
+            return new ClassSecurity(runAsContext(type));
+        }
+    };
+
+    /**
+     * Creates a resolver.
+     *
+     * @param table the table of the roles of the application
+     */
+    public SecurityResolver(RoleTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Returns the role table of this resolver.
+     *
+     * @return the role table
+     */
+    public RoleTable table() {
+        return table;
+    }
+
+    /**
+     * Returns the effective constraint of a method invoked on an instance
+     * of a class.
+     *
+     * @param type the class of the instance
+     * @param method a method of the class, possibly declared by a
+     *        superclass or interface
+     * @return the constraint
+     * @throws IllegalArgumentException if the method is not a member of the class
+     */
+    public MethodConstraint constraint(Class<?> type, Method method) {
+        Map<Method, MethodConstraint> resolved = classes.get(type).methods;
+        MethodConstraint constraint = resolved.get(method);
+        if (constraint == null) {
+            constraint = resolve(type, method);
+            resolved.putIfAbsent(method, constraint);
+        }
+        return constraint;
+    }
+
+    /**
+     * Returns whether a caller may invoke a method on an instance of a
+     * class.
+     *
+     * @param type the class of the instance
+     * @param method a method of the class
+     * @param caller the roles of the caller
+     * @return {@code true} if access is granted
+     * @throws IllegalArgumentException if the method is not a member of the
+     *         class, or the caller roles belong to another role table
+     * @see AuthorizationMemo
+     */
+    public boolean permits(Class<?> type, Method method, RoleSet caller) {
+        if (INSTRUMENTATION.isEnabled()) {
+            long start = System.nanoTime();
+            boolean permitted = AuthorizationMemo.permits(constraint(type, method), caller);
+            INSTRUMENTATION.authorized(type, method, permitted, System.nanoTime() - start);
+            return permitted;
+        }
+        return AuthorizationMemo.permits(constraint(type, method), caller);
+    }
+
+    /**
+     * Returns the effective constraint of a class as a whole, that is its
+     * own class level annotation.
+     *
+     * @param type the class
+     * @return the constraint
+     */
+    public MethodConstraint constraint(Class<?> type) {
+        ClassSecurity security = classes.get(type);
+        MethodConstraint constraint = security.constraint;
+        if (constraint == null) {
+            constraint = annotated(type, AnnotationValues.rolesAllowed(type));
+            security.constraint = constraint = constraint == null ? MethodConstraint.UNCHECKED : constraint;
+        }
+        return constraint;
+    }
+
+    /**
+     * Compiles the constraints of methods invoked on instances of a class
+     * into a batch, entry {@code i} of which is {@code methods.get(i)}.
+     *
+     * @param type the class of the instances
+     * @param methods methods of the class
+     * @return the batch
+     * @throws IllegalArgumentException if a method is not a member of the class
+     */
+    public AuthorizationBatch batch(Class<?> type, List<Method> methods) {
+        List<MethodConstraint> constraints = new ArrayList<>(methods.size());
+        for (Method method : methods) {
+            constraints.add(constraint(type, method));
+        }
+        return AuthorizationBatch.of(constraints);
+    }
+
+    /**
+     * Compiles the class level constraints of classes into a batch, entry
+     * {@code i} of which is {@code types.get(i)}.
+     *
+     * @param types the classes
+     * @return the batch
+     */
+    public AuthorizationBatch batch(List<? extends Class<?>> types) {
+        List<MethodConstraint> constraints = new ArrayList<>(types.size());
+        for (Class<?> type : types) {
+            constraints.add(constraint(type));
+        }
+        return AuthorizationBatch.of(constraints);
+    }
+
+    /**
+     * Returns the identity a component runs as: the {@code RunAs} role of
+     * the component class or, if it is not annotated, of its nearest
+     * annotated superclass.
+     *
+     * @param component the component class
+     * @return the precomputed context, or {@code null} if no run-as role applies
+     */
+    public RunAsContext runAs(Class<?> component) {
+        return classes.get(component).runAs;
+    }
+
+    private RunAsContext runAsContext(Class<?> component) {
+        for (Class<?> c = component; c != null; c = c.getSuperclass()) {
+            RunAs runAs = c.getAnnotation(RunAs.class);
+            if (runAs != null) {
+                return new RunAsContext(component, runAs.value(), table.declared(List.of(runAs.value())));
+            }
+        }
+        return null;
+    }
+
+    private MethodConstraint resolve(Class<?> type, Method method) {
+        if (!method.getDeclaringClass().isAssignableFrom(type)) {
+            throw new IllegalArgumentException(method + " is not a member of " + type.getName());
+        }
+        Method implementation = implementation(type, method);
+        MethodConstraint constraint = annotated(implementation, AnnotationValues.rolesAllowed(implementation));
+        if (constraint == null) {
+            Class<?> declaringClass = implementation.getDeclaringClass();
+            constraint = annotated(declaringClass, AnnotationValues.rolesAllowed(declaringClass));
+        }
+        return constraint == null ? MethodConstraint.UNCHECKED : constraint;
+    }
+
+    private MethodConstraint annotated(AnnotatedElement element, Set<String> rolesAllowed) {
+        if (element.isAnnotationPresent(DenyAll.class)) {
+            return MethodConstraint.DENY_ALL;
+        }
+        if (rolesAllowed != null) {
+            MethodConstraint constraint = this.rolesAllowed.get(rolesAllowed);
+            return constraint != null ? constraint : this.rolesAllowed.computeIfAbsent(rolesAllowed,
+                    roles -> new MethodConstraint(Access.ROLES_ALLOWED, table.declared(roles)));
+        }
+        if (element.isAnnotationPresent(PermitAll.class)) {
+            return MethodConstraint.PERMIT_ALL;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the method invoked for {@code method} on an instance of
+     * {@code type}: the most specific declaration of a method with the
+     * same name and parameter types, or {@code method} itself if it is
+     * private or static or not implemented by a class.
+     */
+    private static Method implementation(Class<?> type, Method method) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+            return method;
+        }
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (c == method.getDeclaringClass()) {
+                return method;
+            }
+            try {
+                Method candidate = c.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                int m = candidate.getModifiers();
+                if (!Modifier.isPrivate(m) && !Modifier.isStatic(m)) {
+                    return candidate;
+                }
+            } catch (NoSuchMethodException e) {
+                // not declared here
+            }
+        }
+        return method;
+    }
+
+    private static final class ClassSecurity {
+
+        final Map<Method, MethodConstraint> methods = new ConcurrentHashMap<>();
+        final RunAsContext runAs;
+        // racy, every thread computes the same value
+        volatile MethodConstraint constraint;
+
+        ClassSecurity(RunAsContext runAs) {
+            this.runAs = runAs;
+        }
+    }
+}
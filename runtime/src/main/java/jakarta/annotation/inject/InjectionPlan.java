@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.annotation.Resource;
+import jakarta.annotation.reflect.Hierarchy;
+
+/**
+ * Injects the resources requested with {@link Resource} into instances
+ * of a class.
+ * <p>
+ * A plan is compiled once per class and cached in a {@link ClassValue}.
+ * It covers the annotated fields and setter methods of the class and all
+ * its superclasses, including private ones, in the order the classes are
+ * initialized, and leaves out setters overridden by a subclass. For every
+ * class of the hierarchy that declares injection points, the plan defines
+ * a hidden class that is a nestmate of that class and performs the
+ * injections with plain field stores and method calls, without reflection
+ * or access checks. The hidden classes are defined in the class loader of
+ * the class they inject into and are unloaded together with it.
+ * <p>
+ * Defining a hidden class takes a lookup with full privilege access in
+ * the class it injects into. Components in other modules than this one
+ * provide such a lookup with {@link #of(MethodHandles.Lookup)}; it is used
+ * for every class of the hierarchy in the same module as the component.
+ * Without one, hidden classes are only defined for classes in the same
+ * module as this class, which is the case when both are on the class path.
+ * For all other classes, whose packages then have to be open to this
+ * module, the plan falls back to direct method handles of the fields and
+ * setters. Injectors are defined once per class, with the first lookup
+ * that is available for it.
+ * <p>
+ * Class level {@code Resource} annotations declare resources that the
+ * application looks up itself and are not part of a plan.
+ */
+public final class InjectionPlan {
+
+    private static final MethodType INJECT = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Declared> DECLARED = new ClassValue<>() {
+        @Override
+        protected Declared computeValue(Class<?> type) {
+            return new Declared(type);
+        }
+    };
+
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private final InjectionPoint[] points;
+    private final MethodHandle[] injectors;
+    private final List<InjectionPoint> injectionPoints;
+
+    private InjectionPlan(Class<?> type) {
+        List<InjectionPoint> points = new ArrayList<>();
+        List<MethodHandle> injectors = new ArrayList<>();
+        for (Class<?> c : Hierarchy.of(type)) {
+            Declared declared = DECLARED.get(c);
+            MethodHandle[] declaredInjectors = declared.injectors(null);
+            for (int i = 0; i < declared.points.size(); i++) {
+                InjectionPoint point = declared.points.get(i);
+                if (point.isField() || !Hierarchy.isOverridden((Method) point.member(), type)) {
+                    points.add(point);
+                    injectors.add(declaredInjectors[i]);
+                }
+            }
+        }
+        this.points = points.toArray(new InjectionPoint[0]);
+        this.injectors = injectors.toArray(new MethodHandle[0]);
+        this.injectionPoints = Collections.unmodifiableList(points);
+    }
+
+    /**
+     * Returns the plan of a class.
+     *
+     * @param type the class
+     * @return the plan, shared by all callers
+     * @throws IllegalArgumentException if an annotated field is final, an
+     *         annotated method is not a JavaBeans setter, or a resource type
+     *         is not assignable to the annotated field or setter
+     * @throws IllegalStateException if the package of a class declaring
+     *         injection points is not open to this module
+     */
+    public static InjectionPlan of(Class<?> type) {
+        return PLANS.get(Objects.requireNonNull(type, "type"));
+    }
+
+    /**
+     * Returns the plan of the lookup class of a lookup, defining the
+     * injectors of the classes of its hierarchy with that lookup where
+     * possible. A component calls this with {@link MethodHandles#lookup()}
+     * so that its injectors are hidden classes even if it is in a module
+     * other than this one and does not open its packages.
+     * <p>
+     * If the lookup does not have full privilege access, or a class of the
+     * hierarchy is in a module that does not open its package to the
+     * module of the lookup class, the injectors of that class are defined
+     * as by {@link #of(Class)}. So are injectors already defined for a class
+     * before this method is called.
+     *
+     * @param lookup a lookup in the class of the plan
+     * @return the plan, shared by all callers
+     * @throws IllegalArgumentException if an annotated field is final, an
+     *         annotated method is not a JavaBeans setter, or a resource type
+     *         is not assignable to the annotated field or setter
+     * @throws IllegalStateException if the package of a class declaring
+     *         injection points cannot be accessed with the lookup and is not
+     *         open to this module
+     */
+    public static InjectionPlan of(MethodHandles.Lookup lookup) {
+        Class<?> type = Objects.requireNonNull(lookup, "lookup").lookupClass();
+        if (lookup.hasFullPrivilegeAccess()) {
+            for (Class<?> c : Hierarchy.of(type)) {
+                DECLARED.get(c).injectors(lookup);
+            }
+        }
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the injection points of this plan in injection order.
+     *
+     * @return an unmodifiable list of injection points
+     */
+    public List<InjectionPoint> injectionPoints() {
+        return injectionPoints;
+    }
+
+    /**
+     * Returns whether this plan has no injection points.
+     *
+     * @return {@code true} if there is nothing to inject
+     */
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+
+    /**
+     * Injects the resources provided by a resolver into an instance.
+     *
+     * @param target an instance of the class of this plan
+     * @param resolver provides the resource for each injection point
+     * @throws UndeclaredThrowableException if a setter throws a checked exception
+     */
+    public void inject(Object target, ResourceResolver resolver) {
+        for (int i = 0; i < points.length; i++) {
+            Object value = resolver.resolve(points[i]);
+            if (value != null) {
+                try {
+                    injectors[i].invokeExact(target, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            }
+        }
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * The injection points declared by one class and their injectors.
+     */
+    private static final class Declared {
+
+        final Class<?> type;
+        final List<InjectionPoint> points;
+        private volatile MethodHandle[] injectors;
+
+        Declared(Class<?> type) {
+            this.type = type;
+            List<InjectionPoint> points = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                Resource resource = field.getAnnotation(Resource.class);
+                if (resource != null) {
+                    if (Modifier.isFinal(field.getModifiers())) {
+                        throw new IllegalArgumentException("@Resource field " + field + " must not be final");
+                    }
+                    String name = resource.name().isEmpty() ? field.getName() : resource.name();
+                    points.add(new InjectionPoint(field, resource, name, type(resource, field.getType(), field)));
+                }
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                Resource resource = method.isBridge() ? null : method.getAnnotation(Resource.class);
+                if (resource != null) {
+                    if (!isSetter(method)) {
+                        throw new IllegalArgumentException("@Resource method " + method
+                                + " must be a JavaBeans setter");
+                    }
+                    String name = resource.name().isEmpty() ? propertyName(method.getName()) : resource.name();
+                    Class<?> parameterType = method.getParameterTypes()[0];
+                    points.add(new InjectionPoint(method, resource, name, type(resource, parameterType, method)));
+                }
+            }
+            this.points = Collections.unmodifiableList(points);
+            if (points.isEmpty()) {
+                this.injectors = new MethodHandle[0];
+            }
+        }
+
+        /**
+         * Returns the injectors, defining them on first use with a lookup
+         * derived from the given one, or from the lookup of this class if
+         * there is none or it has no private access to the declaring class.
+         */
+        MethodHandle[] injectors(MethodHandles.Lookup caller) {
+            MethodHandle[] injectors = this.injectors;
+            if (injectors == null) {
+                synchronized (this) {
+                    injectors = this.injectors;
+                    if (injectors == null) {
+                        injectors = define(type, points, caller);
+                        this.injectors = injectors;
+                    }
+                }
+            }
+            return injectors;
+        }
+
+        private static MethodHandle[] define(Class<?> type, List<InjectionPoint> points,
+                MethodHandles.Lookup caller) {
+            InjectionPlan.class.getModule().addReads(type.getModule());
+            try {
+                MethodHandles.Lookup lookup = privateLookup(type, caller);
+                MethodHandle[] injectors = new MethodHandle[points.size()];
+                if (lookup.hasFullPrivilegeAccess()) {
+                    MethodHandles.Lookup injector = lookup.defineHiddenClass(
+                            InjectorClassWriter.generate(type, points), true,
+                            MethodHandles.Lookup.ClassOption.NESTMATE);
+                    for (int i = 0; i < injectors.length; i++) {
+                        injectors[i] = injector.findStatic(injector.lookupClass(), "inject" + i, INJECT);
+                    }
+                } else {
+                    // without full privilege access in its own module no hidden class can be defined
+                    for (int i = 0; i < injectors.length; i++) {
+                        injectors[i] = unreflect(lookup, points.get(i));
+                    }
+                }
+                return injectors;
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot inject into " + type
+                        + ", its package must be open to " + InjectionPlan.class.getModule(), e);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot define injector of " + type, e);
+            }
+        }
+
+        private static MethodHandles.Lookup privateLookup(Class<?> type, MethodHandles.Lookup caller)
+                throws IllegalAccessException {
+            if (caller != null) {
+                try {
+                    return MethodHandles.privateLookupIn(type, caller);
+                } catch (IllegalAccessException e) {
+                    // the package of a superclass is not open to the component, fall back
+                }
+            }
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        }
+
+        private static MethodHandle unreflect(MethodHandles.Lookup lookup, InjectionPoint point)
+                throws IllegalAccessException {
+            MethodHandle handle = point.isField()
+                    ? lookup.unreflectSetter((Field) point.member())
+                    : lookup.unreflect((Method) point.member());
+            if (Modifier.isStatic(point.member().getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(INJECT);
+        }
+
+        private static Class<?> type(Resource resource, Class<?> memberType, Object member) {
+            Class<?> type = resource.type();
+            if (type == Object.class) {
+                return memberType;
+            }
+            if (!wrap(memberType).isAssignableFrom(wrap(type))) {
+                throw new IllegalArgumentException("@Resource type " + type.getName()
+                        + " is not assignable to " + member);
+            }
+            return type;
+        }
+
+        private static boolean isSetter(Method method) {
+            String name = method.getName();
+            return name.length() > 3
+                    && name.startsWith("set")
+                    && method.getParameterCount() == 1
+                    && method.getReturnType() == void.class;
+        }
+
+        /**
+         * Returns the JavaBeans property name of a setter, following the
+         * rules of {@code java.beans.Introspector.decapitalize}.
+         */
+        private static String propertyName(String setter) {
+            String property = setter.substring(3);
+            if (property.length() > 1
+                    && Character.isUpperCase(property.charAt(0))
+                    && Character.isUpperCase(property.charAt(1))) {
+                return property;
+            }
+            return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+        }
+    }
+}
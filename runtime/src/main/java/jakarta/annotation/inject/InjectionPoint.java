@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+
+import jakarta.annotation.Resource;
+
+/**
+ * A field or setter method annotated with {@link Resource}.
+ * <p>
+ * The defaults of {@code name()} and {@code type()} are resolved: for a
+ * field they are the field name and type, for a method the JavaBeans
+ * property name and type of the setter.
+ *
+ * @param member the annotated {@link java.lang.reflect.Field} or
+ *        {@link java.lang.reflect.Method}
+ * @param resource the annotation
+ * @param name the resolved JNDI name of the resource
+ * @param type the resolved Java type of the resource
+ */
+public record InjectionPoint(Member member, Resource resource, String name, Class<?> type) {
+
+    /**
+     * Returns whether the resource is injected into a field.
+     *
+     * @return {@code true} for a field, {@code false} for a setter method
+     */
+    public boolean isField() {
+        return member instanceof Field;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the class file of the hidden class that injects the resources
+ * of one declaring class.
+ * <p>
+ * For the {@code i}-th injection point the class has a method
+ * {@code static void inject<i>(Object target, Object value)} that casts,
+ * unboxes if needed, and stores the value with a plain {@code putfield} or
+ * passes it to the setter with {@code invokevirtual}. The hidden class is
+ * a nestmate of the declaring class, so private members are accessed
+ * directly. The methods have no branches and therefore need no stack map.
+ */
+final class InjectorClassWriter {
+
+    private static final int JAVA_17 = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int ALOAD_0 = 0x2A;
+    private static final int ALOAD_1 = 0x2B;
+    private static final int RETURN = 0xB1;
+    private static final int PUTSTATIC = 0xB3;
+    private static final int PUTFIELD = 0xB5;
+    private static final int INVOKEVIRTUAL = 0xB6;
+    private static final int INVOKESTATIC = 0xB8;
+    private static final int CHECKCAST = 0xC0;
+
+    static final String METHOD_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)V";
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> entries = new HashMap<>();
+    private int poolCount = 1;
+
+    private InjectorClassWriter() {
+    }
+
+    /**
+     * Returns the class file of the injector of a class.
+     */
+    static byte[] generate(Class<?> declaringClass, List<InjectionPoint> points) {
+        try {
+            return new InjectorClassWriter().write(declaringClass, points);
+        } catch (IOException e) {
+            // cannot happen, everything is written to memory
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] write(Class<?> declaringClass, List<InjectionPoint> points) throws IOException {
+        String owner = internalName(declaringClass);
+        int thisClass = classRef(owner + "$$ResourceInjector");
+        int superClass = classRef("java/lang/Object");
+        int code = utf8("Code");
+        int descriptor = utf8(METHOD_DESCRIPTOR);
+
+        ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+        DataOutputStream methods = new DataOutputStream(methodBytes);
+        for (int i = 0; i < points.size(); i++) {
+            byte[] body = code(owner, points.get(i).member());
+            methods.writeShort(ACC_PUBLIC | ACC_STATIC);
+            methods.writeShort(utf8("inject" + i));
+            methods.writeShort(descriptor);
+            methods.writeShort(1);
+            methods.writeShort(code);
+            methods.writeInt(12 + body.length);
+            methods.writeShort(3);      // max stack: target, value and the high half of long/double
+            methods.writeShort(2);      // max locals: target, value
+            methods.writeInt(body.length);
+            methods.write(body);
+            methods.writeShort(0);      // exception table
+            methods.writeShort(0);      // attributes
+        }
+
+        ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(classBytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(JAVA_17);
+        out.writeShort(poolCount);
+        poolBytes.writeTo(out);
+        out.writeShort(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(0);              // interfaces
+        out.writeShort(0);              // fields
+        out.writeShort(points.size());
+        methodBytes.writeTo(out);
+        out.writeShort(0);              // attributes
+        return classBytes.toByteArray();
+    }
+
+    private byte[] code(String owner, Member member) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream code = new DataOutputStream(bytes);
+        boolean isStatic = Modifier.isStatic(member.getModifiers());
+        if (!isStatic) {
+            code.writeByte(ALOAD_0);
+            code.writeByte(CHECKCAST);
+            code.writeShort(classRef(owner));
+        }
+        code.writeByte(ALOAD_1);
+        if (member instanceof Field) {
+            Field field = (Field) member;
+            convert(code, field.getType());
+            code.writeByte(isStatic ? PUTSTATIC : PUTFIELD);
+            code.writeShort(memberRef(9, owner, field.getName(), field.getType().descriptorString()));
+        } else {
+            Method method = (Method) member;
+            Class<?> type = method.getParameterTypes()[0];
+            convert(code, type);
+            code.writeByte(isStatic ? INVOKESTATIC : INVOKEVIRTUAL);
+            code.writeShort(memberRef(10, owner, method.getName(), "(" + type.descriptorString() + ")V"));
+        }
+        code.writeByte(RETURN);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Converts the {@code Object} on top of the stack to the given type.
+     */
+    private void convert(DataOutputStream code, Class<?> type) throws IOException {
+        if (type.isPrimitive()) {
+            String wrapper = internalName(InjectionPlan.wrap(type));
+            code.writeByte(CHECKCAST);
+            code.writeShort(classRef(wrapper));
+            code.writeByte(INVOKEVIRTUAL);
+            code.writeShort(memberRef(10, wrapper, type.getName() + "Value", "()" + type.descriptorString()));
+        } else if (type != Object.class) {
+            code.writeByte(CHECKCAST);
+            code.writeShort(classRef(internalName(type)));
+        }
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+    }
+
+    private int utf8(String s) throws IOException {
+        Integer index = entries.get("U" + s);
+        if (index == null) {
+            pool.writeByte(1);
+            pool.writeUTF(s);
+            index = add("U" + s);
+        }
+        return index;
+    }
+
+    private int classRef(String internalName) throws IOException {
+        Integer index = entries.get("C" + internalName);
+        if (index == null) {
+            int name = utf8(internalName);
+            pool.writeByte(7);
+            pool.writeShort(name);
+            index = add("C" + internalName);
+        }
+        return index;
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) throws IOException {
+        String key = tag + owner + '.' + name + descriptor;
+        Integer index = entries.get(key);
+        if (index == null) {
+            int ownerRef = classRef(owner);
+            int nameRef = utf8(name);
+            int descriptorRef = utf8(descriptor);
+            pool.writeByte(12);
+            pool.writeShort(nameRef);
+            pool.writeShort(descriptorRef);
+            int nameAndType = poolCount++;
+            pool.writeByte(tag);
+            pool.writeShort(ownerRef);
+            pool.writeShort(nameAndType);
+            index = add(key);
+        }
+        return index;
+    }
+
+    private int add(String key) {
+        int index = poolCount++;
+        entries.put(key, index);
+        return index;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import java.util.Objects;
+
+/**
+ * Identifies the naming contexts a component resolves JNDI names in: the
+ * {@code java:app} context of its application, the {@code java:module}
+ * context of its module and the {@code java:comp} context of the component
+ * itself. Each level is identified by any object with suitable
+ * {@code equals} and {@code hashCode} methods, typically its name, and is
+ * only compared within the enclosing levels. Components sharing their
+ * {@code java:comp} context, like the components of a web module, are
+ * identified by the same object.
+ * <p>
+ * A context {@linkplain #scope(String) narrowed} to the namespace of a name
+ * has no identity for the levels below that namespace.
+ *
+ * @param application identifies the application
+ * @param module identifies the module within the application, or
+ *        {@code null} for a context narrowed to {@code java:app}
+ * @param component identifies the component within the module, or
+ *        {@code null} for a context narrowed to {@code java:app} or
+ *        {@code java:module}
+ */
+public record NamingContext(Object application, Object module, Object component) {
+
+    private static final String GLOBAL = "java:global/";
+    private static final String APP = "java:app/";
+    private static final String MODULE = "java:module/";
+
+    /**
+     * Creates a naming context.
+     *
+     * @param application identifies the application
+     * @param module identifies the module, or {@code null}
+     * @param component identifies the component, or {@code null}
+     * @throws NullPointerException if {@code application} is {@code null},
+     *         or {@code module} is {@code null} and {@code component} is not
+     */
+    public NamingContext {
+        Objects.requireNonNull(application, "application");
+        if (module == null && component != null) {
+            throw new NullPointerException("module");
+        }
+    }
+
+    /**
+     * Returns the part of this context that identifies the naming context
+     * a name is resolved in: all of it for a name in {@code java:comp},
+     * including a name relative to {@code java:comp/env}, the application
+     * and the module for a name in {@code java:module}, only the
+     * application for a name in {@code java:app}, and none for a name in
+     * {@code java:global}. Names in other {@code java:} namespaces are
+     * conservatively resolved per component.
+     *
+     * @param name a JNDI name
+     * @return the context of the name, or {@code null} for a global name
+     * @throws IllegalArgumentException if this context has no identity for
+     *         the namespace of the name
+     */
+    public NamingContext scope(String name) {
+        if (startsWith(name, GLOBAL)) {
+            return null;
+        }
+        if (startsWith(name, APP)) {
+            return module == null ? this : new NamingContext(application, null, null);
+        }
+        if (startsWith(name, MODULE)) {
+            if (module == null) {
+                throw new IllegalArgumentException(name + " is not resolvable in " + this);
+            }
+            return component == null ? this : new NamingContext(application, module, null);
+        }
+        if (component == null) {
+            throw new IllegalArgumentException(name + " is not resolvable in " + this);
+        }
+        return this;
+    }
+
+    private static boolean startsWith(String name, String namespace) {
+        return name.regionMatches(true, 0, namespace, 0, namespace.length());
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import jakarta.annotation.Resource;
+import jakarta.annotation.spi.Instrumentation;
+
+/**
+ * A cache of resource instances that honors {@link Resource#shareable()}.
+ * <p>
+ * A shareable resource is looked up once per {@link ResourceKey} and the
+ * same instance is served to every component with that key afterwards.
+ * Reading a cached shareable resource takes no lock, and a lookup holds
+ * none either: if two threads look up the same key concurrently, the
+ * instance cached first is returned to both. A resource that is not
+ * shareable is looked up once per component and key, and each component
+ * keeps getting its own instance. Those instances are held in a bounded
+ * pool: when it is full, the least recently used instance is evicted and
+ * looked up again the next time its component asks for it. Evicted
+ * instances are not closed, as their component may still use them.
+ * <p>
+ * A component is identified by any object with suitable {@code equals}
+ * and {@code hashCode} methods, for {@link #resolver(NamingContext)} its
+ * naming context. Instances of a component that is undeployed are
+ * released with {@link #release(Object)}.
+ */
+public final class ResourceCache {
+
+    private static final Instrumentation INSTRUMENTATION = Instrumentation.get();
+
+    private final Function<? super ResourceKey, ?> lookup;
+    private final int maxUnshareable;
+    private final Map<ResourceKey, Object> shared = new ConcurrentHashMap<>();
+    private final LinkedHashMap<ComponentKey, Object> unshared;
+
+    /**
+     * Creates a cache.
+     *
+     * @param lookup looks up a resource, returning {@code null} if it is
+     *        not available
+     * @param maxUnshareable the maximum number of instances of resources
+     *        that are not shareable kept by the cache
+     * @throws IllegalArgumentException if {@code maxUnshareable} is negative
+     */
+    public ResourceCache(Function<? super ResourceKey, ?> lookup, int maxUnshareable) {
+        if (maxUnshareable < 0) {
+            throw new IllegalArgumentException("maxUnshareable must not be negative: " + maxUnshareable);
+        }
+        this.lookup = Objects.requireNonNull(lookup, "lookup");
+        this.maxUnshareable = maxUnshareable;
+        this.unshared = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ComponentKey, Object> eldest) {
+                return size() > ResourceCache.this.maxUnshareable;
+            }
+        };
+    }
+
+    /**
+     * Returns a resource instance, looking it up if it is not cached.
+     *
+     * @param key the key of the resource
+     * @param shareable whether the resource is shareable
+     * @param component the component the instance is for; only used for
+     *        resources that are not shareable
+     * @return the resource, or {@code null} if it is not available
+     */
+    public Object get(ResourceKey key, boolean shareable, Object component) {
+        if (INSTRUMENTATION.isEnabled()) {
+            return getInstrumented(key, shareable, component);
+        }
+        return resolve(key, shareable, component);
+    }
+
+    private Object getInstrumented(ResourceKey key, boolean shareable, Object component) {
+        long start = System.nanoTime();
+        boolean cacheHit;
+        if (shareable) {
+            cacheHit = shared.containsKey(key);
+        } else {
+            synchronized (unshared) {
+                cacheHit = unshared.containsKey(new ComponentKey(component, key));
+            }
+        }
+        Object instance = resolve(key, shareable, component);
+        INSTRUMENTATION.resourceResolved(key.name(), key.type(), cacheHit, System.nanoTime() - start);
+        return instance;
+    }
+
+    private Object resolve(ResourceKey key, boolean shareable, Object component) {
+        if (shareable) {
+            Object instance = shared.get(key);
+            if (instance == null) {
+                // looked up outside the map, a lookup may be slow and must not block other keys
+                instance = lookup.apply(key);
+                if (instance != null) {
+                    Object raced = shared.putIfAbsent(key, instance);
+                    if (raced != null) {
+                        instance = raced;
+                    }
+                }
+            }
+            return instance;
+        }
+        ComponentKey componentKey = new ComponentKey(component, key);
+        synchronized (unshared) {
+            Object instance = unshared.get(componentKey);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        // never hold the lock during a lookup
+        Object instance = lookup.apply(key);
+        if (instance != null) {
+            synchronized (unshared) {
+                Object raced = unshared.putIfAbsent(componentKey, instance);
+                if (raced != null) {
+                    instance = raced;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a resolver serving the resources of an {@link InjectionPlan}
+     * for a component from this cache.
+     *
+     * @param context the naming context of the component being injected,
+     *        which also identifies the component
+     * @return the resolver
+     */
+    public ResourceResolver resolver(NamingContext context) {
+        return point -> get(ResourceKey.of(point, context), point.resource().shareable(), context);
+    }
+
+    /**
+     * Removes the instances of the resources that are not shareable held
+     * for a component.
+     *
+     * @param component the component
+     */
+    public void release(Object component) {
+        synchronized (unshared) {
+            unshared.keySet().removeIf(k -> Objects.equals(k.component, component));
+        }
+    }
+
+    /**
+     * Removes all instances of a resource, for example after it has been
+     * redeployed.
+     *
+     * @param key the key of the resource
+     */
+    public void invalidate(ResourceKey key) {
+        shared.remove(key);
+        synchronized (unshared) {
+            unshared.keySet().removeIf(k -> k.key.equals(key));
+        }
+    }
+
+    /**
+     * Removes all instances.
+     */
+    public void clear() {
+        shared.clear();
+        synchronized (unshared) {
+            unshared.clear();
+        }
+    }
+
+    private static final class ComponentKey {
+
+        final Object component;
+        final ResourceKey key;
+
+        ComponentKey(Object component, ResourceKey key) {
+            this.component = component;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ComponentKey)) {
+                return false;
+            }
+            ComponentKey other = (ComponentKey) o;
+            return key.equals(other.key) && Objects.equals(component, other.component);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + Objects.hashCode(component);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import java.util.Objects;
+
+import jakarta.annotation.Resource;
+
+/**
+ * Identifies a resource instance in a {@link ResourceCache}: two references
+ * with the same key can be served the same instance if the resource is
+ * shareable.
+ * <p>
+ * The same name can denote different resources when it is resolved in
+ * different naming contexts: a name in {@code java:comp}, including a name
+ * without a {@code java:} scheme, which is relative to the
+ * {@code java:comp/env} context of the component that declares the
+ * reference, differs per component, a name in {@code java:module} per
+ * module and a name in {@code java:app} per application. The key of a
+ * name therefore includes the {@linkplain NamingContext#scope(String)
+ * naming context} the name is resolved in. Only the key of a name in
+ * {@code java:global} has none, so that all applications share it.
+ *
+ * @param name the {@code lookup} name of the resource, or its JNDI name if
+ *        no lookup name is specified
+ * @param type the Java type of the resource
+ * @param authenticationType the authentication type of the resource
+ * @param context the naming context the name is resolved in;
+ *        {@code null} for a name in {@code java:global}
+ */
+public record ResourceKey(String name, Class<?> type, Resource.AuthenticationType authenticationType,
+        NamingContext context) {
+
+    private static final String SCHEME = "java:";
+    private static final String GLOBAL = "java:global/";
+
+    /**
+     * Creates a key. The context is narrowed to the namespace of the
+     * name, and ignored for a name in {@code java:global}.
+     *
+     * @param name the lookup or JNDI name of the resource
+     * @param type the Java type of the resource
+     * @param authenticationType the authentication type of the resource
+     * @param context the naming context of the component declaring the
+     *        reference
+     * @throws NullPointerException if {@code name} is not in
+     *         {@code java:global} and {@code context} is {@code null}
+     * @throws IllegalArgumentException if the context has no identity for
+     *         the namespace of the name
+     */
+    public ResourceKey {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(authenticationType, "authenticationType");
+        if (name.regionMatches(true, 0, GLOBAL, 0, GLOBAL.length())) {
+            context = null;
+        } else {
+            context = Objects.requireNonNull(context, "context").scope(name);
+        }
+    }
+
+    /**
+     * Returns the key of the resource requested at an injection point.
+     *
+     * @param point the injection point
+     * @param context the naming context of the component being injected
+     * @return the key
+     */
+    public static ResourceKey of(InjectionPoint point, NamingContext context) {
+        Resource resource = point.resource();
+        String lookup = resource.lookup();
+        return new ResourceKey(lookup.isEmpty() ? point.name() : lookup, point.type(),
+                resource.authenticationType(), context);
+    }
+
+    /**
+     * Returns whether a name is absolute, that is it starts with the
+     * {@code java:} scheme.
+     *
+     * @param name a JNDI name
+     * @return {@code true} if the name is not relative to {@code java:comp/env}
+     */
+    public static boolean isAbsolute(String name) {
+        return name.regionMatches(true, 0, SCHEME, 0, SCHEME.length());
+    }
+}
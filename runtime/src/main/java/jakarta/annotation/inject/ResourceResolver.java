@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+/**
+ * Provides the resources injected by an {@link InjectionPlan}, typically by
+ * looking them up in the component environment of the container.
+ */
+@FunctionalInterface
+public interface ResourceResolver {
+
+    /**
+     * Returns the resource to inject at an injection point.
+     * <p>
+     * Returning {@code null} leaves the field or setter untouched, as
+     * required for an environment entry without a value.
+     *
+     * @param point the injection point
+     * @return the resource, an instance of {@code point.type()} or its
+     *         wrapper type, or {@code null} to skip the injection point
+     */
+    Object resolve(InjectionPoint point);
+}
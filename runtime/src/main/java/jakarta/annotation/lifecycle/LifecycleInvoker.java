@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.lifecycle;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.reflect.Hierarchy;
+import jakarta.annotation.spi.Instrumentation;
+
+/**
+ * Invokes the {@link PostConstruct} and {@link PreDestroy} callbacks of
+ * a class.
+ * <p>
+ * The callbacks of a class are resolved once and cached in a
+ * {@link ClassValue}, so an invoker does not keep the class loader of the
+ * class alive. Resolution follows the rules of the annotations: callbacks
+ * of the most general superclass are invoked first, and a callback that is
+ * overridden by a subclass is not invoked, whether or not the overriding
+ * method is annotated itself. All callbacks of a phase are combined into a
+ * single {@link MethodHandle}, which the JIT compiler can inline like a
+ * chain of direct calls.
+ * <p>
+ * Exceptions are handled as the annotations require. An exception thrown by
+ * a {@code PostConstruct} method ends the invocation and is rethrown to the
+ * caller, which must not put the instance into service; a checked exception
+ * is wrapped in an {@link UndeclaredThrowableException}. An unchecked
+ * exception thrown by a {@code PreDestroy} method is logged and ignored, and
+ * the remaining callbacks are still invoked.
+ * <p>
+ * Only callbacks without parameters are supported. Lifecycle callbacks of
+ * interceptor classes take an {@code InvocationContext} and are invoked by
+ * the interceptor chain instead.
+ */
+public final class LifecycleInvoker {
+
+    private static final System.Logger LOGGER = System.getLogger(LifecycleInvoker.class.getName());
+
+    private static final Instrumentation INSTRUMENTATION = Instrumentation.get();
+
+    private static final MethodType CALLBACK = MethodType.methodType(void.class, Object.class);
+
+    private static final MethodHandle NOOP = MethodHandles.empty(CALLBACK);
+
+    private static final MethodHandle IGNORE;
+
+    static {
+        try {
+            IGNORE = MethodHandles.lookup().findStatic(LifecycleInvoker.class, "ignore",
+                    MethodType.methodType(void.class, Method.class, RuntimeException.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final ClassValue<LifecycleInvoker> INVOKERS = new ClassValue<>() {
+        @Override
+        protected LifecycleInvoker computeValue(Class<?> type) {
+            return new LifecycleInvoker(type);
+        }
+    };
+
+    private final List<Method> postConstructMethods;
+    private final List<Method> preDestroyMethods;
+    private final MethodHandle postConstruct;
+    private final MethodHandle preDestroy;
+
+    private LifecycleInvoker(Class<?> type) {
+        this.postConstructMethods = callbacks(type, PostConstruct.class);
+        this.preDestroyMethods = callbacks(type, PreDestroy.class);
+        this.postConstruct = combine(postConstructMethods, false);
+        this.preDestroy = combine(preDestroyMethods, true);
+    }
+
+    /**
+     * Returns the invoker of a class.
+     *
+     * @param type the class
+     * @return the invoker, shared by all callers
+     * @throws IllegalArgumentException if a callback takes parameters
+     * @throws java.lang.reflect.InaccessibleObjectException if a callback
+     *         is declared in a package that is not open to this module
+     */
+    public static LifecycleInvoker of(Class<?> type) {
+        return INVOKERS.get(Objects.requireNonNull(type, "type"));
+    }
+
+    /**
+     * Returns whether the class has {@code PostConstruct} callbacks.
+     *
+     * @return {@code true} if there is at least one callback
+     */
+    public boolean hasPostConstruct() {
+        return postConstruct != NOOP;
+    }
+
+    /**
+     * Returns whether the class has {@code PreDestroy} callbacks.
+     *
+     * @return {@code true} if there is at least one callback
+     */
+    public boolean hasPreDestroy() {
+        return preDestroy != NOOP;
+    }
+
+    /**
+     * Returns the {@code PostConstruct} callbacks in invocation order.
+     *
+     * @return an unmodifiable list of methods
+     */
+    public List<Method> postConstructMethods() {
+        return postConstructMethods;
+    }
+
+    /**
+     * Returns the {@code PreDestroy} callbacks in invocation order.
+     *
+     * @return an unmodifiable list of methods
+     */
+    public List<Method> preDestroyMethods() {
+        return preDestroyMethods;
+    }
+
+    /**
+     * Invokes the {@code PostConstruct} callbacks on an instance.
+     *
+     * @param instance an instance of the class of this invoker
+     * @throws UndeclaredThrowableException if a callback throws a checked exception
+     */
+    public void postConstruct(Object instance) {
+        if (INSTRUMENTATION.isEnabled() && postConstruct != NOOP) {
+            invokeInstrumented(postConstruct, instance, PostConstruct.class);
+            return;
+        }
+        try {
+            postConstruct.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Invokes the {@code PreDestroy} callbacks on an instance. Unchecked
+     * exceptions thrown by the callbacks are logged and ignored.
+     *
+     * @param instance an instance of the class of this invoker
+     * @throws UndeclaredThrowableException if a callback throws a checked exception
+     */
+    public void preDestroy(Object instance) {
+        if (INSTRUMENTATION.isEnabled() && preDestroy != NOOP) {
+            invokeInstrumented(preDestroy, instance, PreDestroy.class);
+            return;
+        }
+        try {
+            preDestroy.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static void invokeInstrumented(MethodHandle callbacks, Object instance,
+            Class<? extends Annotation> phase) {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            callbacks.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } catch (Throwable e) {
+            failure = e;
+            throw new UndeclaredThrowableException(e);
+        } finally {
+            INSTRUMENTATION.lifecycleInvoked(instance.getClass(), phase, System.nanoTime() - start, failure);
+        }
+    }
+
+    /**
+     * Returns the callbacks of a class in invocation order.
+     */
+    private static List<Method> callbacks(Class<?> type, Class<? extends Annotation> annotation) {
+        List<Method> callbacks = new ArrayList<>(1);
+        for (Class<?> c : Hierarchy.of(type)) {
+            Method method = callback(c, annotation);
+            if (method != null && !Hierarchy.isOverridden(method, type)) {
+                if (method.getParameterCount() != 0) {
+                    throw new IllegalArgumentException("@" + annotation.getSimpleName() + " method " + method
+                            + " takes parameters; interceptor callbacks are not supported");
+                }
+                callbacks.add(method);
+            }
+        }
+        return Collections.unmodifiableList(callbacks);
+    }
+
+    private static Method callback(Class<?> type, Class<? extends Annotation> annotation) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (!method.isBridge() && method.isAnnotationPresent(annotation)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Combines the callbacks into one handle of type {@code (Object)void}
+     * invoking them in order.
+     */
+    private static MethodHandle combine(List<Method> methods, boolean ignoreUnchecked) {
+        MethodHandle combined = null;
+        for (int i = methods.size() - 1; i >= 0; i--) {
+            Method method = methods.get(i);
+            MethodHandle handle = unreflect(method);
+            if (ignoreUnchecked) {
+                handle = MethodHandles.catchException(handle, RuntimeException.class,
+                        MethodHandles.insertArguments(IGNORE, 0, method));
+            }
+            combined = combined == null ? handle : MethodHandles.foldArguments(combined, handle);
+        }
+        return combined == null ? NOOP : combined;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        method.setAccessible(true);
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access " + method, e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            // static PostConstruct methods of application clients ignore the instance
+            return MethodHandles.dropArguments(handle.asType(MethodType.methodType(void.class)), 0, Object.class);
+        }
+        return handle.asType(CALLBACK);
+    }
+
+    private static void ignore(Method method, RuntimeException e, Object instance) {
+        LOGGER.log(System.Logger.Level.WARNING, "Ignoring exception thrown by @PreDestroy method " + method, e);
+    }
+}
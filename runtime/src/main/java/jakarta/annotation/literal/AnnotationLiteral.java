@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * Base class of the annotation literals in this package.
+ * <p>
+ * The hash code is computed once, when the literal is created, following
+ * the rules of {@link Annotation#hashCode()}. Literals therefore hash and
+ * compare equal to the instances returned by the reflection API for the
+ * same member values, and can serve as cheap map keys.
+ *
+ * @param <A> the annotation type
+ */
+abstract class AnnotationLiteral<A extends Annotation> implements Annotation {
+
+    private final Class<A> annotationType;
+    private final int hashCode;
+
+    AnnotationLiteral(Class<A> annotationType, int hashCode) {
+        this.annotationType = annotationType;
+        this.hashCode = hashCode;
+    }
+
+    @Override
+    public final Class<? extends Annotation> annotationType() {
+        return annotationType;
+    }
+
+    /**
+     * Returns whether the other annotation has the same members. The other
+     * annotation may be any implementation of the annotation type.
+     */
+    abstract boolean membersEqual(A other);
+
+    /**
+     * Appends the members to the string representation.
+     */
+    abstract void appendMembers(StringBuilder sb);
+
+    @Override
+    public final boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!annotationType.isInstance(o)) {
+            return false;
+        }
+        // only literals have a hash code that is cheap to compare
+        if (o instanceof AnnotationLiteral && hashCode != o.hashCode()) {
+            return false;
+        }
+        return membersEqual(annotationType.cast(o));
+    }
+
+    @Override
+    public final int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public final String toString() {
+        StringBuilder sb = new StringBuilder().append('@').append(annotationType.getName()).append('(');
+        appendMembers(sb);
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Returns the contribution of a member to the hash code of an annotation.
+     */
+    static int hash(String name, Object value) {
+        int valueHash;
+        if (value instanceof Object[]) {
+            valueHash = Arrays.hashCode((Object[]) value);
+        } else {
+            valueHash = value.hashCode();
+        }
+        return (127 * name.hashCode()) ^ valueHash;
+    }
+
+    static void append(StringBuilder sb, String name, Object value) {
+        if (sb.charAt(sb.length() - 1) != '(') {
+            sb.append(", ");
+        }
+        if (name != null) {
+            sb.append(name).append('=');
+        }
+        appendValue(sb, value);
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value instanceof String) {
+            sb.append('"');
+            String s = (String) value;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '"' || c == '\\') {
+                    sb.append('\\');
+                }
+                sb.append(c);
+            }
+            sb.append('"');
+        } else if (value instanceof Class) {
+            sb.append(((Class<?>) value).getCanonicalName()).append(".class");
+        } else if (value instanceof Enum) {
+            sb.append(((Enum<?>) value).name());
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            sb.append('{');
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                appendValue(sb, array[i]);
+            }
+            sb.append('}');
+        } else {
+            sb.append(value);
+        }
+    }
+
+    static <T> T[] requireNonNullElements(T[] array, String name) {
+        if (array == null) {
+            throw new NullPointerException(name);
+        }
+        T[] copy = array.clone();
+        for (T element : copy) {
+            if (element == null) {
+                throw new NullPointerException(name + " element");
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import jakarta.annotation.sql.DataSourceDefinition;
+
+/**
+ * Literal of the {@link DataSourceDefinition} annotation.
+ * <p>
+ * Instances are created with a {@link Builder}, which requires the
+ * {@code name} and {@code className} members and starts out with the
+ * default values of all others:
+ * <pre>{@code
+ * DataSourceDefinition definition = DataSourceDefinitionLiteral
+ *         .builder("java:global/MyApp/MyDataSource", "org.h2.jdbcx.JdbcDataSource")
+ *         .url("jdbc:h2:mem:test")
+ *         .maxPoolSize(20)
+ *         .build();
+ * }</pre>
+ */
+public final class DataSourceDefinitionLiteral extends AnnotationLiteral<DataSourceDefinition>
+        implements DataSourceDefinition {
+    private final String name;
+    private final String className;
+    private final String description;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final String databaseName;
+    private final int portNumber;
+    private final String serverName;
+    private final int isolationLevel;
+    private final boolean transactional;
+    private final int initialPoolSize;
+    private final int maxPoolSize;
+    private final int minPoolSize;
+    private final int maxIdleTime;
+    private final int maxStatements;
+    private final String[] properties;
+    private final int loginTimeout;
+
+    private DataSourceDefinitionLiteral(Builder builder) {
+        super(DataSourceDefinition.class, hash(builder));
+        this.name = builder.name;
+        this.className = builder.className;
+        this.description = builder.description;
+        this.url = builder.url;
+        this.user = builder.user;
+        this.password = builder.password;
+        this.databaseName = builder.databaseName;
+        this.portNumber = builder.portNumber;
+        this.serverName = builder.serverName;
+        this.isolationLevel = builder.isolationLevel;
+        this.transactional = builder.transactional;
+        this.initialPoolSize = builder.initialPoolSize;
+        this.maxPoolSize = builder.maxPoolSize;
+        this.minPoolSize = builder.minPoolSize;
+        this.maxIdleTime = builder.maxIdleTime;
+        this.maxStatements = builder.maxStatements;
+        this.properties = builder.properties;
+        this.loginTimeout = builder.loginTimeout;
+    }
+
+    private static int hash(Builder builder) {
+        return hash("name", builder.name)
+                + hash("className", builder.className)
+                + hash("description", builder.description)
+                + hash("url", builder.url)
+                + hash("user", builder.user)
+                + hash("password", builder.password)
+                + hash("databaseName", builder.databaseName)
+                + hash("portNumber", builder.portNumber)
+                + hash("serverName", builder.serverName)
+                + hash("isolationLevel", builder.isolationLevel)
+                + hash("transactional", builder.transactional)
+                + hash("initialPoolSize", builder.initialPoolSize)
+                + hash("maxPoolSize", builder.maxPoolSize)
+                + hash("minPoolSize", builder.minPoolSize)
+                + hash("maxIdleTime", builder.maxIdleTime)
+                + hash("maxStatements", builder.maxStatements)
+                + hash("properties", builder.properties)
+                + hash("loginTimeout", builder.loginTimeout);
+    }
+
+    /**
+     * Creates a builder initialized with the default member values.
+     *
+     * @param name the JNDI name by which the data source will be registered
+     * @param className the name of the DataSource class
+     * @return a new builder
+     */
+    public static Builder builder(String name, String className) {
+        return new Builder(name, className);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String className() {
+        return className;
+    }
+
+    @Override
+    public String description() {
+        return description;
+    }
+
+    @Override
+    public String url() {
+        return url;
+    }
+
+    @Override
+    public String user() {
+        return user;
+    }
+
+    @Override
+    public String password() {
+        return password;
+    }
+
+    @Override
+    public String databaseName() {
+        return databaseName;
+    }
+
+    @Override
+    public int portNumber() {
+        return portNumber;
+    }
+
+    @Override
+    public String serverName() {
+        return serverName;
+    }
+
+    @Override
+    public int isolationLevel() {
+        return isolationLevel;
+    }
+
+    @Override
+    public boolean transactional() {
+        return transactional;
+    }
+
+    @Override
+    public int initialPoolSize() {
+        return initialPoolSize;
+    }
+
+    @Override
+    public int maxPoolSize() {
+        return maxPoolSize;
+    }
+
+    @Override
+    public int minPoolSize() {
+        return minPoolSize;
+    }
+
+    @Override
+    public int maxIdleTime() {
+        return maxIdleTime;
+    }
+
+    @Override
+    public int maxStatements() {
+        return maxStatements;
+    }
+
+    @Override
+    public String[] properties() {
+        return properties.clone();
+    }
+
+    @Override
+    public int loginTimeout() {
+        return loginTimeout;
+    }
+
+    @Override
+    boolean membersEqual(DataSourceDefinition other) {
+        return portNumber == other.portNumber()
+                && isolationLevel == other.isolationLevel()
+                && transactional == other.transactional()
+                && initialPoolSize == other.initialPoolSize()
+                && maxPoolSize == other.maxPoolSize()
+                && minPoolSize == other.minPoolSize()
+                && maxIdleTime == other.maxIdleTime()
+                && maxStatements == other.maxStatements()
+                && loginTimeout == other.loginTimeout()
+                && name.equals(other.name())
+                && className.equals(other.className())
+                && description.equals(other.description())
+                && url.equals(other.url())
+                && user.equals(other.user())
+                && password.equals(other.password())
+                && databaseName.equals(other.databaseName())
+                && serverName.equals(other.serverName())
+                && Arrays.equals(properties, other instanceof DataSourceDefinitionLiteral
+                        ? ((DataSourceDefinitionLiteral) other).properties : other.properties());
+    }
+
+    @Override
+    void appendMembers(StringBuilder sb) {
+        append(sb, "name", name);
+        append(sb, "className", className);
+        append(sb, "description", description);
+        append(sb, "url", url);
+        append(sb, "user", user);
+        append(sb, "password", password);
+        append(sb, "databaseName", databaseName);
+        append(sb, "portNumber", portNumber);
+        append(sb, "serverName", serverName);
+        append(sb, "isolationLevel", isolationLevel);
+        append(sb, "transactional", transactional);
+        append(sb, "initialPoolSize", initialPoolSize);
+        append(sb, "maxPoolSize", maxPoolSize);
+        append(sb, "minPoolSize", minPoolSize);
+        append(sb, "maxIdleTime", maxIdleTime);
+        append(sb, "maxStatements", maxStatements);
+        append(sb, "properties", properties);
+        append(sb, "loginTimeout", loginTimeout);
+    }
+
+    /**
+     * Builder of {@link DataSourceDefinitionLiteral} instances.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final String className;
+        private String description = "";
+        private String url = "";
+        private String user = "";
+        private String password = "";
+        private String databaseName = "";
+        private int portNumber = -1;
+        private String serverName = "localhost";
+        private int isolationLevel = -1;
+        private boolean transactional = true;
+        private int initialPoolSize = -1;
+        private int maxPoolSize = -1;
+        private int minPoolSize = -1;
+        private int maxIdleTime = -1;
+        private int maxStatements = -1;
+        private String[] properties = new String[0];
+        private int loginTimeout = 0;
+
+        private Builder(String name, String className) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.className = Objects.requireNonNull(className, "className");
+        }
+
+        /**
+         * Sets the description of the data source.
+         *
+         * @param description the value
+         * @return this builder
+         */
+        public Builder description(String description) {
+            this.description = Objects.requireNonNull(description, "description");
+            return this;
+        }
+
+        /**
+         * Sets the JDBC URL.
+         *
+         * @param url the value
+         * @return this builder
+         */
+        public Builder url(String url) {
+            this.url = Objects.requireNonNull(url, "url");
+            return this;
+        }
+
+        /**
+         * Sets the user name to use for connection authentication.
+         *
+         * @param user the value
+         * @return this builder
+         */
+        public Builder user(String user) {
+            this.user = Objects.requireNonNull(user, "user");
+            return this;
+        }
+
+        /**
+         * Sets the password to use for connection authentication.
+         *
+         * @param password the value
+         * @return this builder
+         */
+        public Builder password(String password) {
+            this.password = Objects.requireNonNull(password, "password");
+            return this;
+        }
+
+        /**
+         * Sets the name of a database on a server.
+         *
+         * @param databaseName the value
+         * @return this builder
+         */
+        public Builder databaseName(String databaseName) {
+            this.databaseName = Objects.requireNonNull(databaseName, "databaseName");
+            return this;
+        }
+
+        /**
+         * Sets the port number where a server is listening for requests.
+         *
+         * @param portNumber the value
+         * @return this builder
+         */
+        public Builder portNumber(int portNumber) {
+            this.portNumber = portNumber;
+            return this;
+        }
+
+        /**
+         * Sets the database server name.
+         *
+         * @param serverName the value
+         * @return this builder
+         */
+        public Builder serverName(String serverName) {
+            this.serverName = Objects.requireNonNull(serverName, "serverName");
+            return this;
+        }
+
+        /**
+         * Sets the isolation level for connections.
+         *
+         * @param isolationLevel the value
+         * @return this builder
+         */
+        public Builder isolationLevel(int isolationLevel) {
+            this.isolationLevel = isolationLevel;
+            return this;
+        }
+
+        /**
+         * Sets whether connections participate in transactions.
+         *
+         * @param transactional the value
+         * @return this builder
+         */
+        public Builder transactional(boolean transactional) {
+            this.transactional = transactional;
+            return this;
+        }
+
+        /**
+         * Sets the number of connections created when the pool is initialized.
+         *
+         * @param initialPoolSize the value
+         * @return this builder
+         */
+        public Builder initialPoolSize(int initialPoolSize) {
+            this.initialPoolSize = initialPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of connections concurrently allocated.
+         *
+         * @param maxPoolSize the value
+         * @return this builder
+         */
+        public Builder maxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of connections allocated.
+         *
+         * @param minPoolSize the value
+         * @return this builder
+         */
+        public Builder minPoolSize(int minPoolSize) {
+            this.minPoolSize = minPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of seconds a physical connection may remain unused.
+         *
+         * @param maxIdleTime the value
+         * @return this builder
+         */
+        public Builder maxIdleTime(int maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        /**
+         * Sets the total number of statements the pool should keep open.
+         *
+         * @param maxStatements the value
+         * @return this builder
+         */
+        public Builder maxStatements(int maxStatements) {
+            this.maxStatements = maxStatements;
+            return this;
+        }
+
+        /**
+         * Sets the vendor-specific properties, one propertyName=propertyValue per element.
+         *
+         * @param properties the value
+         * @return this builder
+         */
+        public Builder properties(String... properties) {
+            this.properties = AnnotationLiteral.requireNonNullElements(properties, "properties");
+            return this;
+        }
+
+        /**
+         * Sets the maximum time in seconds to wait while connecting.
+         *
+         * @param loginTimeout the value
+         * @return this builder
+         */
+        public Builder loginTimeout(int loginTimeout) {
+            this.loginTimeout = loginTimeout;
+            return this;
+        }
+
+        /**
+         * Creates a literal with the current member values.
+         *
+         * @return the literal
+         */
+        public DataSourceDefinitionLiteral build() {
+            return new DataSourceDefinitionLiteral(this);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Literal of the {@link Generated} annotation.
+ */
+public final class GeneratedLiteral extends AnnotationLiteral<Generated> implements Generated {
+
+    private final String[] value;
+    private final String date;
+    private final String comments;
+
+    private GeneratedLiteral(String[] value, String date, String comments) {
+        super(Generated.class, hash("value", value) + hash("date", date) + hash("comments", comments));
+        this.value = value;
+        this.date = date;
+        this.comments = comments;
+    }
+
+    /**
+     * Creates a literal without date and comments.
+     *
+     * @param value the names of the code generators
+     * @return the literal
+     */
+    public static GeneratedLiteral of(String... value) {
+        return of(value, "", "");
+    }
+
+    /**
+     * Creates a literal.
+     *
+     * @param value the names of the code generators
+     * @param date the ISO 8601 date when the source was generated
+     * @param comments the comments of the code generator
+     * @return the literal
+     */
+    public static GeneratedLiteral of(String[] value, String date, String comments) {
+        return new GeneratedLiteral(requireNonNullElements(value, "value"),
+                Objects.requireNonNull(date, "date"),
+                Objects.requireNonNull(comments, "comments"));
+    }
+
+    @Override
+    public String[] value() {
+        return value.clone();
+    }
+
+    @Override
+    public String date() {
+        return date;
+    }
+
+    @Override
+    public String comments() {
+        return comments;
+    }
+
+    @Override
+    boolean membersEqual(Generated other) {
+        return date.equals(other.date())
+                && comments.equals(other.comments())
+                && Arrays.equals(value, other instanceof GeneratedLiteral ? ((GeneratedLiteral) other).value : other.value());
+    }
+
+    @Override
+    void appendMembers(StringBuilder sb) {
+        append(sb, "value", value);
+        append(sb, "date", date);
+        append(sb, "comments", comments);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import java.util.Objects;
+
+import jakarta.annotation.Resource;
+
+/**
+ * Literal of the {@link Resource} annotation.
+ * <p>
+ * Instances are created with a {@link Builder}, which starts out with the
+ * default values of all members:
+ * <pre>{@code
+ * Resource resource = ResourceLiteral.builder()
+ *         .lookup("java:global/jdbc/Orders")
+ *         .type(DataSource.class)
+ *         .build();
+ * }</pre>
+ */
+public final class ResourceLiteral extends AnnotationLiteral<Resource> implements Resource {
+
+    private final String name;
+    private final String lookup;
+    private final Class<?> type;
+    private final AuthenticationType authenticationType;
+    private final boolean shareable;
+    private final String mappedName;
+    private final String description;
+
+    private ResourceLiteral(Builder builder) {
+        super(Resource.class, hash("name", builder.name)
+                + hash("lookup", builder.lookup)
+                + hash("type", builder.type)
+                + hash("authenticationType", builder.authenticationType)
+                + hash("shareable", builder.shareable)
+                + hash("mappedName", builder.mappedName)
+                + hash("description", builder.description));
+        this.name = builder.name;
+        this.lookup = builder.lookup;
+        this.type = builder.type;
+        this.authenticationType = builder.authenticationType;
+        this.shareable = builder.shareable;
+        this.mappedName = builder.mappedName;
+        this.description = builder.description;
+    }
+
+    /**
+     * Creates a builder initialized with the default member values.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String lookup() {
+        return lookup;
+    }
+
+    @Override
+    public Class<?> type() {
+        return type;
+    }
+
+    @Override
+    public AuthenticationType authenticationType() {
+        return authenticationType;
+    }
+
+    @Override
+    public boolean shareable() {
+        return shareable;
+    }
+
+    @Override
+    public String mappedName() {
+        return mappedName;
+    }
+
+    @Override
+    public String description() {
+        return description;
+    }
+
+    @Override
+    boolean membersEqual(Resource other) {
+        return shareable == other.shareable()
+                && type == other.type()
+                && authenticationType == other.authenticationType()
+                && name.equals(other.name())
+                && lookup.equals(other.lookup())
+                && mappedName.equals(other.mappedName())
+                && description.equals(other.description());
+    }
+
+    @Override
+    void appendMembers(StringBuilder sb) {
+        append(sb, "name", name);
+        append(sb, "lookup", lookup);
+        append(sb, "type", type);
+        append(sb, "authenticationType", authenticationType);
+        append(sb, "shareable", shareable);
+        append(sb, "mappedName", mappedName);
+        append(sb, "description", description);
+    }
+
+    /**
+     * Builder of {@link ResourceLiteral} instances.
+     */
+    public static final class Builder {
+
+        private String name = "";
+        private String lookup = "";
+        private Class<?> type = Object.class;
+        private AuthenticationType authenticationType = AuthenticationType.CONTAINER;
+        private boolean shareable = true;
+        private String mappedName = "";
+        private String description = "";
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the JNDI name of the resource.
+         *
+         * @param name the name
+         * @return this builder
+         */
+        public Builder name(String name) {
+            this.name = Objects.requireNonNull(name, "name");
+            return this;
+        }
+
+        /**
+         * Sets the name of the resource that the reference points to.
+         *
+         * @param lookup the lookup name
+         * @return this builder
+         */
+        public Builder lookup(String lookup) {
+            this.lookup = Objects.requireNonNull(lookup, "lookup");
+            return this;
+        }
+
+        /**
+         * Sets the Java type of the resource.
+         *
+         * @param type the type
+         * @return this builder
+         */
+        public Builder type(Class<?> type) {
+            this.type = Objects.requireNonNull(type, "type");
+            return this;
+        }
+
+        /**
+         * Sets the authentication type to use for the resource.
+         *
+         * @param authenticationType the authentication type
+         * @return this builder
+         */
+        public Builder authenticationType(AuthenticationType authenticationType) {
+            this.authenticationType = Objects.requireNonNull(authenticationType, "authenticationType");
+            return this;
+        }
+
+        /**
+         * Sets whether the resource can be shared between components.
+         *
+         * @param shareable whether the resource is shareable
+         * @return this builder
+         */
+        public Builder shareable(boolean shareable) {
+            this.shareable = shareable;
+            return this;
+        }
+
+        /**
+         * Sets the product specific name the resource should be mapped to.
+         *
+         * @param mappedName the mapped name
+         * @return this builder
+         */
+        public Builder mappedName(String mappedName) {
+            this.mappedName = Objects.requireNonNull(mappedName, "mappedName");
+            return this;
+        }
+
+        /**
+         * Sets the description of the resource.
+         *
+         * @param description the description
+         * @return this builder
+         */
+        public Builder description(String description) {
+            this.description = Objects.requireNonNull(description, "description");
+            return this;
+        }
+
+        /**
+         * Creates a literal with the current member values.
+         *
+         * @return the literal
+         */
+        public ResourceLiteral build() {
+            return new ResourceLiteral(this);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import java.util.Arrays;
+
+import jakarta.annotation.Resource;
+import jakarta.annotation.Resources;
+
+/**
+ * Literal of the {@link Resources} annotation.
+ */
+public final class ResourcesLiteral extends AnnotationLiteral<Resources> implements Resources {
+
+    private final Resource[] value;
+
+    private ResourcesLiteral(Resource[] value) {
+        super(Resources.class, hash("value", value));
+        this.value = value;
+    }
+
+    /**
+     * Creates a literal.
+     *
+     * @param value the resource declarations
+     * @return the literal
+     */
+    public static ResourcesLiteral of(Resource... value) {
+        return new ResourcesLiteral(requireNonNullElements(value, "value"));
+    }
+
+    @Override
+    public Resource[] value() {
+        return value.clone();
+    }
+
+    @Override
+    boolean membersEqual(Resources other) {
+        return Arrays.equals(value, other instanceof ResourcesLiteral ? ((ResourcesLiteral) other).value : other.value());
+    }
+
+    @Override
+    void appendMembers(StringBuilder sb) {
+        append(sb, null, value);
+    }
+}
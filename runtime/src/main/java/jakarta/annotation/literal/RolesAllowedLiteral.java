@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import java.util.Arrays;
+
+import jakarta.annotation.security.RolesAllowed;
+
+/**
+ * Literal of the {@link RolesAllowed} annotation.
+ */
+public final class RolesAllowedLiteral extends AnnotationLiteral<RolesAllowed> implements RolesAllowed {
+
+    private final String[] value;
+
+    private RolesAllowedLiteral(String[] value) {
+        super(RolesAllowed.class, hash("value", value));
+        this.value = value;
+    }
+
+    /**
+     * Creates a literal.
+     *
+     * @param value the roles that are permitted access
+     * @return the literal
+     */
+    public static RolesAllowedLiteral of(String... value) {
+        return new RolesAllowedLiteral(requireNonNullElements(value, "value"));
+    }
+
+    @Override
+    public String[] value() {
+        return value.clone();
+    }
+
+    @Override
+    boolean membersEqual(RolesAllowed other) {
+        return Arrays.equals(value, other instanceof RolesAllowedLiteral ? ((RolesAllowedLiteral) other).value : other.value());
+    }
+
+    @Override
+    void appendMembers(StringBuilder sb) {
+        append(sb, null, value);
+    }
+}
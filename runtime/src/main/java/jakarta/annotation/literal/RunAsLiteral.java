@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import java.util.Objects;
+
+import jakarta.annotation.security.RunAs;
+
+/**
+ * Literal of the {@link RunAs} annotation.
+ */
+public final class RunAsLiteral extends AnnotationLiteral<RunAs> implements RunAs {
+
+    private final String value;
+
+    private RunAsLiteral(String value) {
+        super(RunAs.class, hash("value", value));
+        this.value = value;
+    }
+
+    /**
+     * Creates a literal.
+     *
+     * @param value the name of the security role
+     * @return the literal
+     */
+    public static RunAsLiteral of(String value) {
+        return new RunAsLiteral(Objects.requireNonNull(value, "value"));
+    }
+
+    @Override
+    public String value() {
+        return value;
+    }
+
+    @Override
+    boolean membersEqual(RunAs other) {
+        return value.equals(other.value());
+    }
+
+    @Override
+    void appendMembers(StringBuilder sb) {
+        append(sb, null, value);
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.priority;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import jakarta.annotation.Priority;
+
+/**
+ * A concurrent registry of interceptors, observers, providers or other
+ * elements, ordered by {@link Priority}.
+ * <p>
+ * Elements are kept in ascending order of priority value, so that the
+ * element with the lowest value comes first, as for the interceptors of
+ * the Jakarta Interceptors specification. Elements with the same priority
+ * keep the order in which they were registered.
+ * <p>
+ * Reading never blocks: iteration and {@link #snapshot()} work on an
+ * immutable array published by the last modification, and complete in a
+ * bounded number of steps regardless of concurrent registrations.
+ * Modifications copy the array once, inserting at a position found by
+ * binary search, and are published with a compare-and-set, so dispatch
+ * loops never wait for a registration to complete and never see it
+ * half-done.
+ *
+ * @param <T> the type of the registered elements
+ */
+public final class PriorityRegistry<T> implements Iterable<T> {
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(PriorityRegistry.class, "state", State.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final ClassValue<Priority> PRIORITIES = new ClassValue<>() {
+        @Override
+        protected Priority computeValue(Class<?> type) {
+            return type.getAnnotation(Priority.class);
+        }
+    };
+
+    private final int defaultPriority;
+
+    @SuppressWarnings("unused") // accessed through STATE
+    private volatile State state = State.EMPTY;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param defaultPriority the priority of elements whose class is not
+     *        annotated with {@code Priority}
+     */
+    public PriorityRegistry(int defaultPriority) {
+        this.defaultPriority = defaultPriority;
+    }
+
+    /**
+     * Returns the priority of a class.
+     *
+     * @param type the class
+     * @param defaultPriority the priority to use if the class is not
+     *        annotated with {@code Priority}
+     * @return the priority value
+     */
+    public static int priorityOf(Class<?> type, int defaultPriority) {
+        Priority priority = PRIORITIES.get(type);
+        return priority == null ? defaultPriority : priority.value();
+    }
+
+    /**
+     * Registers an element with the priority of its class.
+     *
+     * @param element the element
+     */
+    public void register(T element) {
+        register(element, priorityOf(element.getClass(), defaultPriority));
+    }
+
+    /**
+     * Registers an element with the given priority, after all elements
+     * registered with the same priority.
+     *
+     * @param element the element
+     * @param priority the priority value
+     */
+    public void register(T element, int priority) {
+        Objects.requireNonNull(element, "element");
+        State current;
+        do {
+            current = state;
+        } while (!STATE.compareAndSet(this, current, current.insert(element, priority)));
+    }
+
+    /**
+     * Removes an element, compared by identity.
+     *
+     * @param element the element
+     * @return {@code true} if the element was registered
+     */
+    public boolean unregister(T element) {
+        State current;
+        State updated;
+        do {
+            current = state;
+            updated = current.remove(element);
+            if (updated == current) {
+                return false;
+            }
+        } while (!STATE.compareAndSet(this, current, updated));
+        return true;
+    }
+
+    /**
+     * Returns the registered elements at this point in time, in priority
+     * order. The list is not affected by later modifications.
+     *
+     * @return an unmodifiable list of elements
+     */
+    public List<T> snapshot() {
+        return new Snapshot<>(state.elements);
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the registered elements.
+     *
+     * @return an iterator that does not support removal
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (Object element : state.elements) {
+            action.accept((T) element);
+        }
+    }
+
+    /**
+     * Returns the number of registered elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return state.elements.length;
+    }
+
+    /**
+     * Returns whether no element is registered.
+     *
+     * @return {@code true} if the registry is empty
+     */
+    public boolean isEmpty() {
+        return state.elements.length == 0;
+    }
+
+    /**
+     * An immutable state of the registry.
+     */
+    private static final class State {
+
+        static final State EMPTY = new State(new Object[0], new int[0]);
+
+        final Object[] elements;
+        final int[] priorities;
+
+        State(Object[] elements, int[] priorities) {
+            this.elements = elements;
+            this.priorities = priorities;
+        }
+
+        State insert(Object element, int priority) {
+            // first position with a greater priority, keeping registration order for equal ones
+            int low = 0;
+            int high = priorities.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (priorities[mid] <= priority) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            int length = elements.length;
+            Object[] e = new Object[length + 1];
+            int[] p = new int[length + 1];
+            System.arraycopy(elements, 0, e, 0, low);
+            System.arraycopy(priorities, 0, p, 0, low);
+            e[low] = element;
+            p[low] = priority;
+            System.arraycopy(elements, low, e, low + 1, length - low);
+            System.arraycopy(priorities, low, p, low + 1, length - low);
+            return new State(e, p);
+        }
+
+        State remove(Object element) {
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i] == element) {
+                    int length = elements.length;
+                    Object[] e = Arrays.copyOf(elements, length - 1);
+                    int[] p = Arrays.copyOf(priorities, length - 1);
+                    System.arraycopy(elements, i + 1, e, i, length - i - 1);
+                    System.arraycopy(priorities, i + 1, p, i, length - i - 1);
+                    return new State(e, p);
+                }
+            }
+            return this;
+        }
+    }
+
+    private static final class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+
+        private final Object[] elements;
+
+        Snapshot(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.priority;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Priority;
+
+/**
+ * A view of a {@link ServiceLoader} that orders the providers by
+ * {@link Priority} without instantiating them.
+ * <p>
+ * The priority of a provider is looked up by the binary name of its class
+ * in an optional map, typically the build-time priority index, and
+ * otherwise read from the {@code Priority} annotation of
+ * {@link ServiceLoader.Provider#type()}. Providers are ordered by
+ * ascending priority value, so that the provider with the lowest value
+ * comes first; providers without priority come last, in the order of the
+ * service loader.
+ * <p>
+ * The providers are located and sorted on first use. A provider is
+ * instantiated only when its instance is requested, at most once, so that
+ * picking the first provider instantiates exactly one of them. Instances
+ * of providers exposing a static {@code provider()} method are whatever
+ * that method returns. Instances of this class are safe for use by
+ * multiple threads.
+ *
+ * @param <S> the service type
+ */
+public final class PriorityServiceLoader<S> implements Iterable<S> {
+
+    private static final Comparator<Candidate<?>> ORDER = Comparator.comparingInt(Candidate::priority);
+
+    private final ServiceLoader<S> loader;
+    private final Map<String, Integer> priorities;
+
+    private volatile List<Candidate<S>> candidates;
+
+    private PriorityServiceLoader(ServiceLoader<S> loader, Map<String, Integer> priorities) {
+        this.loader = loader;
+        this.priorities = priorities;
+    }
+
+    /**
+     * Creates a loader for the providers of a service visible to the
+     * thread context class loader, as {@link ServiceLoader#load(Class)}.
+     * The package of the service must be exported to this module; for
+     * other services use {@link #of(ServiceLoader, Map)}.
+     *
+     * @param <S> the service type
+     * @param service the service interface or abstract class
+     * @return the loader
+     */
+    public static <S> PriorityServiceLoader<S> load(Class<S> service) {
+        return of(ServiceLoader.load(uses(service)), Map.of());
+    }
+
+    /**
+     * Creates a loader for the providers of a service visible to a class
+     * loader, as {@link ServiceLoader#load(Class, ClassLoader)}. The
+     * package of the service must be exported to this module; for other
+     * services use {@link #of(ServiceLoader, Map)}.
+     *
+     * @param <S> the service type
+     * @param service the service interface or abstract class
+     * @param classLoader the class loader, or {@code null} for the system class loader
+     * @return the loader
+     */
+    public static <S> PriorityServiceLoader<S> load(Class<S> service, ClassLoader classLoader) {
+        return of(ServiceLoader.load(uses(service), classLoader), Map.of());
+    }
+
+    /**
+     * Creates a view of a service loader, taking priorities from a map
+     * before reading annotations.
+     *
+     * @param <S> the service type
+     * @param loader the service loader, which must not be used elsewhere
+     * @param priorities priority values by binary class name, such as the
+     *        priorities of the build-time index
+     * @return the loader
+     */
+    public static <S> PriorityServiceLoader<S> of(ServiceLoader<S> loader, Map<String, Integer> priorities) {
+        return new PriorityServiceLoader<>(Objects.requireNonNull(loader, "loader"),
+                Objects.requireNonNull(priorities, "priorities"));
+    }
+
+    /**
+     * Returns the providers in priority order, without instantiating them.
+     *
+     * @return an unmodifiable list of providers
+     */
+    public List<ServiceLoader.Provider<S>> providers() {
+        List<Candidate<S>> c = candidates();
+        List<ServiceLoader.Provider<S>> providers = new ArrayList<>(c.size());
+        for (Candidate<S> candidate : c) {
+            providers.add(candidate.provider);
+        }
+        return List.copyOf(providers);
+    }
+
+    /**
+     * Returns the instance of the provider with the lowest priority value,
+     * instantiating no other provider.
+     *
+     * @return the instance, or an empty optional if there is no provider
+     * @throws java.util.ServiceConfigurationError if the provider cannot
+     *         be instantiated
+     */
+    public Optional<S> findFirst() {
+        List<Candidate<S>> c = candidates();
+        return c.isEmpty() ? Optional.empty() : Optional.of(c.get(0).instance());
+    }
+
+    /**
+     * Returns the provider instances in priority order. A provider is
+     * instantiated when the stream reaches it.
+     *
+     * @return a sequential stream of instances
+     */
+    public Stream<S> stream() {
+        return candidates().stream().map(Candidate::instance);
+    }
+
+    /**
+     * Returns an iterator over the provider instances in priority order.
+     * A provider is instantiated when the iterator reaches it.
+     *
+     * @return an iterator that does not support removal
+     */
+    @Override
+    public Iterator<S> iterator() {
+        List<Candidate<S>> c = candidates();
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < c.size();
+            }
+
+            @Override
+            public S next() {
+                if (next >= c.size()) {
+                    throw new NoSuchElementException();
+                }
+                return c.get(next++).instance();
+            }
+        };
+    }
+
+    /**
+     * Declares that this module reads the module of a service and uses the
+     * service, as {@link ServiceLoader} requires of the module calling it.
+     */
+    private static <S> Class<S> uses(Class<S> service) {
+        Module module = PriorityServiceLoader.class.getModule();
+        module.addReads(service.getModule());
+        module.addUses(service);
+        return service;
+    }
+
+    private List<Candidate<S>> candidates() {
+        List<Candidate<S>> c = candidates;
+        if (c == null) {
+            synchronized (this) {
+                c = candidates;
+                if (c == null) {
+                    c = locate();
+                    candidates = c;
+                }
+            }
+        }
+        return c;
+    }
+
+    private List<Candidate<S>> locate() {
+        // ServiceLoader is not thread-safe, it is only iterated here
+        List<Candidate<S>> located = new ArrayList<>();
+        loader.stream().forEach(provider -> located.add(new Candidate<>(provider, priority(provider.type()))));
+        // stable, so that equal priorities keep the service loader order
+        located.sort(ORDER);
+        return List.copyOf(located);
+    }
+
+    private int priority(Class<?> type) {
+        Integer priority = priorities.get(type.getName());
+        return priority != null ? priority : PriorityRegistry.priorityOf(type, Integer.MAX_VALUE);
+    }
+
+    private static final class Candidate<S> {
+
+        final ServiceLoader.Provider<S> provider;
+        final int priority;
+        private volatile S instance;
+
+        Candidate(ServiceLoader.Provider<S> provider, int priority) {
+            this.provider = provider;
+            this.priority = priority;
+        }
+
+        int priority() {
+            return priority;
+        }
+
+        S instance() {
+            S s = instance;
+            if (s == null) {
+                synchronized (this) {
+                    s = instance;
+                    if (s == null) {
+                        s = provider.get();
+                        instance = s;
+                    }
+                }
+            }
+            return s;
+        }
+    }
+}
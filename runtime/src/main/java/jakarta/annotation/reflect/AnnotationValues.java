@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.reflect;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.security.DeclareRoles;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.annotation.sql.DataSourceDefinition;
+
+/**
+ * Cached, allocation-free access to the array valued members of the
+ * common annotations.
+ * <p>
+ * Every call of an array valued member of an annotation returned by the
+ * reflection API clones the array. The methods of this class read such a
+ * member once per annotated element and return a shared, unmodifiable view
+ * of it on every later call, preserving the declaration order. The values
+ * are cached in a {@link ClassValue}, so they do not keep the class loader
+ * of an annotated class alive.
+ * <p>
+ * {@code Generated.value()} has no counterpart here: {@code Generated} is
+ * retained in source only and never visible at runtime.
+ */
+public final class AnnotationValues {
+
+    private static final Set<String> ABSENT = Collections.unmodifiableSet(new LinkedHashSet<>());
+
+    private static final ClassValue<Members> MEMBERS = new ClassValue<>() {
+        @Override
+        protected Members computeValue(Class<?> type) {
+            return new Members(type);
+        }
+    };
+
+    private AnnotationValues() {
+    }
+
+    /**
+     * Returns the roles of the {@code RolesAllowed} annotation of a class.
+     *
+     * @param type the class
+     * @return an unmodifiable set of roles, or {@code null} if the class is
+     *         not annotated with {@code RolesAllowed}
+     */
+    public static Set<String> rolesAllowed(Class<?> type) {
+        Set<String> roles = MEMBERS.get(type).rolesAllowed;
+        return roles == ABSENT ? null : roles;
+    }
+
+    /**
+     * Returns the roles of the {@code RolesAllowed} annotation of a method.
+     *
+     * @param method the method
+     * @return an unmodifiable set of roles, or {@code null} if the method is
+     *         not annotated with {@code RolesAllowed}
+     */
+    public static Set<String> rolesAllowed(Method method) {
+        Set<String> roles = MEMBERS.get(method.getDeclaringClass()).methodRoles
+                .computeIfAbsent(method, AnnotationValues::readRolesAllowed);
+        return roles == ABSENT ? null : roles;
+    }
+
+    /**
+     * Returns the roles of the {@code DeclareRoles} annotation of a class.
+     *
+     * @param type the class
+     * @return an unmodifiable set of roles, empty if the class is not
+     *         annotated with {@code DeclareRoles}
+     */
+    public static Set<String> declaredRoles(Class<?> type) {
+        Set<String> roles = MEMBERS.get(type).declaredRoles;
+        return roles == ABSENT ? Set.of() : roles;
+    }
+
+    /**
+     * Returns the {@code properties} of the {@code DataSourceDefinition}
+     * annotations of a class.
+     *
+     * @param type the class
+     * @return an unmodifiable map from the {@code name} of each data source
+     *         definition to its unmodifiable list of properties, empty if the
+     *         class does not define data sources
+     */
+    public static Map<String, List<String>> dataSourceProperties(Class<?> type) {
+        return MEMBERS.get(type).dataSourceProperties;
+    }
+
+    /**
+     * Returns the {@code properties} of a {@code DataSourceDefinition}
+     * annotation of a class.
+     *
+     * @param type the class
+     * @param name the {@code name} of the data source definition
+     * @return an unmodifiable list of properties, or {@code null} if the
+     *         class does not define a data source with that name
+     */
+    public static List<String> dataSourceProperties(Class<?> type, String name) {
+        return MEMBERS.get(type).dataSourceProperties.get(name);
+    }
+
+    private static Set<String> readRolesAllowed(Method method) {
+        RolesAllowed rolesAllowed = method.getAnnotation(RolesAllowed.class);
+        return rolesAllowed == null ? ABSENT : toSet(rolesAllowed.value());
+    }
+
+    private static Set<String> toSet(String[] values) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(values)));
+    }
+
+    private static final class Members {
+
+        final Set<String> rolesAllowed;
+        final Set<String> declaredRoles;
+        final Map<String, List<String>> dataSourceProperties;
+        final Map<Method, Set<String>> methodRoles = new ConcurrentHashMap<>();
+
+        Members(Class<?> type) {
+            RolesAllowed rolesAllowed = type.getAnnotation(RolesAllowed.class);
+            this.rolesAllowed = rolesAllowed == null ? ABSENT : toSet(rolesAllowed.value());
+            DeclareRoles declareRoles = type.getAnnotation(DeclareRoles.class);
+            this.declaredRoles = declareRoles == null ? ABSENT : toSet(declareRoles.value());
+
+            DataSourceDefinition[] definitions = type.getAnnotationsByType(DataSourceDefinition.class);
+            if (definitions.length == 0) {
+                this.dataSourceProperties = Map.of();
+            } else {
+                Map<String, List<String>> properties = new LinkedHashMap<>();
+                for (DataSourceDefinition definition : definitions) {
+                    properties.put(definition.name(), List.of(definition.properties()));
+                }
+                this.dataSourceProperties = Collections.unmodifiableMap(properties);
+            }
+        }
+    }
+}
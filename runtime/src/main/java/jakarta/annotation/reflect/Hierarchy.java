@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.reflect;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Utility methods for walking class hierarchies the way the common
+ * annotations require.
+ * <p>
+ * Annotations such as {@code Resource}, {@code PostConstruct} and
+ * {@code PreDestroy} are not inherited, but deployment tools have to
+ * examine all superclasses of a class to discover them, including private
+ * members, and must not act on a method that a subclass overrides.
+ */
+public final class Hierarchy {
+
+    private Hierarchy() {
+    }
+
+    /**
+     * Returns a class and its superclasses, most general first and without
+     * {@code java.lang.Object}.
+     *
+     * @param type the class
+     * @return an unmodifiable list of classes ending with {@code type}
+     */
+    public static List<Class<?>> of(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        return Collections.unmodifiableList(hierarchy);
+    }
+
+    /**
+     * Returns whether a method is overridden in a class, that is by one of
+     * the classes between the declaring class of the method, exclusive, and
+     * the given class, inclusive. Private and static methods are never
+     * overridden, package private methods only by classes of the same
+     * runtime package.
+     *
+     * @param method the method
+     * @param type a subclass of the declaring class of the method
+     * @return {@code true} if the method is overridden
+     */
+    public static boolean isOverridden(Method method, Class<?> type) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+            return false;
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        boolean packagePrivate = !Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers);
+        for (Class<?> c = type; c != null && c != declaringClass; c = c.getSuperclass()) {
+            Method candidate;
+            try {
+                candidate = c.getDeclaredMethod(method.getName(), method.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                continue;
+            }
+            int m = candidate.getModifiers();
+            if (Modifier.isPrivate(m) || Modifier.isStatic(m)) {
+                continue;
+            }
+            if (!packagePrivate || samePackage(declaringClass, c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean samePackage(Class<?> a, Class<?> b) {
+        return a.getClassLoader() == b.getClassLoader() && a.getPackageName().equals(b.getPackageName());
+    }
+}
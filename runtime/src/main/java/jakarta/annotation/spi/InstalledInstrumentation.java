@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.spi;
+
+import java.util.ServiceConfigurationError;
+
+import jakarta.annotation.priority.PriorityServiceLoader;
+
+/**
+ * Holds the installed instrumentation, located on first use. A provider
+ * that cannot be loaded is logged and leaves instrumentation disabled,
+ * rather than failing the initialization of every class reporting to it.
+ */
+final class InstalledInstrumentation {
+
+    private static final System.Logger LOGGER = System.getLogger(InstalledInstrumentation.class.getName());
+
+    static final Instrumentation INSTANCE = locate();
+
+    private InstalledInstrumentation() {
+    }
+
+    private static Instrumentation locate() {
+        try {
+            return PriorityServiceLoader
+                    .load(Instrumentation.class, Instrumentation.class.getClassLoader())
+                    .findFirst()
+                    .orElse(NoInstrumentation.INSTANCE);
+        } catch (ServiceConfigurationError e) {
+            LOGGER.log(System.Logger.Level.WARNING,
+                    "Cannot load instrumentation provider, instrumentation is disabled", e);
+            return NoInstrumentation.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.spi;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ServiceLoader;
+
+/**
+ * Receives measurements of the runtime behavior described by the common
+ * annotations, to be exported to a metrics system.
+ * <p>
+ * The implementation used by this module is located once with
+ * {@link ServiceLoader}; if several are available, the one with the lowest
+ * {@link jakarta.annotation.Priority} value wins. Without any, a no-op
+ * implementation is used, for which {@link #isEnabled()} is false. Code
+ * reporting measurements keeps the instrumentation in a
+ * {@code static final} field and takes them only if it is enabled, so
+ * that the JIT compiler removes the measuring code altogether when it is
+ * not:
+ * <pre>{@code
+ * if (INSTRUMENTATION.isEnabled()) {
+ *     long start = System.nanoTime();
+ *     ...
+ *     INSTRUMENTATION.resourceResolved(name, type, false, System.nanoTime() - start);
+ * }
+ * }</pre>
+ * All methods have empty default implementations. Implementations must be
+ * safe for use by multiple threads and should return quickly.
+ *
+ * @see MetricsInstrumentation
+ */
+public interface Instrumentation {
+
+    /**
+     * Returns the instrumentation installed for this module.
+     *
+     * @return the instrumentation, never {@code null}
+     */
+    static Instrumentation get() {
+        return InstalledInstrumentation.INSTANCE;
+    }
+
+    /**
+     * Returns an instrumentation that ignores all measurements.
+     *
+     * @return the no-op instrumentation
+     */
+    static Instrumentation none() {
+        return NoInstrumentation.INSTANCE;
+    }
+
+    /**
+     * Returns whether this instrumentation records measurements.
+     *
+     * @return {@code true}, unless overridden
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called after the lifecycle callbacks of a phase were invoked on a
+     * component.
+     *
+     * @param componentClass the class of the component
+     * @param phase {@code PostConstruct.class} or {@code PreDestroy.class}
+     * @param nanos the time taken by the callbacks
+     * @param failure the exception thrown by the callbacks, or {@code null}
+     */
+    default void lifecycleInvoked(Class<?> componentClass, Class<? extends Annotation> phase,
+            long nanos, Throwable failure) {
+    }
+
+    /**
+     * Called after a resource was resolved for injection.
+     *
+     * @param name the lookup or JNDI name of the resource
+     * @param type the Java type of the resource
+     * @param cacheHit whether the resource was served from a cache
+     * @param nanos the time taken by the resolution
+     */
+    default void resourceResolved(String name, Class<?> type, boolean cacheHit, long nanos) {
+    }
+
+    /**
+     * Called after an authorization decision was made for the invocation
+     * of a secured method.
+     *
+     * @param componentClass the class of the component
+     * @param method the invoked method
+     * @param permitted whether access was granted
+     * @param nanos the time taken by the decision
+     */
+    default void authorized(Class<?> componentClass, Method method, boolean permitted, long nanos) {
+    }
+
+    /**
+     * Called on the activity of a connection pool created for a
+     * {@code DataSourceDefinition}.
+     *
+     * @param dataSource the name of the data source
+     * @param activity the activity
+     * @param nanos the duration of the activity as described by
+     *        {@link PoolActivity}, or {@code 0}
+     */
+    default void poolActivity(String dataSource, PoolActivity activity, long nanos) {
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.spi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link Instrumentation} that aggregates the measurements into
+ * histograms and exports them in the Prometheus text format.
+ * <p>
+ * Every measurement is counted in a histogram of its duration per metric
+ * and label values, with buckets doubling from one microsecond to about
+ * eight seconds; the {@code _count} series of a histogram serves as the
+ * counter of the events. The following metrics are maintained:
+ * <ul>
+ * <li>{@code jakarta_annotation_lifecycle_seconds}, labeled with
+ * {@code class}, {@code phase} and {@code outcome};
+ * <li>{@code jakarta_annotation_resource_resolution_seconds}, labeled with
+ * {@code name}, {@code type} and {@code cache};
+ * <li>{@code jakarta_annotation_authorization_seconds}, labeled with
+ * {@code class}, {@code method} and {@code outcome};
+ * <li>{@code jakarta_annotation_pool_activity_seconds}, labeled with
+ * {@code datasource} and {@code activity}.
+ * </ul>
+ * A duration is counted in the smallest bucket whose bound it does not
+ * exceed. Once the histogram of a series exists, recording looks it up
+ * without allocating, only updates {@link LongAdder}s and does not lock.
+ * <p>
+ * To install this implementation, list it in a
+ * {@code META-INF/services/jakarta.annotation.spi.Instrumentation} file on
+ * the class path, or provide a subclass from a named module; it is then
+ * returned by {@link Instrumentation#get()}.
+ */
+public class MetricsInstrumentation implements Instrumentation {
+
+    private static final int BUCKETS = 24;
+
+    private static final Comparator<Series> ORDER = Comparator
+            .comparing(Series::metric)
+            .thenComparing(Series::label1)
+            .thenComparing(Series::label2)
+            .thenComparing(Series::label3);
+
+    private static final String[] OUTCOMES = {"success", "failure"};
+    private static final String[] DECISIONS = {"permitted", "denied"};
+    private static final String[] CACHE = {"hit", "miss"};
+    private static final PoolActivity[] ACTIVITIES = PoolActivity.values();
+
+    // every histogram by its series, for export
+    private final Map<Series, Histogram> histograms = new ConcurrentHashMap<>();
+
+    // the histograms by the arguments of the callbacks, to find them without allocating
+    private final ClassValue<ClassHistograms> classes = new ClassValue<>() {
+        @Override
+        protected ClassHistograms computeValue(Class<?> type) {
+            return new ClassHistograms();
+        }
+    };
+    private final Map<String, Map<Class<?>, Histogram[]>> resources = new ConcurrentHashMap<>();
+    private final Map<String, Histogram[]> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instrumentation without any measurements.
+     */
+    public MetricsInstrumentation() {
+    }
+
+    @Override
+    public void lifecycleInvoked(Class<?> componentClass, Class<? extends Annotation> phase,
+            long nanos, Throwable failure) {
+        Histogram[] slots = slots(classes.get(componentClass).lifecycle, phase, OUTCOMES.length);
+        int i = failure == null ? 0 : 1;
+        Histogram histogram = slots[i];
+        if (histogram == null) {
+            slots[i] = histogram = histogram(new Series(Metric.LIFECYCLE, componentClass.getName(),
+                    phase.getSimpleName(), OUTCOMES[i]));
+        }
+        histogram.record(nanos);
+    }
+
+    @Override
+    public void resourceResolved(String name, Class<?> type, boolean cacheHit, long nanos) {
+        Map<Class<?>, Histogram[]> types = resources.get(name);
+        if (types == null) {
+            types = resources.computeIfAbsent(name, n -> new ConcurrentHashMap<>());
+        }
+        Histogram[] slots = slots(types, type, CACHE.length);
+        int i = cacheHit ? 0 : 1;
+        Histogram histogram = slots[i];
+        if (histogram == null) {
+            slots[i] = histogram = histogram(new Series(Metric.RESOURCE, name, type.getName(), CACHE[i]));
+        }
+        histogram.record(nanos);
+    }
+
+    @Override
+    public void authorized(Class<?> componentClass, Method method, boolean permitted, long nanos) {
+        Histogram[] slots = slots(classes.get(componentClass).authorization, method, DECISIONS.length);
+        int i = permitted ? 0 : 1;
+        Histogram histogram = slots[i];
+        if (histogram == null) {
+            slots[i] = histogram = histogram(new Series(Metric.AUTHORIZATION, componentClass.getName(),
+                    method.getName(), DECISIONS[i]));
+        }
+        histogram.record(nanos);
+    }
+
+    @Override
+    public void poolActivity(String dataSource, PoolActivity activity, long nanos) {
+        Histogram[] slots = slots(pools, dataSource, ACTIVITIES.length);
+        int i = activity.ordinal();
+        Histogram histogram = slots[i];
+        if (histogram == null) {
+            slots[i] = histogram = histogram(new Series(Metric.POOL, dataSource, activity.label, ""));
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Returns the number of events recorded for a metric, summed over all
+     * label values.
+     *
+     * @param metric the name of the metric, without {@code _count}
+     * @return the number of events
+     */
+    public long count(String metric) {
+        long count = 0;
+        for (Map.Entry<Series, Histogram> e : histograms.entrySet()) {
+            if (e.getKey().metric.name.equals(metric)) {
+                count += e.getValue().count();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes all metrics in the Prometheus text exposition format.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    public void export(Appendable out) throws IOException {
+        List<Map.Entry<Series, Histogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Map.Entry.comparingByKey(ORDER));
+        Metric metric = null;
+        for (Map.Entry<Series, Histogram> e : entries) {
+            Series series = e.getKey();
+            if (series.metric != metric) {
+                metric = series.metric;
+                out.append("# HELP ").append(metric.name).append(' ').append(metric.help).append('\n');
+                out.append("# TYPE ").append(metric.name).append(" histogram\n");
+            }
+            String labels = series.labels();
+            Histogram histogram = e.getValue();
+            long cumulative = 0;
+            for (int i = 0; i <= BUCKETS; i++) {
+                cumulative += histogram.buckets[i].sum();
+                out.append(metric.name).append("_bucket{").append(labels).append(labels.isEmpty() ? "" : ",")
+                        .append("le=\"").append(i == BUCKETS ? "+Inf" : bound(i)).append("\"} ")
+                        .append(Long.toString(cumulative)).append('\n');
+            }
+            out.append(metric.name).append("_sum{").append(labels).append("} ")
+                    .append(BigDecimal.valueOf(histogram.nanos.sum(), 9).toPlainString()).append('\n');
+            out.append(metric.name).append("_count{").append(labels).append("} ")
+                    .append(Long.toString(cumulative)).append('\n');
+        }
+    }
+
+    /**
+     * Returns all metrics in the Prometheus text exposition format.
+     *
+     * @return the exported metrics
+     */
+    public String export() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            export(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    private static <K> Histogram[] slots(Map<K, Histogram[]> map, K key, int length) {
+        Histogram[] slots = map.get(key);
+        return slots != null ? slots : map.computeIfAbsent(key, k -> new Histogram[length]);
+    }
+
+    /**
+     * Returns the histogram of a series. Threads racing to fill the same
+     * slot get the same histogram, which is safely published by its final
+     * fields.
+     */
+    private Histogram histogram(Series series) {
+        return histograms.computeIfAbsent(series, s -> new Histogram());
+    }
+
+    /**
+     * Returns the upper bound of a bucket in seconds: 2<sup>i</sup>
+     * microseconds.
+     */
+    private static String bound(int i) {
+        return BigDecimal.valueOf(1L << i, 6).stripTrailingZeros().toPlainString();
+    }
+
+    private enum Metric {
+
+        LIFECYCLE("jakarta_annotation_lifecycle_seconds",
+                "Time spent in lifecycle callbacks", "class", "phase", "outcome"),
+        RESOURCE("jakarta_annotation_resource_resolution_seconds",
+                "Time spent resolving resources", "name", "type", "cache"),
+        AUTHORIZATION("jakarta_annotation_authorization_seconds",
+                "Time spent on authorization decisions", "class", "method", "outcome"),
+        POOL("jakarta_annotation_pool_activity_seconds",
+                "Duration of connection pool activities", "datasource", "activity", null);
+
+        final String name;
+        final String help;
+        final String[] labels;
+
+        Metric(String name, String help, String... labels) {
+            this.name = name;
+            this.help = help;
+            this.labels = labels;
+        }
+    }
+
+    private record Series(Metric metric, String label1, String label2, String label3) {
+
+        String labels() {
+            StringBuilder sb = new StringBuilder();
+            String[] values = {label1, label2, label3};
+            for (int i = 0; i < values.length; i++) {
+                if (metric.labels[i] == null) {
+                    continue;
+                }
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(metric.labels[i]).append("=\"");
+                String value = values[i];
+                for (int j = 0; j < value.length(); j++) {
+                    char c = value.charAt(j);
+                    switch (c) {
+                        case '\\': sb.append("\\\\"); break;
+                        case '"': sb.append("\\\""); break;
+                        case '\n': sb.append("\\n"); break;
+                        default: sb.append(c);
+                    }
+                }
+                sb.append('"');
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final class ClassHistograms {
+
+        final Map<Class<? extends Annotation>, Histogram[]> lifecycle = new ConcurrentHashMap<>();
+        final Map<Method, Histogram[]> authorization = new ConcurrentHashMap<>();
+    }
+
+    private static final class Histogram {
+
+        final LongAdder[] buckets = new LongAdder[BUCKETS + 1];
+        final LongAdder nanos = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long duration) {
+            long d = Math.max(0, duration);
+            // rounded up, bucket i counts durations of at most 2^i microseconds
+            long micros = d / 1000 + (d % 1000 == 0 ? 0 : 1);
+            int i = micros <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(micros - 1);
+            buckets[Math.min(i, BUCKETS)].increment();
+            nanos.add(d);
+        }
+
+        long count() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.spi;
+
+import java.util.Locale;
+
+/**
+ * The activities of a connection pool reported to an
+ * {@link Instrumentation}.
+ */
+public enum PoolActivity {
+
+    /**
+     * A physical connection was opened, the duration is the time it took.
+     */
+    CONNECTION_CREATED,
+
+    /**
+     * A connection was borrowed, the duration is the time the borrower
+     * waited.
+     */
+    CONNECTION_BORROWED,
+
+    /**
+     * A connection was returned, the duration is the time it was borrowed.
+     */
+    CONNECTION_RETURNED,
+
+    /**
+     * A physical connection was closed.
+     */
+    CONNECTION_CLOSED,
+
+    /**
+     * A borrower gave up waiting for a connection, the duration is the
+     * time it waited.
+     */
+    BORROW_TIMED_OUT,
+
+    /**
+     * The autoscaler of a pool raised its size limit, the duration is the
+     * average time borrowers waited in the interval that led to it.
+     */
+    POOL_GROWN,
+
+    /**
+     * The autoscaler of a pool lowered its size limit.
+     */
+    POOL_SHRUNK;
+
+    final String label = name().toLowerCase(Locale.ROOT);
+}
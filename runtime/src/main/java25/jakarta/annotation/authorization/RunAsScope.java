@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * The binding of one run-as context, or of none, to the current thread.
+ * <p>
+ * This is the implementation for Java 25 and later, which binds a
+ * {@link ScopedValue} with a carrier computed once per context. The
+ * binding is seen by subtasks forked in a
+ * {@code java.util.concurrent.StructuredTaskScope} opened by the action,
+ * and by no other thread.
+ */
+final class RunAsScope {
+
+    private static final ScopedValue<RunAsContext> CURRENT = ScopedValue.newInstance();
+
+    static final RunAsScope NONE = new RunAsScope(null);
+
+    private final ScopedValue.Carrier carrier;
+
+    RunAsScope(RunAsContext context) {
+        this.carrier = ScopedValue.where(CURRENT, context);
+    }
+
+    static RunAsContext current() {
+        return CURRENT.isBound() ? CURRENT.get() : null;
+    }
+
+    void run(Runnable action) {
+        carrier.run(action);
+    }
+
+    <R> R get(Supplier<? extends R> action) {
+        return carrier.call(action::get);
+    }
+
+    <R> R call(Callable<? extends R> action) throws Exception {
+        return carrier.call(action::call);
+    }
+}
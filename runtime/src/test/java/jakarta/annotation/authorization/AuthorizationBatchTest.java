@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+
+class AuthorizationBatchTest {
+
+    @RolesAllowed("user")
+    static class Service {
+
+        public void read() {
+        }
+
+        @RolesAllowed("admin")
+        public void write() {
+        }
+
+        @PermitAll
+        public void ping() {
+        }
+
+        @DenyAll
+        public void drop() {
+        }
+    }
+
+    static class Unsecured {
+    }
+
+    @RolesAllowed("admin")
+    static class Admin {
+    }
+
+    @Test
+    void computesPermittedMethods() throws Exception {
+        SecurityResolver resolver = new SecurityResolver(new RoleTable());
+        List<Method> methods = List.of(
+                Service.class.getMethod("read"),
+                Service.class.getMethod("write"),
+                Service.class.getMethod("ping"),
+                Service.class.getMethod("drop"),
+                Object.class.getMethod("toString"));
+        AuthorizationBatch batch = resolver.batch(Service.class, methods);
+        RoleTable table = resolver.table();
+        assertEquals(5, batch.size());
+        assertEquals(bits(0, 2, 4), batch.permitted(table.roles("user")));
+        assertEquals(bits(1, 2, 4), batch.permitted(table.roles("admin")));
+        assertEquals(bits(0, 1, 2, 4), batch.permitted(table.roles("admin", "user")));
+        assertEquals(bits(2, 4), batch.permitted(table.roles()));
+        for (int i = 0; i < methods.size(); i++) {
+            assertEquals(resolver.permits(Service.class, methods.get(i), table.roles("user")),
+                    batch.permitted(table.roles("user")).get(i));
+        }
+    }
+
+    @Test
+    void computesPermittedClasses() {
+        SecurityResolver resolver = new SecurityResolver(new RoleTable());
+        AuthorizationBatch batch = resolver.batch(List.of(Service.class, Unsecured.class, Admin.class));
+        assertEquals(bits(0, 1), batch.permitted(resolver.table().roles("user")));
+        assertEquals(bits(1, 2), batch.permitted(resolver.table().roles("admin")));
+    }
+
+    @Test
+    void spansSeveralWords() {
+        RoleTable table = new RoleTable();
+        for (int i = 0; i < 130; i++) {
+            table.intern("role" + i);
+        }
+        List<MethodConstraint> constraints = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            constraints.add(new MethodConstraint(Access.ROLES_ALLOWED, table.roles("role" + i)));
+        }
+        constraints.add(MethodConstraint.PERMIT_ALL);
+        AuthorizationBatch batch = AuthorizationBatch.of(constraints);
+        assertEquals(131, batch.size());
+        assertEquals(bits(3, 70, 129, 130), batch.permitted(table.roles("role3", "role70", "role129")));
+
+        long[] bitmap = {-1, -1, -1, -1};
+        batch.permitted(table.roles("role64"), bitmap);
+        assertArrayEquals(new long[] {0, 1, 1L << 2, -1}, bitmap);
+        assertThrows(IllegalArgumentException.class, () -> batch.permitted(table.roles(), new long[2]));
+    }
+
+    @Test
+    void rejectsRolesOfOtherTables() {
+        RoleTable table = new RoleTable();
+        table.intern("admin");
+        AuthorizationBatch batch = AuthorizationBatch.of(List.of(
+                new MethodConstraint(Access.ROLES_ALLOWED, table.roles("admin"))));
+        assertThrows(IllegalArgumentException.class, () -> batch.permitted(new RoleTable().roles()));
+        assertThrows(IllegalArgumentException.class, () -> AuthorizationBatch.of(List.of(
+                new MethodConstraint(Access.ROLES_ALLOWED, table.roles("admin")),
+                new MethodConstraint(Access.ROLES_ALLOWED, new RoleTable().roles()))));
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.RolesAllowed;
+
+// memoization is enabled for the tests of this module by the surefire configuration
+class AuthorizationMemoTest {
+
+    static class Service {
+
+        @RolesAllowed("user")
+        public void read() {
+        }
+
+        @RolesAllowed("user")
+        public void list() {
+        }
+
+        @RolesAllowed("admin")
+        public void write() {
+        }
+
+        @DenyAll
+        public void drop() {
+        }
+    }
+
+    private final SecurityResolver resolver = new SecurityResolver(new RoleTable().register(Service.class));
+
+    @AfterEach
+    void closed() {
+        assertNull(AuthorizationMemo.current());
+    }
+
+    private boolean permits(String name, RoleSet caller) throws NoSuchMethodException {
+        Method method = Service.class.getMethod(name);
+        return resolver.permits(Service.class, method, caller);
+    }
+
+    @Test
+    void memoizesDecisionsPerAllowedRoles() throws Exception {
+        assertTrue(AuthorizationMemo.isEnabled());
+        RoleSet user = resolver.table().roles("user");
+        try (AuthorizationMemo memo = AuthorizationMemo.open(user)) {
+            assertSame(memo, AuthorizationMemo.current());
+            assertSame(user, memo.caller());
+            assertTrue(permits("read", user));
+            assertTrue(permits("list", user));
+            assertFalse(permits("write", user));
+            assertFalse(permits("drop", user));
+            // read and list share their constraint, deny all is not memoized
+            assertEquals(2, memo.size());
+            assertTrue(permits("read", user));
+            assertEquals(2, memo.size());
+        }
+    }
+
+    @Test
+    void decidesOtherCallersDirectly() throws Exception {
+        RoleTable table = resolver.table();
+        try (AuthorizationMemo memo = AuthorizationMemo.open(table.roles("user"))) {
+            assertTrue(permits("write", table.roles("admin")));
+            assertFalse(permits("read", table.roles("admin")));
+            assertEquals(0, memo.size());
+            // an equal role set is the same caller
+            assertTrue(permits("read", table.roles("user")));
+            assertEquals(1, memo.size());
+        }
+    }
+
+    @Test
+    void nestsMemos() throws Exception {
+        RoleTable table = resolver.table();
+        try (AuthorizationMemo outer = AuthorizationMemo.open(table.roles("user"))) {
+            try (AuthorizationMemo inner = AuthorizationMemo.open(table.roles("admin"))) {
+                assertSame(inner, AuthorizationMemo.current());
+                assertFalse(permits("read", table.roles("admin")));
+                assertEquals(1, inner.size());
+                assertThrows(IllegalStateException.class, outer::close);
+            }
+            assertSame(outer, AuthorizationMemo.current());
+            assertEquals(0, outer.size());
+        }
+    }
+
+    @Test
+    void isConfinedToItsThread() throws Exception {
+        try (AuthorizationMemo memo = AuthorizationMemo.open(resolver.table().roles("user"))) {
+            assertNull(CompletableFuture.supplyAsync(AuthorizationMemo::current).get());
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> CompletableFuture.runAsync(memo::close).get());
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertSame(memo, AuthorizationMemo.current());
+        }
+    }
+}
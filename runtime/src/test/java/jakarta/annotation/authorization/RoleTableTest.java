@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.security.DeclareRoles;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.annotation.security.RunAs;
+
+class RoleTableTest {
+
+    @DeclareRoles({"admin", "user"})
+    @RunAs("system")
+    static class Base {
+    }
+
+    @RolesAllowed("auditor")
+    static class Component extends Base {
+
+        @RolesAllowed({"user", "operator"})
+        public void operate() {
+        }
+    }
+
+    @Test
+    void internsRolesInOrder() {
+        RoleTable table = new RoleTable();
+        assertEquals(0, table.intern("admin"));
+        assertEquals(1, table.intern("user"));
+        assertEquals(0, table.intern("admin"));
+        assertEquals(2, table.size());
+        assertEquals("user", table.role(1));
+        assertEquals(-1, table.indexOf("guest"));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.role(2));
+    }
+
+    @Test
+    void registersRolesOfComponentHierarchy() {
+        RoleTable table = new RoleTable().register(Component.class);
+        List<String> roles = new ArrayList<>();
+        for (int id = 0; id < table.size(); id++) {
+            roles.add(table.role(id));
+        }
+        assertEquals(Set.of("admin", "user", "system", "auditor", "operator"), Set.copyOf(roles));
+        assertEquals(5, roles.size());
+    }
+
+    @Test
+    void leavesOutUnknownCallerRoles() {
+        RoleTable table = new RoleTable();
+        table.intern("admin");
+        RoleSet caller = table.roles("admin", "guest", "anonymous");
+        assertEquals(Set.of("admin"), caller.names());
+        assertEquals(1, table.size());
+        assertEquals(-1, table.indexOf("guest"));
+        assertTrue(table.roles(List.of("guest")).isEmpty());
+    }
+
+    @Test
+    void growsBeyondOneWord() {
+        RoleTable table = new RoleTable();
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, table.intern("role" + i));
+        }
+        assertEquals(200, table.size());
+        assertEquals("role150", table.role(150));
+
+        RoleSet high = table.roles("role3", "role70", "role199");
+        assertEquals(3, high.size());
+        assertTrue(high.contains("role70"));
+        assertTrue(high.contains(199));
+        assertFalse(high.contains(64));
+        assertFalse(high.contains(-1));
+        assertEquals(List.of("role3", "role70", "role199"), List.copyOf(high.names()));
+    }
+
+    @Test
+    void readsRolesWhileGrowing() {
+        RoleTable table = new RoleTable();
+        table.intern("role0");
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            int size;
+            while ((size = table.size()) < 20_000) {
+                // the last role is readable as soon as it is counted
+                assertEquals("role" + (size - 1), table.role(size - 1));
+            }
+        });
+        for (int i = 1; i < 20_000; i++) {
+            table.intern("role" + i);
+        }
+        reader.join();
+    }
+
+    @Test
+    void comparesRoleSets() {
+        RoleTable table = new RoleTable();
+        for (int i = 0; i < 100; i++) {
+            table.intern("role" + i);
+        }
+        RoleSet allowed = table.roles("role1", "role90");
+        assertTrue(allowed.intersects(table.roles("role90")));
+        assertFalse(allowed.intersects(table.roles("role2", "role91")));
+        assertFalse(allowed.intersects(table.roles()));
+        assertTrue(allowed.containsAll(table.roles("role1")));
+        assertTrue(allowed.containsAll(table.roles()));
+        assertFalse(table.roles("role1").containsAll(allowed));
+        assertEquals(table.roles("role90", "role1"), allowed);
+        assertEquals(table.roles("role90", "role1").hashCode(), allowed.hashCode());
+        // trailing empty words are trimmed
+        assertEquals(table.roles("role1"), table.roles("role1", "unknown"));
+        assertNotEquals(new RoleTable().roles(), table.roles());
+    }
+
+    @Test
+    void rejectsSetsOfOtherTables() {
+        RoleTable table = new RoleTable();
+        table.intern("admin");
+        RoleTable other = new RoleTable();
+        other.intern("admin");
+        assertThrows(IllegalArgumentException.class, () -> table.roles("admin").intersects(other.roles("admin")));
+        assertThrows(IllegalArgumentException.class, () -> table.roles("admin").containsAll(other.roles()));
+    }
+}
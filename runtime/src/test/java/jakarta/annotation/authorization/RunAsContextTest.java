@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.security.RunAs;
+
+class RunAsContextTest {
+
+    @RunAs("system")
+    static class Base {
+    }
+
+    static class Component extends Base {
+    }
+
+    @RunAs("batch")
+    static class Job extends Component {
+    }
+
+    static class Plain {
+    }
+
+    private final SecurityResolver resolver = new SecurityResolver(new RoleTable());
+
+    @AfterEach
+    void unbound() {
+        assertNull(RunAsContext.current());
+    }
+
+    @Test
+    void resolvesNearestRunAsRole() {
+        RunAsContext component = resolver.runAs(Component.class);
+        assertNotNull(component);
+        assertSame(Component.class, component.component());
+        assertEquals("system", component.role());
+        assertEquals(Set.of("system"), component.roles().names());
+        assertSame(resolver.table(), component.roles().table());
+        assertSame(component, resolver.runAs(Component.class));
+
+        assertEquals("batch", resolver.runAs(Job.class).role());
+        assertNull(resolver.runAs(Plain.class));
+    }
+
+    @Test
+    void bindsAndRestoresContext() throws Exception {
+        RunAsContext system = resolver.runAs(Base.class);
+        RunAsContext batch = resolver.runAs(Job.class);
+        AtomicReference<RunAsContext> inner = new AtomicReference<>();
+        system.run(() -> {
+            assertSame(system, RunAsContext.current());
+            batch.run(() -> inner.set(RunAsContext.current()));
+            assertSame(system, RunAsContext.current());
+        });
+        assertSame(batch, inner.get());
+        assertNull(RunAsContext.current());
+
+        assertSame(system, system.get(RunAsContext::current));
+        assertSame(batch, batch.call(RunAsContext::current));
+    }
+
+    @Test
+    void restoresContextOnExceptions() {
+        RunAsContext system = resolver.runAs(Base.class);
+        assertThrows(IllegalStateException.class, () -> system.run(() -> {
+            throw new IllegalStateException();
+        }));
+        assertThrows(IOException.class, () -> system.call(() -> {
+            throw new IOException();
+        }));
+        assertNull(RunAsContext.current());
+    }
+
+    @Test
+    void doesNotLetThreadsInheritContext() throws Exception {
+        AtomicReference<RunAsContext> seen = new AtomicReference<>(resolver.runAs(Base.class));
+        Thread[] thread = new Thread[1];
+        resolver.runAs(Base.class).run(() -> {
+            thread[0] = new Thread(() -> seen.set(RunAsContext.current()));
+            thread[0].start();
+        });
+        thread[0].join();
+        assertNull(seen.get());
+    }
+
+    @Test
+    void propagatesContextToOtherThreads() throws Exception {
+        RunAsContext system = resolver.runAs(Base.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<RunAsContext> seen = new AtomicReference<>();
+            Runnable task = system.get(() -> RunAsContext.propagate(() -> seen.set(RunAsContext.current())));
+            executor.submit(task).get();
+            assertSame(system, seen.get());
+            assertSame(system, executor.submit(
+                    system.get(() -> RunAsContext.propagate(RunAsContext::current))).get());
+            // the worker is left without a context afterwards
+            assertNull(executor.submit(RunAsContext::current).get());
+
+            // a task wrapped without a context runs without one
+            executor.submit(() -> system.run(() -> { })).get();
+            assertNull(executor.submit(RunAsContext.propagate(RunAsContext::current)).get());
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
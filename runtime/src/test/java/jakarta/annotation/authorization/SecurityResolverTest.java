@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+
+class SecurityResolverTest {
+
+    interface Api {
+
+        @RolesAllowed("ignored")
+        void call();
+    }
+
+    static class Base {
+
+        public void inherited() {
+        }
+
+        @PermitAll
+        public void overridden() {
+        }
+    }
+
+    @RolesAllowed("user")
+    static class Service extends Base implements Api {
+
+        @Override
+        public void call() {
+        }
+
+        public void read() {
+        }
+
+        @RolesAllowed({"admin", "auditor"})
+        public void audit() {
+        }
+
+        @Override
+        @DenyAll
+        public void overridden() {
+        }
+
+        @DenyAll
+        @PermitAll
+        @RolesAllowed("admin")
+        public void conflicting() {
+        }
+
+        @RolesAllowed({"auditor", "admin"})
+        public void report() {
+        }
+    }
+
+    static class Unsecured {
+
+        public void run() {
+        }
+    }
+
+    private final SecurityResolver resolver = new SecurityResolver(new RoleTable());
+
+    private MethodConstraint constraint(Class<?> type, String name) throws NoSuchMethodException {
+        return resolver.constraint(type, type.getMethod(name));
+    }
+
+    @Test
+    void appliesMethodAnnotationBeforeClassAnnotation() throws Exception {
+        MethodConstraint read = constraint(Service.class, "read");
+        assertEquals(Access.ROLES_ALLOWED, read.access());
+        assertEquals(Set.of("user"), read.roles().names());
+
+        MethodConstraint audit = constraint(Service.class, "audit");
+        assertEquals(Access.ROLES_ALLOWED, audit.access());
+        assertEquals(Set.of("admin", "auditor"), audit.roles().names());
+
+        // the annotation of the implementing class applies, not the one of the interface
+        Method call = Api.class.getMethod("call");
+        assertEquals(Set.of("user"), resolver.constraint(Service.class, call).roles().names());
+        assertEquals(-1, resolver.table().indexOf("ignored"));
+    }
+
+    @Test
+    void appliesClassAnnotationOnlyToDeclaredMethods() throws Exception {
+        assertSame(MethodConstraint.UNCHECKED, constraint(Service.class, "inherited"));
+        assertSame(MethodConstraint.DENY_ALL, constraint(Service.class, "overridden"));
+        // resolution goes through the implementation, whichever declaration is passed
+        Method overridden = Base.class.getMethod("overridden");
+        assertSame(MethodConstraint.DENY_ALL, resolver.constraint(Service.class, overridden));
+        assertSame(MethodConstraint.PERMIT_ALL, resolver.constraint(Base.class, overridden));
+        assertSame(MethodConstraint.UNCHECKED, constraint(Unsecured.class, "run"));
+    }
+
+    @Test
+    void prefersDenyAllOnConflicts() throws Exception {
+        assertSame(MethodConstraint.DENY_ALL, constraint(Service.class, "conflicting"));
+    }
+
+    @Test
+    void sharesConstraintsOfEqualRoles() throws Exception {
+        assertSame(constraint(Service.class, "audit"), constraint(Service.class, "report"));
+        assertSame(constraint(Service.class, "read"), resolver.constraint(Service.class));
+        assertSame(MethodConstraint.UNCHECKED, resolver.constraint(Unsecured.class));
+    }
+
+    @Test
+    void decidesPermissions() throws Exception {
+        resolver.table().register(Service.class);
+        RoleTable table = resolver.table();
+        Method audit = Service.class.getMethod("audit");
+        assertTrue(resolver.permits(Service.class, audit, table.roles("auditor")));
+        assertFalse(resolver.permits(Service.class, audit, table.roles("user")));
+        assertFalse(resolver.permits(Service.class, audit, table.roles()));
+        assertFalse(resolver.permits(Service.class, Service.class.getMethod("overridden"), table.roles("admin")));
+        assertTrue(resolver.permits(Base.class, Base.class.getMethod("overridden"), table.roles()));
+        assertTrue(resolver.permits(Service.class, Service.class.getMethod("inherited"), table.roles()));
+    }
+
+    @Test
+    void rejectsMethodsOfOtherClasses() {
+        assertThrows(IllegalArgumentException.class,
+                () -> resolver.constraint(Service.class, Unsecured.class.getMethod("run")));
+        assertThrows(IllegalArgumentException.class,
+                () -> resolver.constraint(Base.class, Service.class.getMethod("read")));
+    }
+
+    @Test
+    void validatesConstraints() {
+        RoleSet roles = new RoleTable().roles();
+        assertThrows(IllegalArgumentException.class, () -> new MethodConstraint(Access.ROLES_ALLOWED, null));
+        assertThrows(IllegalArgumentException.class, () -> new MethodConstraint(Access.PERMIT_ALL, roles));
+        assertTrue(MethodConstraint.UNCHECKED.permits(roles));
+        assertFalse(MethodConstraint.DENY_ALL.permits(roles));
+        assertNull(MethodConstraint.PERMIT_ALL.roles());
+    }
+}
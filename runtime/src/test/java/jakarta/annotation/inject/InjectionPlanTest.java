@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.Resource;
+
+class InjectionPlanTest {
+
+    static class Base {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Resource(name = "jdbc/base")
+        private Object base;
+
+        @Resource
+        void setQueue(CharSequence queue) {
+            calls.add("Base.setQueue " + queue);
+        }
+    }
+
+    static class Bean extends Base {
+
+        static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+        @Resource
+        private String name;
+
+        @Resource(type = Integer.class)
+        private int timeout = -1;
+
+        @Resource
+        private Runnable missing;
+
+        @Override
+        @Resource(name = "jms/queue", type = String.class)
+        void setQueue(CharSequence queue) {
+            calls.add("Bean.setQueue " + queue);
+        }
+    }
+
+    static class FinalField {
+
+        @Resource
+        private final Object value = null;
+    }
+
+    static class NotSetter {
+
+        @Resource
+        Object getValue() {
+            return null;
+        }
+    }
+
+    static class WrongType {
+
+        @Resource(type = Integer.class)
+        private String value;
+    }
+
+    static class ThrowingSetter {
+
+        @Resource
+        void setValue(String value) throws IOException {
+            throw new IOException(value);
+        }
+    }
+
+    private static final Map<String, Object> RESOURCES = Map.of(
+            "jdbc/base", "base",
+            "name", "bean",
+            "timeout", 30,
+            "jms/queue", "orders");
+
+    private static final ResourceResolver RESOLVER = point -> RESOURCES.get(point.name());
+
+    @Test
+    void resolvesInjectionPoints() {
+        InjectionPlan plan = InjectionPlan.of(Bean.class);
+        assertFalse(plan.isEmpty());
+        List<InjectionPoint> points = plan.injectionPoints();
+        // superclass first, and the overridden setter only once
+        assertEquals(List.of("jdbc/base", "name", "timeout", "missing", "jms/queue"),
+                points.stream().map(InjectionPoint::name).toList());
+        assertEquals(List.of(Object.class, String.class, Integer.class, Runnable.class, String.class),
+                points.stream().map(InjectionPoint::type).toList());
+        assertTrue(points.get(0).isField());
+        assertFalse(points.get(4).isField());
+        assertSame(plan, InjectionPlan.of(Bean.class));
+    }
+
+    @Test
+    void injectsFieldsAndSetters() {
+        Bean bean = new Bean();
+        InjectionPlan.of(Bean.class).inject(bean, RESOLVER);
+        assertEquals("base", ((Base) bean).base);
+        assertEquals("bean", bean.name);
+        assertEquals(30, bean.timeout);
+        assertNull(bean.missing);
+        assertEquals(List.of("Bean.setQueue orders"), bean.calls);
+    }
+
+    @Test
+    void injectsWithComponentLookup() {
+        InjectionPlan plan = InjectionPlan.of(Bean.LOOKUP);
+        assertSame(InjectionPlan.of(Bean.class), plan);
+        Bean bean = new Bean();
+        plan.inject(bean, RESOLVER);
+        assertEquals("bean", bean.name);
+
+        // a lookup without full privilege access is not used to define injectors
+        InjectionPlan other = InjectionPlan.of(Bean.LOOKUP.dropLookupMode(MethodHandles.Lookup.PRIVATE));
+        assertSame(plan, other);
+    }
+
+    @Test
+    void leavesUnresolvedPointsUntouched() {
+        Bean bean = new Bean();
+        InjectionPlan.of(Bean.class).inject(bean, point -> null);
+        assertNull(bean.name);
+        assertEquals(-1, bean.timeout);
+        assertEquals(List.of(), bean.calls);
+    }
+
+    @Test
+    void hasNothingToInjectWithoutAnnotations() {
+        InjectionPlan plan = InjectionPlan.of(Object.class);
+        assertTrue(plan.isEmpty());
+        plan.inject(new Object(), point -> {
+            throw new AssertionError(point);
+        });
+    }
+
+    @Test
+    void rejectsInvalidInjectionPoints() {
+        assertThrows(IllegalArgumentException.class, () -> InjectionPlan.of(FinalField.class));
+        assertThrows(IllegalArgumentException.class, () -> InjectionPlan.of(NotSetter.class));
+        assertThrows(IllegalArgumentException.class, () -> InjectionPlan.of(WrongType.class));
+    }
+
+    @Test
+    void wrapsCheckedSetterExceptions() {
+        UndeclaredThrowableException e = assertThrows(UndeclaredThrowableException.class,
+                () -> InjectionPlan.of(ThrowingSetter.class).inject(new ThrowingSetter(), point -> "value"));
+        assertInstanceOf(IOException.class, e.getUndeclaredThrowable());
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.Resource;
+
+class ResourceCacheTest {
+
+    static class Bean {
+
+        @Resource(name = "jdbc/orders")
+        Object env;
+
+        @Resource(lookup = "java:comp/env/jdbc/orders")
+        Object comp;
+
+        @Resource(lookup = "java:module/queue")
+        Object module;
+
+        @Resource(lookup = "java:app/mail")
+        Object app;
+
+        @Resource(lookup = "java:global/jdbc/shared")
+        Object global;
+    }
+
+    private final List<ResourceKey> lookups = new ArrayList<>();
+
+    private final ResourceCache cache = new ResourceCache(key -> {
+        lookups.add(key);
+        return new Object();
+    }, 16);
+
+    private Bean inject(NamingContext context) {
+        Bean bean = new Bean();
+        InjectionPlan.of(Bean.class).inject(bean, cache.resolver(context));
+        return bean;
+    }
+
+    @Test
+    void scopesSharedInstancesByNamespace() {
+        NamingContext orders = new NamingContext("shop", "orders.jar", "OrderBean");
+        Bean first = inject(orders);
+        Bean again = inject(orders);
+        assertSame(first.env, again.env);
+        assertSame(first.comp, again.comp);
+        assertEquals(5, lookups.size());
+
+        // another component of the module has its own java:comp
+        Bean other = inject(new NamingContext("shop", "orders.jar", "InvoiceBean"));
+        assertNotSame(first.env, other.env);
+        assertNotSame(first.comp, other.comp);
+        assertSame(first.module, other.module);
+        assertSame(first.app, other.app);
+        assertSame(first.global, other.global);
+
+        // a component of the same name in another module
+        Bean otherModule = inject(new NamingContext("shop", "billing.jar", "OrderBean"));
+        assertNotSame(first.comp, otherModule.comp);
+        assertNotSame(first.module, otherModule.module);
+        assertSame(first.app, otherModule.app);
+
+        Bean otherApplication = inject(new NamingContext("crm", "orders.jar", "OrderBean"));
+        assertNotSame(first.module, otherApplication.module);
+        assertNotSame(first.app, otherApplication.app);
+        assertSame(first.global, otherApplication.global);
+        assertEquals(5 + 2 + 3 + 4, lookups.size());
+    }
+
+    @Test
+    void narrowsKeysToTheNamespaceOfTheirName() {
+        NamingContext context = new NamingContext("shop", "orders.jar", "OrderBean");
+        assertSame(context, new ResourceKey("jdbc/orders", Object.class, Resource.AuthenticationType.CONTAINER,
+                context).context());
+        assertSame(context, context.scope("java:comp/env/jdbc/orders"));
+        assertEquals(new NamingContext("shop", "orders.jar", null), context.scope("java:module/queue"));
+        assertEquals(new NamingContext("shop", null, null), context.scope("java:app/mail"));
+        assertNull(context.scope("java:global/jdbc/shared"));
+        assertNull(new ResourceKey("java:global/jdbc/shared", Object.class, Resource.AuthenticationType.CONTAINER,
+                null).context());
+        assertEquals(new ResourceKey("java:app/mail", Object.class, Resource.AuthenticationType.CONTAINER,
+                context), new ResourceKey("java:app/mail", Object.class, Resource.AuthenticationType.CONTAINER,
+                new NamingContext("shop", "billing.jar", "InvoiceBean")));
+
+        NamingContext application = new NamingContext("shop", null, null);
+        assertThrows(IllegalArgumentException.class, () -> application.scope("jdbc/orders"));
+        assertThrows(IllegalArgumentException.class, () -> application.scope("java:module/queue"));
+        assertThrows(NullPointerException.class, () -> new NamingContext("shop", null, "OrderBean"));
+        assertThrows(NullPointerException.class, () -> new ResourceKey("jdbc/orders", Object.class,
+                Resource.AuthenticationType.CONTAINER, null));
+    }
+
+    private static ResourceKey key(String name) {
+        return new ResourceKey(name, Object.class, Resource.AuthenticationType.CONTAINER, null);
+    }
+
+    @Test
+    void sharesShareableInstances() {
+        ResourceKey orders = key("java:global/jdbc/orders");
+        Object first = cache.get(orders, true, "OrderBean");
+        assertSame(first, cache.get(orders, true, "InvoiceBean"));
+        assertSame(first, cache.get(orders, true, null));
+        assertNotSame(first, cache.get(key("java:global/jdbc/audit"), true, "OrderBean"));
+        assertEquals(2, lookups.size());
+    }
+
+    @Test
+    void sharesTheFirstCachedInstanceOfConcurrentLookups() {
+        ResourceKey orders = key("java:global/jdbc/orders");
+        List<Object> instances = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get(orders, true, "OrderBean")))
+                .toList().stream()
+                .map(CompletableFuture::join)
+                .toList();
+        for (Object instance : instances) {
+            assertSame(cache.get(orders, true, "OrderBean"), instance);
+        }
+    }
+
+    @Test
+    void keepsUnshareableInstancesPerComponent() {
+        ResourceKey orders = key("java:global/jdbc/orders");
+        Object first = cache.get(orders, false, "OrderBean");
+        assertSame(first, cache.get(orders, false, "OrderBean"));
+        Object other = cache.get(orders, false, "InvoiceBean");
+        assertNotSame(first, other);
+        assertNotSame(first, cache.get(orders, true, "OrderBean"));
+        assertEquals(3, lookups.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUnshareableInstances() {
+        ResourceCache bounded = new ResourceCache(key -> {
+            lookups.add(key);
+            return new Object();
+        }, 2);
+        ResourceKey orders = key("java:global/jdbc/orders");
+        Object a = bounded.get(orders, false, "a");
+        Object b = bounded.get(orders, false, "b");
+        // a becomes the most recently used, so c evicts b
+        assertSame(a, bounded.get(orders, false, "a"));
+        Object c = bounded.get(orders, false, "c");
+        assertEquals(3, lookups.size());
+        assertSame(a, bounded.get(orders, false, "a"));
+        assertSame(c, bounded.get(orders, false, "c"));
+        assertEquals(3, lookups.size());
+
+        // b is looked up again, evicting a
+        Object again = bounded.get(orders, false, "b");
+        assertNotSame(b, again);
+        assertEquals(4, lookups.size());
+        assertSame(again, bounded.get(orders, false, "b"));
+        assertNotSame(a, bounded.get(orders, false, "a"));
+        assertEquals(5, lookups.size());
+
+        // shareable instances are not bounded
+        ResourceKey shared = key("java:global/jdbc/shared");
+        Object instance = bounded.get(shared, true, null);
+        for (int i = 0; i < 4; i++) {
+            bounded.get(key("java:global/jdbc/other" + i), true, null);
+        }
+        assertSame(instance, bounded.get(shared, true, null));
+    }
+
+    @Test
+    void keepsNoUnshareableInstancesWithoutCapacity() {
+        ResourceCache uncached = new ResourceCache(key -> {
+            lookups.add(key);
+            return new Object();
+        }, 0);
+        ResourceKey orders = key("java:global/jdbc/orders");
+        assertNotSame(uncached.get(orders, false, "a"), uncached.get(orders, false, "a"));
+        assertEquals(2, lookups.size());
+        assertThrows(IllegalArgumentException.class, () -> new ResourceCache(key -> null, -1));
+    }
+
+    @Test
+    void cachesNoMissingResources() {
+        ResourceCache missing = new ResourceCache(key -> {
+            lookups.add(key);
+            return null;
+        }, 16);
+        ResourceKey orders = key("java:global/jdbc/orders");
+        assertNull(missing.get(orders, true, null));
+        assertNull(missing.get(orders, false, "a"));
+        assertNull(missing.get(orders, true, null));
+        assertEquals(3, lookups.size());
+    }
+
+    @Test
+    void releasesInvalidatesAndClearsInstances() {
+        ResourceKey orders = key("java:global/jdbc/orders");
+        ResourceKey audit = key("java:global/jdbc/audit");
+        Object a = cache.get(orders, false, "a");
+        Object b = cache.get(orders, false, "b");
+        Object shared = cache.get(orders, true, null);
+        Object auditA = cache.get(audit, false, "a");
+
+        cache.release("a");
+        assertNotSame(a, cache.get(orders, false, "a"));
+        assertNotSame(auditA, cache.get(audit, false, "a"));
+        assertSame(b, cache.get(orders, false, "b"));
+        assertSame(shared, cache.get(orders, true, null));
+
+        Object auditB = cache.get(audit, false, "b");
+        cache.invalidate(orders);
+        assertNotSame(shared, cache.get(orders, true, null));
+        assertNotSame(b, cache.get(orders, false, "b"));
+        assertSame(auditB, cache.get(audit, false, "b"));
+
+        Object current = cache.get(orders, true, null);
+        cache.clear();
+        assertNotSame(current, cache.get(orders, true, null));
+        assertNotSame(auditB, cache.get(audit, false, "b"));
+        assertNotNull(cache.get(audit, false, "b"));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+class LifecycleInvokerTest {
+
+    static class Base {
+
+        final List<String> calls = new ArrayList<>();
+
+        @PostConstruct
+        private void init() {
+            calls.add("Base.init");
+        }
+
+        @PreDestroy
+        void close() {
+            calls.add("Base.close");
+        }
+    }
+
+    static class Child extends Base {
+
+        @PostConstruct
+        void start() {
+            calls.add("Child.start");
+        }
+
+        // overriding without the annotation removes the callback
+        @Override
+        void close() {
+            calls.add("Child.close");
+        }
+    }
+
+    static class Failing {
+
+        final List<String> calls = new ArrayList<>();
+
+        @PostConstruct
+        void init() throws IOException {
+            throw new IOException("init");
+        }
+
+        @PreDestroy
+        void destroy() {
+            calls.add("Failing.destroy");
+            throw new IllegalStateException("destroy");
+        }
+    }
+
+    static class FailingChild extends Failing {
+
+        @PreDestroy
+        void release() {
+            calls.add("FailingChild.release");
+        }
+    }
+
+    static class Unchecked {
+
+        @PostConstruct
+        void init() {
+            throw new IllegalStateException("init");
+        }
+    }
+
+    static class WithParameter {
+
+        @PostConstruct
+        void init(Object context) {
+        }
+    }
+
+    @Test
+    void invokesCallbacksOfMostGeneralClassFirst() {
+        Child child = new Child();
+        LifecycleInvoker invoker = LifecycleInvoker.of(Child.class);
+        assertTrue(invoker.hasPostConstruct());
+        invoker.postConstruct(child);
+        assertEquals(List.of("Base.init", "Child.start"), child.calls);
+        assertEquals(List.of("init", "start"), invoker.postConstructMethods().stream().map(Method::getName).toList());
+    }
+
+    @Test
+    void skipsOverriddenCallbacks() {
+        Child child = new Child();
+        LifecycleInvoker invoker = LifecycleInvoker.of(Child.class);
+        assertFalse(invoker.hasPreDestroy());
+        assertEquals(List.of(), invoker.preDestroyMethods());
+        invoker.preDestroy(child);
+        assertEquals(List.of(), child.calls);
+
+        Base base = new Base();
+        LifecycleInvoker.of(Base.class).preDestroy(base);
+        assertEquals(List.of("Base.close"), base.calls);
+    }
+
+    @Test
+    void cachesInvokerPerClass() {
+        assertSame(LifecycleInvoker.of(Child.class), LifecycleInvoker.of(Child.class));
+    }
+
+    @Test
+    void invokesNothingWithoutCallbacks() {
+        LifecycleInvoker invoker = LifecycleInvoker.of(Object.class);
+        assertFalse(invoker.hasPostConstruct());
+        assertFalse(invoker.hasPreDestroy());
+        invoker.postConstruct(new Object());
+        invoker.preDestroy(new Object());
+    }
+
+    @Test
+    void rethrowsPostConstructExceptions() {
+        UndeclaredThrowableException e = assertThrows(UndeclaredThrowableException.class,
+                () -> LifecycleInvoker.of(Failing.class).postConstruct(new Failing()));
+        assertInstanceOf(IOException.class, e.getUndeclaredThrowable());
+        assertThrows(IllegalStateException.class, () -> LifecycleInvoker.of(Unchecked.class).postConstruct(
+                new Unchecked()));
+    }
+
+    @Test
+    void ignoresUncheckedPreDestroyExceptions() {
+        FailingChild instance = new FailingChild();
+        LifecycleInvoker.of(FailingChild.class).preDestroy(instance);
+        assertEquals(List.of("Failing.destroy", "FailingChild.release"), instance.calls);
+    }
+
+    @Test
+    void rejectsCallbacksWithParameters() {
+        assertThrows(IllegalArgumentException.class, () -> LifecycleInvoker.of(WithParameter.class));
+    }
+}
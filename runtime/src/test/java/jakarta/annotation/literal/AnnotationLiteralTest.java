@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.literal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.annotation.Resource;
+import jakarta.annotation.Resources;
+import jakarta.annotation.security.DeclareRoles;
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.annotation.security.RunAs;
+import jakarta.annotation.sql.DataSourceDefinition;
+import jakarta.annotation.sql.DataSourceDefinitions;
+
+class AnnotationLiteralTest {
+
+    // java.sql.Connection.TRANSACTION_SERIALIZABLE, this module does not read java.sql
+    private static final int SERIALIZABLE = 8;
+
+    @Resource(name = "jdbc/orders", lookup = "java:global/jdbc/Orders", type = String.class,
+            authenticationType = Resource.AuthenticationType.APPLICATION, shareable = false,
+            mappedName = "orders", description = "The \"orders\" database")
+    @Resources({@Resource(name = "first"), @Resource(name = "second", type = Integer.class)})
+    @RolesAllowed({"admin", "user"})
+    @DeclareRoles("auditor")
+    @RunAs("system")
+    @Priority(-5)
+    @DataSourceDefinition(name = "java:app/orders", className = "org.example.Driver", url = "jdbc:example:orders",
+            isolationLevel = SERIALIZABLE, maxPoolSize = 10,
+            properties = {"cache=true", "ssl=false"})
+    @DataSourceDefinitions(@DataSourceDefinition(name = "java:app/other", className = "org.example.Driver"))
+    static class Annotated {
+
+        @Nonnull
+        @Nullable
+        @PermitAll
+        @DenyAll
+        @PostConstruct
+        @PreDestroy
+        void markers() {
+        }
+    }
+
+    private static <A extends Annotation> A reflected(Class<A> type) {
+        A annotation = Annotated.class.getAnnotation(type);
+        if (annotation == null) {
+            try {
+                annotation = Annotated.class.getDeclaredMethod("markers").getAnnotation(type);
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            }
+        }
+        return annotation;
+    }
+
+    private static void assertEquivalent(Annotation literal, Annotation reflected) {
+        assertEqual(literal, reflected);
+        assertEquals(members(reflected), members(literal));
+    }
+
+    private static void assertEqual(Annotation literal, Annotation reflected) {
+        assertEquals(reflected.annotationType(), literal.annotationType());
+        assertEquals(reflected, literal);
+        assertEquals(literal, reflected);
+        assertEquals(reflected.hashCode(), literal.hashCode());
+    }
+
+    /**
+     * Returns the members in the string representation of an annotation
+     * without nested annotations, which the reflection API lists in no
+     * particular order.
+     */
+    private static Set<String> members(Annotation annotation) {
+        String s = annotation.toString();
+        String prefix = "@" + annotation.annotationType().getName() + "(";
+        assertTrue(s.startsWith(prefix) && s.endsWith(")"), s);
+        return Set.of(s.substring(prefix.length(), s.length() - 1).split(", (?=\\w+=)"));
+    }
+
+    private static void assertDifferent(Annotation literal, Annotation reflected) {
+        assertNotEquals(reflected, literal);
+        assertNotEquals(literal, reflected);
+    }
+
+    @Test
+    void equalsMarkerAnnotations() {
+        assertEquivalent(NonnullLiteral.INSTANCE, reflected(Nonnull.class));
+        assertEquivalent(NullableLiteral.INSTANCE, reflected(Nullable.class));
+        assertEquivalent(PermitAllLiteral.INSTANCE, reflected(PermitAll.class));
+        assertEquivalent(DenyAllLiteral.INSTANCE, reflected(DenyAll.class));
+        assertEquivalent(PostConstructLiteral.INSTANCE, reflected(PostConstruct.class));
+        assertEquivalent(PreDestroyLiteral.INSTANCE, reflected(PreDestroy.class));
+        assertDifferent(PermitAllLiteral.INSTANCE, reflected(DenyAll.class));
+    }
+
+    @Test
+    void equalsSingleMemberAnnotations() {
+        assertEquivalent(PriorityLiteral.of(-5), reflected(Priority.class));
+        assertEquivalent(RunAsLiteral.of("system"), reflected(RunAs.class));
+        assertEquivalent(RolesAllowedLiteral.of("admin", "user"), reflected(RolesAllowed.class));
+        assertEquivalent(DeclareRolesLiteral.of("auditor"), reflected(DeclareRoles.class));
+        assertDifferent(PriorityLiteral.of(5), reflected(Priority.class));
+        assertDifferent(RolesAllowedLiteral.of("user", "admin"), reflected(RolesAllowed.class));
+    }
+
+    @Test
+    void equalsResourceAnnotations() {
+        ResourceLiteral resource = ResourceLiteral.builder()
+                .name("jdbc/orders")
+                .lookup("java:global/jdbc/Orders")
+                .type(String.class)
+                .authenticationType(Resource.AuthenticationType.APPLICATION)
+                .shareable(false)
+                .mappedName("orders")
+                .description("The \"orders\" database")
+                .build();
+        assertEquivalent(resource, reflected(Resource.class));
+        assertDifferent(ResourceLiteral.builder().name("jdbc/orders").build(), reflected(Resource.class));
+
+        ResourcesLiteral resources = ResourcesLiteral.of(ResourceLiteral.builder().name("first").build(),
+                ResourceLiteral.builder().name("second").type(Integer.class).build());
+        assertEqual(resources, reflected(Resources.class));
+        for (int i = 0; i < 2; i++) {
+            assertEquivalent(resources.value()[i], reflected(Resources.class).value()[i]);
+        }
+    }
+
+    @Test
+    void equalsDataSourceDefinitions() {
+        DataSourceDefinitionLiteral definition = DataSourceDefinitionLiteral
+                .builder("java:app/orders", "org.example.Driver")
+                .url("jdbc:example:orders")
+                .isolationLevel(SERIALIZABLE)
+                .maxPoolSize(10)
+                .properties("cache=true", "ssl=false")
+                .build();
+        assertEquivalent(definition, reflected(DataSourceDefinition.class));
+        assertDifferent(DataSourceDefinitionLiteral.builder("java:app/orders", "org.example.Driver").build(),
+                reflected(DataSourceDefinition.class));
+        DataSourceDefinitionsLiteral definitions = DataSourceDefinitionsLiteral.of(
+                DataSourceDefinitionLiteral.builder("java:app/other", "org.example.Driver").build());
+        assertEqual(definitions, reflected(DataSourceDefinitions.class));
+        assertEquivalent(definitions.value()[0], reflected(DataSourceDefinitions.class).value()[0]);
+    }
+
+    @Test
+    void copiesArrayMembers() {
+        String[] roles = {"admin", "user"};
+        RolesAllowedLiteral literal = RolesAllowedLiteral.of(roles);
+        roles[0] = "guest";
+        literal.value()[1] = "guest";
+        assertEquivalent(literal, reflected(RolesAllowed.class));
+        assertThrows(NullPointerException.class, () -> RolesAllowedLiteral.of("admin", null));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.priority;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.Priority;
+
+class PriorityRegistryTest {
+
+    @Priority(10)
+    static class Early {
+    }
+
+    @Priority(2000)
+    static class Late {
+    }
+
+    static class Unannotated {
+    }
+
+    private record Element(int thread, int index, int priority) {
+    }
+
+    @Test
+    void ordersByPriorityOfClass() {
+        PriorityRegistry<Object> registry = new PriorityRegistry<>(1000);
+        Late late = new Late();
+        Unannotated unannotated = new Unannotated();
+        Early early = new Early();
+        registry.register(late);
+        registry.register(unannotated);
+        registry.register(early);
+        assertEquals(List.of(early, unannotated, late), registry.snapshot());
+        assertEquals(10, PriorityRegistry.priorityOf(Early.class, 1000));
+        assertEquals(1000, PriorityRegistry.priorityOf(Unannotated.class, 1000));
+    }
+
+    @Test
+    void keepsRegistrationOrderOfEqualPriorities() {
+        PriorityRegistry<String> registry = new PriorityRegistry<>(0);
+        registry.register("b1", 2);
+        registry.register("a1", 1);
+        registry.register("b2", 2);
+        registry.register("c1", 3);
+        registry.register("a2", 1);
+        registry.register("b3", 2);
+        assertEquals(List.of("a1", "a2", "b1", "b2", "b3", "c1"), registry.snapshot());
+    }
+
+    @Test
+    void keepsSnapshotsUnchanged() {
+        PriorityRegistry<String> registry = new PriorityRegistry<>(0);
+        String first = "first";
+        registry.register(first, 1);
+        List<String> snapshot = registry.snapshot();
+        registry.register("second", 0);
+        assertTrue(registry.unregister(first));
+        assertFalse(registry.unregister(first));
+        assertEquals(List.of("first"), snapshot);
+        assertEquals(List.of("second"), registry.snapshot());
+        assertEquals(1, registry.size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("third"));
+        assertThrows(NullPointerException.class, () -> registry.register(null, 0));
+    }
+
+    @Test
+    void ordersConcurrentRegistrationsStably() {
+        PriorityRegistry<Element> registry = new PriorityRegistry<>(0);
+        int threads = 8;
+        int perThread = 2_000;
+        CompletableFuture<?>[] writers = IntStream.range(0, threads)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        int priority = i % 5;
+                        registry.register(new Element(t, i, priority), priority);
+                    }
+                }))
+                .toArray(CompletableFuture<?>[]::new);
+        // readers always see a sorted array
+        while (!CompletableFuture.allOf(writers).isDone()) {
+            assertSorted(registry.snapshot());
+        }
+        CompletableFuture.allOf(writers).join();
+
+        List<Element> elements = registry.snapshot();
+        assertEquals(threads * perThread, elements.size());
+        assertSorted(elements);
+    }
+
+    /**
+     * Asserts that the elements are in priority order and that the
+     * elements of one thread with the same priority are in the order the
+     * thread registered them.
+     */
+    private static void assertSorted(List<Element> elements) {
+        List<int[]> last = new ArrayList<>();
+        int previous = Integer.MIN_VALUE;
+        for (Element element : elements) {
+            assertTrue(element.priority() >= previous, elements::toString);
+            if (element.priority() > previous) {
+                last.clear();
+                previous = element.priority();
+            }
+            while (last.size() <= element.thread()) {
+                last.add(new int[] {-1});
+            }
+            int[] index = last.get(element.thread());
+            assertTrue(element.index() > index[0], element::toString);
+            index[0] = element.index();
+        }
+    }
+}
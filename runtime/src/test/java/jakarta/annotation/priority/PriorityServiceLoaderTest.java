@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.priority;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.annotation.Priority;
+
+class PriorityServiceLoaderTest {
+
+    public interface Service {
+    }
+
+    /**
+     * The names of the providers instantiated so far. The providers are
+     * defined by another class loader, so that they can only access the
+     * public classes of this test.
+     */
+    public static final class Instantiations {
+
+        public static final List<String> NAMES = new CopyOnWriteArrayList<>();
+
+        private Instantiations() {
+        }
+
+        /**
+         * Returns the simple name of a member class, without the reflective
+         * access to its enclosing class that {@link Class#getSimpleName()}
+         * needs.
+         */
+        public static String simpleName(Class<?> type) {
+            return type.getName().substring(type.getName().lastIndexOf('$') + 1);
+        }
+    }
+
+    public static class Unprioritized implements Service {
+
+        public Unprioritized() {
+            Instantiations.NAMES.add(Instantiations.simpleName(getClass()));
+        }
+    }
+
+    @Priority(200)
+    public static final class Late extends Unprioritized {
+    }
+
+    @Priority(100)
+    public static final class Early extends Unprioritized {
+    }
+
+    @Priority(200)
+    public static final class AlsoLate extends Unprioritized {
+    }
+
+    private static final List<Class<?>> PROVIDERS = List.of(Unprioritized.class, Late.class, Early.class,
+            AlsoLate.class);
+
+    @TempDir
+    Path directory;
+
+    private ClassLoader classLoader;
+
+    @BeforeEach
+    void defineProviders() throws IOException {
+        Instantiations.NAMES.clear();
+        classLoader = providers(PROVIDERS);
+    }
+
+    /**
+     * Returns a class loader defining the providers in its unnamed module,
+     * as the service loader ignores the configuration files of classes in
+     * named modules, and listing them in a provider-configuration file.
+     */
+    private ClassLoader providers(List<Class<?>> providers) throws IOException {
+        Path services = directory.resolve(Service.class.getName() + providers.size());
+        Files.write(services, providers.stream().map(Class::getName).toList());
+        URL configuration = services.toUri().toURL();
+        Set<String> names = Set.copyOf(providers.stream().map(Class::getName).toList());
+        return new ClassLoader(PriorityServiceLoaderTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (!names.contains(name) && !name.equals(Unprioritized.class.getName())) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> type = findLoadedClass(name);
+                    if (type == null) {
+                        String resource = name.replace('.', '/') + ".class";
+                        try (InputStream in = getParent().getResourceAsStream(resource)) {
+                            byte[] bytes = in.readAllBytes();
+                            type = defineClass(name, bytes, 0, bytes.length);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    return type;
+                }
+            }
+
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (name.equals("META-INF/services/" + Service.class.getName())) {
+                    return Collections.enumeration(List.of(configuration));
+                }
+                return super.getResources(name);
+            }
+        };
+    }
+
+    private static List<String> names(List<ServiceLoader.Provider<Service>> providers) {
+        return providers.stream().map(p -> Instantiations.simpleName(p.type())).toList();
+    }
+
+    @Test
+    void ordersProvidersByPriority() {
+        PriorityServiceLoader<Service> loader = PriorityServiceLoader.load(Service.class, classLoader);
+        // equal priorities keep the order of the configuration file, no priority comes last
+        assertEquals(List.of("Early", "Late", "AlsoLate", "Unprioritized"), names(loader.providers()));
+        assertEquals(List.of("Early", "Late", "AlsoLate", "Unprioritized"),
+                loader.stream().map(s -> Instantiations.simpleName(s.getClass())).toList());
+    }
+
+    @Test
+    void prefersIndexedPriorities() {
+        PriorityServiceLoader<Service> loader = PriorityServiceLoader.of(
+                ServiceLoader.load(Service.class, classLoader),
+                Map.of(Unprioritized.class.getName(), 0, Early.class.getName(), 300));
+        assertEquals(List.of("Unprioritized", "Late", "AlsoLate", "Early"), names(loader.providers()));
+    }
+
+    @Test
+    void locatesProvidersWithoutInstantiatingThem() {
+        PriorityServiceLoader<Service> loader = PriorityServiceLoader.load(Service.class, classLoader);
+        assertEquals(4, loader.providers().size());
+        assertTrue(Instantiations.NAMES.isEmpty());
+
+        Service first = loader.findFirst().orElseThrow();
+        assertEquals("Early", Instantiations.simpleName(first.getClass()));
+        assertEquals(List.of("Early"), Instantiations.NAMES);
+        // instantiated at most once
+        assertSame(first, loader.findFirst().orElseThrow());
+
+        Iterator<Service> iterator = loader.iterator();
+        assertSame(first, iterator.next());
+        iterator.next();
+        assertEquals(List.of("Early", "Late"), Instantiations.NAMES);
+        assertTrue(iterator.hasNext());
+        loader.stream().limit(3).forEach(s -> { });
+        assertEquals(List.of("Early", "Late", "AlsoLate"), Instantiations.NAMES);
+    }
+
+    @Test
+    void findsNothingWithoutProviders() throws IOException {
+        PriorityServiceLoader<Service> loader = PriorityServiceLoader.load(Service.class, providers(List.of()));
+        assertTrue(loader.findFirst().isEmpty());
+        assertTrue(loader.providers().isEmpty());
+        assertFalse(loader.iterator().hasNext());
+    }
+}
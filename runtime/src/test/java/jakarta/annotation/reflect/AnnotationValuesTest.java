@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.security.DeclareRoles;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.annotation.sql.DataSourceDefinition;
+
+class AnnotationValuesTest {
+
+    @RolesAllowed({"user", "admin", "auditor"})
+    @DeclareRoles({"admin", "user"})
+    @DataSourceDefinition(name = "java:app/orders", className = "org.example.Driver",
+            properties = {"ssl=true", "cache=false"})
+    @DataSourceDefinition(name = "java:app/audit", className = "org.example.Driver")
+    static class Secured {
+
+        @RolesAllowed({"operator", "admin"})
+        public void operate() {
+        }
+
+        public void read() {
+        }
+    }
+
+    static class Plain {
+    }
+
+    @Test
+    void readsClassMembersInDeclarationOrder() {
+        assertEquals(List.of("user", "admin", "auditor"), List.copyOf(AnnotationValues.rolesAllowed(Secured.class)));
+        assertEquals(List.of("admin", "user"), List.copyOf(AnnotationValues.declaredRoles(Secured.class)));
+        Map<String, List<String>> properties = AnnotationValues.dataSourceProperties(Secured.class);
+        assertEquals(List.of("java:app/orders", "java:app/audit"), List.copyOf(properties.keySet()));
+        assertEquals(List.of("ssl=true", "cache=false"),
+                AnnotationValues.dataSourceProperties(Secured.class, "java:app/orders"));
+        assertEquals(List.of(), AnnotationValues.dataSourceProperties(Secured.class, "java:app/audit"));
+        assertNull(AnnotationValues.dataSourceProperties(Secured.class, "java:app/missing"));
+    }
+
+    @Test
+    void readsMethodMembers() throws Exception {
+        Method operate = Secured.class.getMethod("operate");
+        assertEquals(List.of("operator", "admin"), List.copyOf(AnnotationValues.rolesAllowed(operate)));
+        assertNull(AnnotationValues.rolesAllowed(Secured.class.getMethod("read")));
+    }
+
+    @Test
+    void returnsAbsentValuesOfUnannotatedClasses() {
+        assertNull(AnnotationValues.rolesAllowed(Plain.class));
+        assertEquals(Set.of(), AnnotationValues.declaredRoles(Plain.class));
+        assertEquals(Map.of(), AnnotationValues.dataSourceProperties(Plain.class));
+        assertNull(AnnotationValues.dataSourceProperties(Plain.class, "java:app/orders"));
+    }
+
+    @Test
+    void cachesValues() throws Exception {
+        Method operate = Secured.class.getMethod("operate");
+        assertSame(AnnotationValues.rolesAllowed(Secured.class), AnnotationValues.rolesAllowed(Secured.class));
+        assertSame(AnnotationValues.declaredRoles(Secured.class), AnnotationValues.declaredRoles(Secured.class));
+        assertSame(AnnotationValues.rolesAllowed(operate), AnnotationValues.rolesAllowed(operate));
+        // another Method instance of the same method
+        assertSame(AnnotationValues.rolesAllowed(operate),
+                AnnotationValues.rolesAllowed(Secured.class.getMethod("operate")));
+        assertSame(AnnotationValues.dataSourceProperties(Secured.class, "java:app/orders"),
+                AnnotationValues.dataSourceProperties(Secured.class, "java:app/orders"));
+    }
+
+    @Test
+    void returnsUnmodifiableValues() throws Exception {
+        Set<String> roles = AnnotationValues.rolesAllowed(Secured.class);
+        assertThrows(UnsupportedOperationException.class, () -> roles.add("guest"));
+        assertThrows(UnsupportedOperationException.class, () -> roles.remove("user"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> AnnotationValues.rolesAllowed(Secured.class.getMethod("operate")).clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> AnnotationValues.declaredRoles(Secured.class).add("guest"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> AnnotationValues.dataSourceProperties(Secured.class).remove("java:app/orders"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> AnnotationValues.dataSourceProperties(Secured.class, "java:app/orders").set(0, "ssl=false"));
+        assertEquals(List.of("user", "admin", "auditor"), List.copyOf(AnnotationValues.rolesAllowed(Secured.class)));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.annotation.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+class MetricsInstrumentationTest {
+
+    private static final String POOL = "jakarta_annotation_pool_activity_seconds";
+
+    private final MetricsInstrumentation metrics = new MetricsInstrumentation();
+
+    private List<String> lines() {
+        return metrics.export().lines().toList();
+    }
+
+    @Test
+    void countsEventsPerMetric() throws Exception {
+        Method toString = Object.class.getMethod("toString");
+        metrics.lifecycleInvoked(String.class, PostConstruct.class, 10, null);
+        metrics.lifecycleInvoked(String.class, PostConstruct.class, 10, new IllegalStateException());
+        metrics.lifecycleInvoked(Integer.class, PreDestroy.class, 10, null);
+        metrics.authorized(String.class, toString, true, 10);
+        metrics.authorized(String.class, toString, false, 10);
+        metrics.resourceResolved("jdbc/orders", Object.class, true, 10);
+        metrics.poolActivity("java:app/orders", PoolActivity.CONNECTION_BORROWED, 10);
+
+        assertEquals(3, metrics.count("jakarta_annotation_lifecycle_seconds"));
+        assertEquals(2, metrics.count("jakarta_annotation_authorization_seconds"));
+        assertEquals(1, metrics.count("jakarta_annotation_resource_resolution_seconds"));
+        assertEquals(1, metrics.count(POOL));
+        assertEquals(0, metrics.count("unknown"));
+        assertTrue(lines().contains("jakarta_annotation_authorization_seconds_count"
+                + "{class=\"java.lang.String\",method=\"toString\",outcome=\"denied\"} 1"));
+    }
+
+    @Test
+    void countsConcurrentEvents() {
+        CompletableFuture<?>[] threads = IntStream.range(0, 4)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        metrics.poolActivity("java:app/orders", PoolActivity.CONNECTION_BORROWED, i);
+                        metrics.resourceResolved("jdbc/orders", Object.class, i % 2 == 0, i);
+                    }
+                }))
+                .toArray(CompletableFuture<?>[]::new);
+        CompletableFuture.allOf(threads).join();
+        assertEquals(40_000, metrics.count(POOL));
+        assertEquals(40_000, metrics.count("jakarta_annotation_resource_resolution_seconds"));
+    }
+
+    @Test
+    void bucketsDurationsByTheirCeiling() {
+        String borrowed = "datasource=\"ds\",activity=\"connection_borrowed\"";
+        for (long nanos : new long[] {-5, 0, 1000, 1001, 2000, 2999, 8_000_000_000_000L}) {
+            metrics.poolActivity("ds", PoolActivity.CONNECTION_BORROWED, nanos);
+        }
+        List<String> lines = lines();
+        // one microsecond and less
+        assertTrue(lines.contains(POOL + "_bucket{" + borrowed + ",le=\"0.000001\"} 3"), lines::toString);
+        // 1.001 and 2 microseconds
+        assertTrue(lines.contains(POOL + "_bucket{" + borrowed + ",le=\"0.000002\"} 5"), lines::toString);
+        // 2.999 microseconds
+        assertTrue(lines.contains(POOL + "_bucket{" + borrowed + ",le=\"0.000004\"} 6"), lines::toString);
+        assertTrue(lines.contains(POOL + "_bucket{" + borrowed + ",le=\"8.388608\"} 6"), lines::toString);
+        assertTrue(lines.contains(POOL + "_bucket{" + borrowed + ",le=\"+Inf\"} 7"), lines::toString);
+        // negative durations count as zero
+        assertTrue(lines.contains(POOL + "_sum{" + borrowed + "} 8000.000007000"), lines::toString);
+        assertTrue(lines.contains(POOL + "_count{" + borrowed + "} 7"), lines::toString);
+    }
+
+    @Test
+    void exportsPrometheusTextFormat() {
+        metrics.poolActivity("java:app/\"orders\"", PoolActivity.POOL_GROWN, 1500);
+        metrics.poolActivity("java:app/a\\b", PoolActivity.POOL_SHRUNK, 0);
+        List<String> lines = lines();
+        assertEquals(2 + 2 * (24 + 1 + 2), lines.size());
+        assertEquals("# HELP " + POOL + " Duration of connection pool activities", lines.get(0));
+        assertEquals("# TYPE " + POOL + " histogram", lines.get(1));
+        // series sorted by label values, with quotes and backslashes escaped
+        String grown = "datasource=\"java:app/\\\"orders\\\"\",activity=\"pool_grown\"";
+        assertEquals(POOL + "_bucket{" + grown + ",le=\"0.000001\"} 0", lines.get(2));
+        assertEquals(POOL + "_bucket{" + grown + ",le=\"0.000002\"} 1", lines.get(3));
+        assertEquals(POOL + "_bucket{" + grown + ",le=\"+Inf\"} 1", lines.get(26));
+        assertEquals(POOL + "_sum{" + grown + "} 0.000001500", lines.get(27));
+        assertEquals(POOL + "_count{" + grown + "} 1", lines.get(28));
+        assertEquals(POOL + "_bucket{datasource=\"java:app/a\\\\b\",activity=\"pool_shrunk\",le=\"0.000001\"} 1",
+                lines.get(29));
+    }
+}